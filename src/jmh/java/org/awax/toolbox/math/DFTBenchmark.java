@@ -0,0 +1,85 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 LE SAUCE Julien
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.awax.toolbox.math;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jls.toolbox.math.DFT;
+import org.jls.toolbox.math.RemezException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the frequency response computation of {@link DFT} for several
+ * filter lengths and numbers of frequency points.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DFTBenchmark {
+
+    @Param({ "31", "255", "1023" })
+    private int taps;
+
+    @Param({ "1024", "16384" })
+    private int points;
+
+    private double[] coefficients;
+    private double[] freq;
+    private double[] re;
+    private double[] im;
+
+    @Setup
+    public void setup () throws RemezException {
+        this.coefficients = RemezBenchmark.lowPass(this.taps).generateFilter();
+        this.freq = new double[this.points];
+        this.re = new double[this.points];
+        this.im = new double[this.points];
+    }
+
+    @Benchmark
+    public double[] frequencyResponse () {
+        DFT.frequencyResponse(0, 24000, 48000, this.points, this.coefficients, this.freq, this.re, this.im);
+        return this.re;
+    }
+
+    @Benchmark
+    public double[] gain () {
+        DFT.TFDGain(0, 24000, 48000, this.points, this.coefficients, this.freq, this.re);
+        return this.re;
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 LE SAUCE Julien
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.awax.toolbox.math;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.jls.toolbox.math.FFT;
+import org.jls.toolbox.math.GoertzelDetector;
+import org.jls.toolbox.math.SlidingDFT;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the cost of monitoring a few or a few hundred bins of a 4096-sample
+ * stream with {@link GoertzelDetector}, {@link SlidingDFT} and a full real
+ * {@link FFT}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DetectorBenchmark {
+
+    private static final double FS = 48000;
+    private static final int N = 4096;
+
+    @Param({ "3", "32", "256" })
+    private int bins;
+
+    private double[] signal;
+    private GoertzelDetector goertzel;
+    private SlidingDFT sdft;
+    private FFT fft;
+    private double[] real;
+    private double[] img;
+
+    @Setup
+    public void setup () {
+        Random random = new Random(42);
+        this.signal = new double[N];
+        for (int i = 0; i < N; i++) {
+            this.signal[i] = random.nextGaussian();
+        }
+        double[] frequencies = new double[this.bins];
+        for (int k = 0; k < this.bins; k++) {
+            frequencies[k] = (k + 1) * FS / 2 / (this.bins + 1);
+        }
+        this.goertzel = new GoertzelDetector(FS, N, frequencies);
+        this.sdft = new SlidingDFT(FS, N, frequencies);
+        this.fft = FFT.plan(N);
+        this.real = new double[N];
+        this.img = new double[N];
+    }
+
+    @Benchmark
+    public double goertzel () {
+        this.goertzel.process(this.signal, 0, N);
+        return this.goertzel.getPower(0);
+    }
+
+    @Benchmark
+    public double slidingDFT () {
+        this.sdft.process(this.signal, 0, N);
+        return this.sdft.getPower(0);
+    }
+
+    @Benchmark
+    public double rfft () {
+        this.fft.rfft(this.signal, this.real, this.img);
+        return this.real[0];
+    }
+}
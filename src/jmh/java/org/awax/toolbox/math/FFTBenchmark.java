@@ -0,0 +1,110 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 LE SAUCE Julien
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.awax.toolbox.math;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.jls.toolbox.math.FFT;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the real and complex transforms of {@link FFT} from 256 to 1M
+ * points, in single and double precision.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FFTBenchmark {
+
+    @Param({ "256", "4096", "65536", "1048576" })
+    private int size;
+
+    private FFT fft;
+    private float[] signal;
+    private float[] real;
+    private float[] img;
+    private double[] signalDouble;
+    private double[] realDouble;
+    private double[] imgDouble;
+
+    @Setup
+    public void setup () {
+        Random random = new Random(42);
+        this.fft = FFT.plan(this.size);
+        this.signal = new float[this.size];
+        this.signalDouble = new double[this.size];
+        for (int i = 0; i < this.size; i++) {
+            this.signalDouble[i] = random.nextGaussian();
+            this.signal[i] = (float) this.signalDouble[i];
+        }
+        this.real = new float[this.size];
+        this.img = new float[this.size];
+        this.realDouble = new double[this.size];
+        this.imgDouble = new double[this.size];
+    }
+
+    @Benchmark
+    public float[] fftFloat () {
+        System.arraycopy(this.signal, 0, this.real, 0, this.size);
+        Arrays.fill(this.img, 0f);
+        this.fft.fft(this.real, this.img);
+        return this.real;
+    }
+
+    @Benchmark
+    public double[] fftDouble () {
+        System.arraycopy(this.signalDouble, 0, this.realDouble, 0, this.size);
+        Arrays.fill(this.imgDouble, 0.0);
+        this.fft.fft(this.realDouble, this.imgDouble);
+        return this.realDouble;
+    }
+
+    @Benchmark
+    public float[] rfftFloat () {
+        this.fft.rfft(this.signal, this.real, this.img);
+        return this.real;
+    }
+
+    @Benchmark
+    public double[] rfftDouble () {
+        this.fft.rfft(this.signalDouble, this.realDouble, this.imgDouble);
+        return this.realDouble;
+    }
+}
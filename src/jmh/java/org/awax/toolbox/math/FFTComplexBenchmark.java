@@ -0,0 +1,96 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 LE SAUCE Julien
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.awax.toolbox.math;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.jls.toolbox.math.Complex;
+import org.jls.toolbox.math.ComplexArray;
+import org.jls.toolbox.math.FFTComplex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the in-place interleaved transform of {@link FFTComplex} with its
+ * {@link Complex} array adapter, from 256 to 1M points.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FFTComplexBenchmark {
+
+    @Param({ "256", "4096", "65536", "1048576" })
+    private int size;
+
+    private double[] signal;
+    private double[] work;
+    private double[] kernel;
+    private Complex[] complex;
+
+    @Setup
+    public void setup () {
+        Random random = new Random(42);
+        this.signal = new double[2 * this.size];
+        for (int i = 0; i < this.signal.length; i++) {
+            this.signal[i] = random.nextGaussian();
+        }
+        this.work = new double[this.signal.length];
+        this.kernel = new double[this.signal.length];
+        this.complex = ComplexArray.wrap(this.signal).toComplex();
+    }
+
+    @Benchmark
+    public double[] fftInterleaved () {
+        System.arraycopy(this.signal, 0, this.work, 0, this.signal.length);
+        FFTComplex.fft(this.work);
+        return this.work;
+    }
+
+    @Benchmark
+    public Complex[] fftComplexArray () {
+        return FFTComplex.fft(this.complex);
+    }
+
+    @Benchmark
+    public double[] circularConvolution () {
+        System.arraycopy(this.signal, 0, this.work, 0, this.signal.length);
+        System.arraycopy(this.signal, 0, this.kernel, 0, this.signal.length);
+        FFTComplex.cconvolve(this.work, this.kernel);
+        return this.work;
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 LE SAUCE Julien
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.awax.toolbox.math;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.jls.toolbox.math.MathUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the legacy magnitude/phase/gain conversion of a spectrum with the
+ * bulk kernels of {@link MathUtils} and their fast approximations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MagnitudePhaseBenchmark {
+
+    @Param({ "1024", "65536" })
+    private int size;
+
+    private float[] real;
+    private float[] img;
+    private float[] power;
+    private float[] magnitude;
+    private float[] phase;
+
+    @Setup
+    public void setup () {
+        Random random = new Random(42);
+        this.real = new float[this.size];
+        this.img = new float[this.size];
+        this.magnitude = new float[this.size];
+        this.phase = new float[this.size];
+        this.power = new float[this.size];
+        for (int i = 0; i < this.size; i++) {
+            this.real[i] = (float) random.nextGaussian();
+            this.img[i] = (float) random.nextGaussian();
+        }
+        MathUtils.magnitudeSquared(this.real, this.img, this.power);
+    }
+
+    @Benchmark
+    public float[] legacyMagnitudePhaseGain () {
+        MathUtils.magnitudePhase(this.real, this.img, this.magnitude, this.phase);
+        MathUtils.gain(this.magnitude);
+        return this.magnitude;
+    }
+
+    @Benchmark
+    public float[] magnitudePhaseDecibels () {
+        MathUtils.magnitude(this.real, this.img, this.magnitude);
+        MathUtils.phase(this.real, this.img, this.phase);
+        MathUtils.decibels(this.magnitude, this.magnitude);
+        return this.magnitude;
+    }
+
+    @Benchmark
+    public float[] fastPhasePowerDecibels () {
+        MathUtils.magnitudeSquared(this.real, this.img, this.magnitude);
+        MathUtils.fastPhase(this.real, this.img, this.phase);
+        MathUtils.fastPowerDecibels(this.magnitude, this.magnitude);
+        return this.magnitude;
+    }
+
+    @Benchmark
+    public float[] magnitudeHypot () {
+        for (int i = 0; i < this.size; i++) {
+            this.magnitude[i] = (float) Math.hypot(this.real[i], this.img[i]);
+        }
+        return this.magnitude;
+    }
+
+    @Benchmark
+    public float[] magnitude () {
+        MathUtils.magnitude(this.real, this.img, this.magnitude);
+        return this.magnitude;
+    }
+
+    @Benchmark
+    public float[] phase () {
+        MathUtils.phase(this.real, this.img, this.phase);
+        return this.phase;
+    }
+
+    @Benchmark
+    public float[] fastPhase () {
+        MathUtils.fastPhase(this.real, this.img, this.phase);
+        return this.phase;
+    }
+
+    @Benchmark
+    public float[] powerDecibels () {
+        MathUtils.powerDecibels(this.power, this.magnitude);
+        return this.magnitude;
+    }
+
+    @Benchmark
+    public float[] fastPowerDecibels () {
+        MathUtils.fastPowerDecibels(this.power, this.magnitude);
+        return this.magnitude;
+    }
+}
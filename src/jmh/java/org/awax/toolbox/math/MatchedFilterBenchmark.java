@@ -0,0 +1,83 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 LE SAUCE Julien
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.awax.toolbox.math;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.jls.toolbox.math.MatchedFilter;
+import org.jls.toolbox.math.Sweep.SweepType;
+import org.jls.toolbox.math.Window.WindowType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the sustained throughput of {@link MatchedFilter} on 1M-sample
+ * blocks for replicas of 1 to 100 ms sampled at 48 kHz.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MatchedFilterBenchmark {
+
+    private static final int SIZE = 1 << 20;
+
+    /** Replica duration in milliseconds. */
+    @Param({ "1", "10", "100" })
+    private long duration;
+
+    private MatchedFilter filter;
+    private double[] signal;
+    private double[] envelope;
+
+    @Setup
+    public void setup () {
+        Random random = new Random(42);
+        this.filter = new MatchedFilter(WindowType.HANN, SweepType.LINEAR_UP, 8000, 4000, 48000, this.duration);
+        this.signal = new double[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            this.signal[i] = random.nextGaussian();
+        }
+        this.envelope = new double[SIZE];
+    }
+
+    @Benchmark
+    public double[] process () {
+        this.filter.process(this.signal, 0, this.envelope, 0, SIZE);
+        return this.envelope;
+    }
+}
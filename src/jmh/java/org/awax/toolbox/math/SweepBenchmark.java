@@ -0,0 +1,94 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 LE SAUCE Julien
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.awax.toolbox.math;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jls.toolbox.math.SineTable;
+import org.jls.toolbox.math.Sweep;
+import org.jls.toolbox.math.Sweep.SweepType;
+import org.jls.toolbox.math.SweepGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the generation of one period of a frequency-modulated waveform,
+ * sampled at 48 kHz, with {@link Sweep} and with the streaming
+ * {@link SweepGenerator}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SweepBenchmark {
+
+    private static final double FS = 48000;
+
+    @Param({ "LINEAR_UP", "HYPERBOLIC_UP", "CW" })
+    private SweepType type;
+
+    /** Waveform duration in milliseconds. */
+    @Param({ "10", "100", "1000" })
+    private long duration;
+
+    private SweepGenerator generator;
+    private SweepGenerator tableGenerator;
+    private double[] buffer;
+
+    @Setup
+    public void setup () {
+        this.generator = new SweepGenerator(this.type, 8000, 4000, FS, this.duration);
+        this.tableGenerator = new SweepGenerator(this.type, 8000, 4000, FS, this.duration, SineTable.DEFAULT);
+        this.buffer = new double[this.generator.getPeriod()];
+    }
+
+    @Benchmark
+    public double[] computeFM () {
+        return Sweep.computeFM(this.type, 8000, 4000, FS, this.duration);
+    }
+
+    @Benchmark
+    public double[] generator () {
+        this.generator.generate(this.buffer, 0, this.buffer.length);
+        return this.buffer;
+    }
+
+    @Benchmark
+    public double[] tableGenerator () {
+        this.tableGenerator.generate(this.buffer, 0, this.buffer.length);
+        return this.buffer;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 LE SAUCE Julien
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.awax.toolbox.math;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.jls.toolbox.math.CachedWindow;
+import org.jls.toolbox.math.Window;
+import org.jls.toolbox.math.Window.WindowType;
+import org.jls.toolbox.math.WindowCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the computation of a window with its lookup in {@link WindowCache},
+ * and measures the in-place application of a window to a buffer.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WindowBenchmark {
+
+    @Param({ "256", "4096", "65536", "1048576" })
+    private int size;
+
+    @Param({ "HANN", "BLACKMAN_HARRIS", "FLAT_TOP" })
+    private WindowType type;
+
+    private CachedWindow window;
+    private double[] buffer;
+
+    @Setup
+    public void setup () {
+        this.window = WindowCache.get(this.type, this.size);
+        this.buffer = new double[this.size];
+        Arrays.fill(this.buffer, 1.0);
+    }
+
+    @Benchmark
+    public double[] computeWindow () {
+        return Window.computeWindow(this.type, this.size);
+    }
+
+    @Benchmark
+    public CachedWindow cachedWindow () {
+        return WindowCache.get(this.type, this.size);
+    }
+
+    @Benchmark
+    public double[] apply () {
+        this.window.apply(this.buffer, 0);
+        return this.buffer;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 LE SAUCE Julien
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.awax.toolbox.math.chart;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.data.Range;
+import org.jls.toolbox.math.chart.ColumnarXYZDataModel;
+import org.jls.toolbox.math.chart.DecimatedXYDataset;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the M4 decimation of {@link DecimatedXYDataset} for a zoom or a pan
+ * on series of 100k to 10M points, which must stay well under one frame.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DecimationBenchmark {
+
+    @Param({ "100000", "1000000", "10000000" })
+    private int size;
+
+    @Param({ "1500" })
+    private int resolution;
+
+    private DecimatedXYDataset dataset;
+    private Range[] ranges;
+    private int range;
+
+    @Setup
+    public void setup () {
+        Random random = new Random(42);
+        ColumnarXYZDataModel model = new ColumnarXYZDataModel("signal", this.size);
+        for (int i = 0; i < this.size; i++) {
+            model.set(i, i, (float) random.nextGaussian(), 0);
+        }
+        this.dataset = new DecimatedXYDataset(model);
+        this.dataset.setResolution(this.resolution);
+        this.ranges = new Range[64];
+        for (int i = 0; i < this.ranges.length; i++) {
+            double lower = random.nextInt(this.size / 2);
+            this.ranges[i] = new Range(lower, lower + this.size / 4 + random.nextInt(this.size / 4));
+        }
+    }
+
+    @Benchmark
+    public int zoom () {
+        this.dataset.setRange(this.ranges[this.range++ & (this.ranges.length - 1)]);
+        return this.dataset.getItemCount(0);
+    }
+}
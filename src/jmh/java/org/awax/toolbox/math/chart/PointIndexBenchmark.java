@@ -0,0 +1,118 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 LE SAUCE Julien
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.awax.toolbox.math.chart;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.jls.toolbox.math.chart.ColumnarXYZDataModel;
+import org.jls.toolbox.math.chart.PointIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the hit-testing of a heat map through {@link PointIndex} with the
+ * linear scan previously used by the data models, for 10k to 10M points.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PointIndexBenchmark {
+
+    private static final int QUERIES = 1024;
+
+    /** Heat map side: side * side points. */
+    @Param({ "100", "1000", "3163" })
+    private int side;
+
+    private ColumnarXYZDataModel model;
+    private float[] x;
+    private float[] y;
+    private double[] qx;
+    private double[] qy;
+    private int query;
+
+    @Setup
+    public void setup () {
+        int n = this.side * this.side;
+        this.x = new float[n];
+        this.y = new float[n];
+        for (int i = 0; i < n; i++) {
+            this.x[i] = i % this.side;
+            this.y[i] = i / this.side;
+        }
+        this.model = new ColumnarXYZDataModel("heat map", this.x, this.y, new float[n]);
+        this.model.getPointIndex();
+        Random random = new Random(42);
+        this.qx = new double[QUERIES];
+        this.qy = new double[QUERIES];
+        for (int q = 0; q < QUERIES; q++) {
+            this.qx[q] = random.nextInt(this.side) + 0.05;
+            this.qy[q] = random.nextInt(this.side) - 0.05;
+        }
+    }
+
+    @Benchmark
+    public int linearScan () {
+        int q = this.query++ & (QUERIES - 1);
+        double px = this.qx[q];
+        double py = this.qy[q];
+        for (int i = 0; i < this.x.length; i++) {
+            if (Math.abs(this.x[i] - px) < 0.1 && Math.abs(this.y[i] - py) < 0.1) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Benchmark
+    public int indexOf () {
+        int q = this.query++ & (QUERIES - 1);
+        return this.model.indexOf(this.qx[q], this.qy[q], 0.1);
+    }
+
+    @Benchmark
+    public int nearest () {
+        int q = this.query++ & (QUERIES - 1);
+        return this.model.nearestIndexOf(this.qx[q], this.qy[q]);
+    }
+
+    @Benchmark
+    public PointIndex build () {
+        return new PointIndex(this.model);
+    }
+}
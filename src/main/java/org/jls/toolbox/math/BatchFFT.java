@@ -0,0 +1,269 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 LE SAUCE Julien
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.jls.toolbox.math;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Permet de calculer la FFT d'un grand nombre de trames indépendantes de même
+ * taille en répartissant les trames sur plusieurs threads. Les données sont
+ * fournies sous la forme d'un bloc N*trames où la trame f occupe les indices
+ * [f*N ; (f+1)*N[ des tableaux.
+ * <p>
+ * Tous les threads partagent les tables de sinus/cosinus d'un même plan
+ * {@link FFT} (qui est immuable), alors que chaque thread dispose de ses propres
+ * tampons de travail, alloués uniquement pour la précision utilisée. Le débit
+ * obtenu est mesuré en trames par seconde.
+ *
+ * @author LE SAUCE Julien
+ * @date Oct 16, 2026
+ */
+public class BatchFFT {
+
+    private final FFT fft;
+    private final int N;
+    private final ExecutorService executor;
+    private final ThreadLocal<float[][]> floatScratch;
+    private final ThreadLocal<double[][]> doubleScratch;
+    private volatile int parallelism;
+
+    private final AtomicLong totalFrames;
+    private final AtomicLong totalNanos;
+    private volatile double lastThroughput;
+
+    /**
+     * Permet d'instancier un exécuteur de FFT utilisant le pool de threads commun.
+     *
+     * @param fft
+     *            Plan FFT partagé par tous les threads.
+     */
+    public BatchFFT(final FFT fft) {
+        this(fft, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Permet d'instancier un exécuteur de FFT utilisant l'exécuteur spécifié.
+     *
+     * @param fft
+     *            Plan FFT partagé par tous les threads.
+     * @param executor
+     *            Exécuteur sur lequel sont réparties les trames (par exemple un
+     *            {@link ForkJoinPool}).
+     */
+    public BatchFFT(final FFT fft, final ExecutorService executor) {
+        if (fft == null || executor == null) {
+            throw new NullPointerException("FFT and executor cannot be null");
+        }
+        this.fft = fft;
+        this.N = fft.getLength();
+        this.executor = executor;
+        this.floatScratch = ThreadLocal.withInitial(() -> new float[2][this.N]);
+        this.doubleScratch = ThreadLocal.withInitial(() -> new double[2][this.N]);
+        this.parallelism = executor instanceof ForkJoinPool ? ((ForkJoinPool) executor).getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        this.totalFrames = new AtomicLong();
+        this.totalNanos = new AtomicLong();
+        this.lastThroughput = 0.0;
+    }
+
+    /**
+     * Permet de calculer en place la FFT de chaque trame du bloc.
+     *
+     * @param real
+     *            Tableau de taille N*trames représentant la partie réelle.
+     * @param img
+     *            Tableau de taille N*trames représentant la partie imaginaire.
+     * @param frames
+     *            Nombre de trames du bloc.
+     * @throws InterruptedException
+     *             Si le thread appelant est interrompu pendant le calcul.
+     */
+    public void fft (final float[] real, final float[] img, final int frames) throws InterruptedException {
+        checkBuffers(real.length, img.length, frames);
+        execute(frames, (first, last) -> {
+            float[][] s = this.floatScratch.get();
+            for (int f = first; f < last; f++) {
+                int offset = f * this.N;
+                System.arraycopy(real, offset, s[0], 0, this.N);
+                System.arraycopy(img, offset, s[1], 0, this.N);
+                this.fft.fft(s[0], s[1]);
+                System.arraycopy(s[0], 0, real, offset, this.N);
+                System.arraycopy(s[1], 0, img, offset, this.N);
+            }
+        });
+    }
+
+    /**
+     * Permet de calculer en place et en double précision la FFT de chaque trame
+     * du bloc.
+     *
+     * @param real
+     *            Tableau de taille N*trames représentant la partie réelle.
+     * @param img
+     *            Tableau de taille N*trames représentant la partie imaginaire.
+     * @param frames
+     *            Nombre de trames du bloc.
+     * @throws InterruptedException
+     *             Si le thread appelant est interrompu pendant le calcul.
+     */
+    public void fft (final double[] real, final double[] img, final int frames) throws InterruptedException {
+        checkBuffers(real.length, img.length, frames);
+        execute(frames, (first, last) -> {
+            double[][] s = this.doubleScratch.get();
+            for (int f = first; f < last; f++) {
+                int offset = f * this.N;
+                System.arraycopy(real, offset, s[0], 0, this.N);
+                System.arraycopy(img, offset, s[1], 0, this.N);
+                this.fft.fft(s[0], s[1]);
+                System.arraycopy(s[0], 0, real, offset, this.N);
+                System.arraycopy(s[1], 0, img, offset, this.N);
+            }
+        });
+    }
+
+    /**
+     * Permet de spécifier le nombre de tâches entre lesquelles les trames d'un
+     * bloc sont réparties.
+     *
+     * @param parallelism
+     *            Nombre de tâches (strictement positif).
+     */
+    public void setParallelism (final int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Renvoie le nombre de tâches entre lesquelles les trames d'un bloc sont
+     * réparties.
+     *
+     * @return Nombre de tâches.
+     */
+    public int getParallelism () {
+        return this.parallelism;
+    }
+
+    /**
+     * Renvoie le débit mesuré lors du dernier bloc traité.
+     *
+     * @return Débit en trames par seconde.
+     */
+    public double getLastThroughput () {
+        return this.lastThroughput;
+    }
+
+    /**
+     * Renvoie le débit moyen mesuré depuis l'instanciation.
+     *
+     * @return Débit en trames par seconde.
+     */
+    public double getThroughput () {
+        long nanos = this.totalNanos.get();
+        return nanos == 0 ? 0.0 : this.totalFrames.get() * 1e9 / nanos;
+    }
+
+    /**
+     * Renvoie le nombre total de trames traitées depuis l'instanciation.
+     *
+     * @return Nombre de trames traitées.
+     */
+    public long getProcessedFrames () {
+        return this.totalFrames.get();
+    }
+
+    /**
+     * Renvoie la taille N des trames.
+     *
+     * @return Taille des trames.
+     */
+    public int getLength () {
+        return this.N;
+    }
+
+    private void checkBuffers (int realLength, int imgLength, int frames) {
+        if (frames < 0) {
+            throw new IllegalArgumentException("Number of frames must be positive");
+        }
+        if (realLength < (long) frames * this.N || imgLength < (long) frames * this.N) {
+            throw new IllegalArgumentException("Buffer size must be at least N*frames");
+        }
+    }
+
+    /**
+     * Répartit les trames en plages contiguës et attend la fin de leur
+     * traitement.
+     */
+    private void execute (final int frames, final FrameRange range) throws InterruptedException {
+        long start = System.nanoTime();
+        int tasks = Math.min(frames, this.parallelism);
+        if (tasks <= 1) {
+            range.process(0, frames);
+        } else {
+            List<Callable<Void>> callables = new ArrayList<>(tasks);
+            for (int t = 0; t < tasks; t++) {
+                final int first = (int) ((long) frames * t / tasks);
+                final int last = (int) ((long) frames * (t + 1) / tasks);
+                callables.add(() -> {
+                    range.process(first, last);
+                    return null;
+                });
+            }
+            for (Future<Void> future : this.executor.invokeAll(callables)) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (cause instanceof RuntimeException) {
+                        throw (RuntimeException) cause;
+                    }
+                    if (cause instanceof Error) {
+                        throw (Error) cause;
+                    }
+                    throw new IllegalStateException("FFT batch failed", cause);
+                }
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        this.totalFrames.addAndGet(frames);
+        this.totalNanos.addAndGet(elapsed);
+        this.lastThroughput = elapsed == 0 ? 0.0 : frames * 1e9 / elapsed;
+    }
+
+    /**
+     * Traitement d'une plage de trames [first ; last[.
+     */
+    private interface FrameRange {
+        void process (int first, int last);
+    }
+}
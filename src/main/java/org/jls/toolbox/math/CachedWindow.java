@@ -0,0 +1,204 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 LE SAUCE Julien
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.jls.toolbox.math;
+
+/**
+ * Fenêtre de pondération immuable accompagnée de ses caractéristiques
+ * spectrales, calculées une seule fois : gain cohérent, bande équivalente de
+ * bruit (ENBW) et perte de festonnement (scalloping loss). Une instance peut
+ * être partagée sans précaution par plusieurs threads.
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 16, 2026
+ * @see WindowCache
+ */
+public final class CachedWindow {
+
+    private final double[] coefficients;
+    private final double coherentGain;
+    private final double enbw;
+    private final double scallopingLoss;
+
+    /**
+     * Permet d'instancier une fenêtre à partir de ses coefficients, qui sont
+     * copiés.
+     * 
+     * @param coefficients
+     *            Coefficients de la fenêtre.
+     */
+    public CachedWindow(final double[] coefficients) {
+        if (coefficients.length == 0) {
+            throw new IllegalArgumentException("Window must have at least one coefficient");
+        }
+        this.coefficients = coefficients.clone();
+        int N = coefficients.length;
+        double sum = 0;
+        double sumSquares = 0;
+        // Réponse à une demi-case de fréquence : Sum{w(n).exp(-j.PI.n/N)}
+        double re = 0;
+        double im = 0;
+        for (int n = 0; n < N; n++) {
+            double w = coefficients[n];
+            sum += w;
+            sumSquares += w * w;
+            re += w * Math.cos(Math.PI * n / N);
+            im -= w * Math.sin(Math.PI * n / N);
+        }
+        this.coherentGain = sum / N;
+        this.enbw = N * sumSquares / (sum * sum);
+        this.scallopingLoss = 20 * Math.log10(Math.abs(sum) / Math.sqrt(re * re + im * im));
+    }
+
+    /**
+     * Renvoie le coefficient d'indice n de la fenêtre.
+     * 
+     * @param n
+     *            Indice du coefficient.
+     * @return Coefficient w(n).
+     */
+    public double get (final int n) {
+        return this.coefficients[n];
+    }
+
+    /**
+     * Renvoie le nombre de points de la fenêtre.
+     * 
+     * @return Nombre de points N.
+     */
+    public int size () {
+        return this.coefficients.length;
+    }
+
+    /**
+     * Renvoie une copie des coefficients de la fenêtre.
+     * 
+     * @return Tableau de taille N contenant les coefficients.
+     */
+    public double[] toArray () {
+        return this.coefficients.clone();
+    }
+
+    /**
+     * Permet de copier les coefficients de la fenêtre dans le tableau spécifié.
+     * 
+     * @param dst
+     *            Tableau de destination.
+     * @param offset
+     *            Indice du premier coefficient dans le tableau de destination.
+     */
+    public void copyTo (final double[] dst, final int offset) {
+        if (offset < 0 || offset + this.coefficients.length > dst.length) {
+            throw new IllegalArgumentException("Destination array too small");
+        }
+        System.arraycopy(this.coefficients, 0, dst, offset, this.coefficients.length);
+    }
+
+    /**
+     * Permet de copier les coefficients de la fenêtre en simple précision dans le
+     * tableau spécifié.
+     * 
+     * @param dst
+     *            Tableau de destination.
+     * @param offset
+     *            Indice du premier coefficient dans le tableau de destination.
+     */
+    public void copyTo (final float[] dst, final int offset) {
+        if (offset < 0 || offset + this.coefficients.length > dst.length) {
+            throw new IllegalArgumentException("Destination array too small");
+        }
+        for (int n = 0; n < this.coefficients.length; n++) {
+            dst[offset + n] = (float) this.coefficients[n];
+        }
+    }
+
+    /**
+     * Permet d'appliquer la fenêtre en place sur les échantillons d'un tableau à
+     * partir de l'indice spécifié.
+     * 
+     * @param buffer
+     *            Echantillons multipliés par la fenêtre.
+     * @param offset
+     *            Indice de l'échantillon multiplié par le premier coefficient.
+     */
+    public void apply (final double[] buffer, final int offset) {
+        Window.apply(this.coefficients, buffer, offset);
+    }
+
+    /**
+     * Permet d'appliquer la fenêtre en place sur les échantillons d'un tableau
+     * simple précision à partir de l'indice spécifié.
+     * 
+     * @param buffer
+     *            Echantillons multipliés par la fenêtre.
+     * @param offset
+     *            Indice de l'échantillon multiplié par le premier coefficient.
+     */
+    public void apply (final float[] buffer, final int offset) {
+        Window.apply(this.coefficients, buffer, offset);
+    }
+
+    /**
+     * Renvoie les coefficients de la fenêtre sans copie, pour les calculs internes
+     * au paquetage qui ne les modifient pas (par exemple les FFT fenêtrées).
+     * 
+     * @return Coefficients de la fenêtre, à ne pas modifier.
+     */
+    double[] coefficients () {
+        return this.coefficients;
+    }
+
+    /**
+     * Renvoie le gain cohérent de la fenêtre, c'est-à-dire la moyenne de ses
+     * coefficients. L'amplitude d'une sinusoïde mesurée après fenêtrage doit être
+     * divisée par ce gain.
+     * 
+     * @return Gain cohérent (linéaire).
+     */
+    public double getCoherentGain () {
+        return this.coherentGain;
+    }
+
+    /**
+     * Renvoie la bande équivalente de bruit de la fenêtre
+     * <i>N.Sum{w(n)<sup>2</sup>} / Sum{w(n)}<sup>2</sup></i>, exprimée en
+     * nombre de cases de fréquence de la FFT.
+     * 
+     * @return Bande équivalente de bruit en cases de fréquence.
+     */
+    public double getENBW () {
+        return this.enbw;
+    }
+
+    /**
+     * Renvoie la perte de festonnement de la fenêtre, c'est-à-dire l'atténuation
+     * d'une sinusoïde située à mi-chemin entre deux cases de fréquence par rapport
+     * à une sinusoïde centrée sur une case.
+     * 
+     * @return Perte de festonnement en dB (valeur positive).
+     */
+    public double getScallopingLoss () {
+        return this.scallopingLoss;
+    }
+}
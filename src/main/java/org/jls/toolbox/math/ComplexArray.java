@@ -0,0 +1,446 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 LE SAUCE Julien
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.jls.toolbox.math;
+
+import java.util.Arrays;
+
+/**
+ * Tableau de N nombres complexes stockés de manière entrelacée (re, im, re, im,
+ * ...) dans un unique tableau de doubles de taille 2N. Contrairement à un
+ * tableau de {@link Complex}, qui alloue un objet par élément et par opération,
+ * les opérations de cette classe sont effectuées en place et sans allocation.
+ * Le format entrelacé est celui attendu par {@link FFTComplex}.
+ * <p>
+ * Les opérations en place renvoient l'instance elle-même afin de pouvoir être
+ * chaînées. Une instance n'est pas thread-safe.
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 16, 2026
+ */
+public final class ComplexArray {
+
+    private final double[] data;
+    private final int size;
+
+    /**
+     * Permet d'instancier un tableau de N nombres complexes nuls.
+     * 
+     * @param size
+     *            Nombre de nombres complexes N.
+     */
+    public ComplexArray(final int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Size must be positive");
+        }
+        this.data = new double[2 * size];
+        this.size = size;
+    }
+
+    private ComplexArray(final double[] data) {
+        this.data = data;
+        this.size = data.length / 2;
+    }
+
+    /**
+     * Permet d'utiliser un tableau entrelacé existant sans le copier : les
+     * modifications de l'un sont visibles dans l'autre.
+     * 
+     * @param interleaved
+     *            Tableau de taille 2N contenant les parties réelles et
+     *            imaginaires entrelacées.
+     * @return Tableau de nombres complexes partageant les données spécifiées.
+     */
+    public static ComplexArray wrap (final double[] interleaved) {
+        if (interleaved.length % 2 != 0) {
+            throw new IllegalArgumentException("Interleaved array must have an even length");
+        }
+        return new ComplexArray(interleaved);
+    }
+
+    /**
+     * Permet de créer un tableau à partir d'une séquence de {@link Complex}.
+     * 
+     * @param x
+     *            Séquence de nombres complexes.
+     * @return Nouveau tableau de même taille.
+     */
+    public static ComplexArray valueOf (final Complex[] x) {
+        return valueOf(x, x.length);
+    }
+
+    /**
+     * Permet de créer un tableau à partir d'une séquence de {@link Complex},
+     * complétée par des zéros jusqu'à la taille spécifiée.
+     * 
+     * @param x
+     *            Séquence de nombres complexes.
+     * @param size
+     *            Taille du tableau créé (au moins la taille de x).
+     * @return Nouveau tableau.
+     */
+    public static ComplexArray valueOf (final Complex[] x, final int size) {
+        if (size < x.length) {
+            throw new IllegalArgumentException("Size must be at least " + x.length);
+        }
+        ComplexArray array = new ComplexArray(size);
+        for (int i = 0; i < x.length; i++) {
+            array.data[2 * i] = x[i].getReal();
+            array.data[2 * i + 1] = x[i].getImaginary();
+        }
+        return array;
+    }
+
+    /**
+     * Permet de créer un tableau à partir des parties réelles et imaginaires
+     * stockées séparément.
+     * 
+     * @param re
+     *            Parties réelles.
+     * @param im
+     *            Parties imaginaires (de même taille que re).
+     * @return Nouveau tableau.
+     */
+    public static ComplexArray valueOf (final double[] re, final double[] im) {
+        if (re.length != im.length) {
+            throw new IllegalArgumentException("Different sizes for re[] and im[]");
+        }
+        ComplexArray array = new ComplexArray(re.length);
+        for (int i = 0; i < re.length; i++) {
+            array.data[2 * i] = re[i];
+            array.data[2 * i + 1] = im[i];
+        }
+        return array;
+    }
+
+    /**
+     * Convertit le tableau en séquence de {@link Complex}.
+     * 
+     * @return Nouvelle séquence de N nombres complexes.
+     */
+    public Complex[] toComplex () {
+        Complex[] x = new Complex[this.size];
+        for (int i = 0; i < this.size; i++) {
+            x[i] = new Complex(this.data[2 * i], this.data[2 * i + 1]);
+        }
+        return x;
+    }
+
+    /**
+     * Permet de copier les parties réelles et imaginaires dans deux tableaux
+     * séparés.
+     * 
+     * @param re
+     *            Tableau de taille N recevant les parties réelles.
+     * @param im
+     *            Tableau de taille N recevant les parties imaginaires.
+     */
+    public void toParts (final double[] re, final double[] im) {
+        checkOutput(re);
+        checkOutput(im);
+        for (int i = 0; i < this.size; i++) {
+            re[i] = this.data[2 * i];
+            im[i] = this.data[2 * i + 1];
+        }
+    }
+
+    /**
+     * Renvoie une copie du tableau.
+     * 
+     * @return Nouveau tableau contenant les mêmes valeurs.
+     */
+    public ComplexArray copy () {
+        return new ComplexArray(this.data.clone());
+    }
+
+    /**
+     * Renvoie le tableau entrelacé utilisé pour le stockage, sans copie.
+     * 
+     * @return Tableau de taille 2N.
+     */
+    public double[] data () {
+        return this.data;
+    }
+
+    /**
+     * Renvoie le nombre de nombres complexes du tableau.
+     * 
+     * @return Taille N.
+     */
+    public int size () {
+        return this.size;
+    }
+
+    /**
+     * Renvoie la partie réelle de l'élément d'indice i.
+     * 
+     * @param i
+     *            Indice de l'élément.
+     * @return Partie réelle.
+     */
+    public double getReal (final int i) {
+        return this.data[2 * i];
+    }
+
+    /**
+     * Renvoie la partie imaginaire de l'élément d'indice i.
+     * 
+     * @param i
+     *            Indice de l'élément.
+     * @return Partie imaginaire.
+     */
+    public double getImaginary (final int i) {
+        return this.data[2 * i + 1];
+    }
+
+    /**
+     * Renvoie l'élément d'indice i sous la forme d'un {@link Complex}.
+     * 
+     * @param i
+     *            Indice de l'élément.
+     * @return Nouveau nombre complexe.
+     */
+    public Complex get (final int i) {
+        return new Complex(this.data[2 * i], this.data[2 * i + 1]);
+    }
+
+    /**
+     * Permet de modifier l'élément d'indice i.
+     * 
+     * @param i
+     *            Indice de l'élément.
+     * @param re
+     *            Partie réelle.
+     * @param im
+     *            Partie imaginaire.
+     */
+    public void set (final int i, final double re, final double im) {
+        this.data[2 * i] = re;
+        this.data[2 * i + 1] = im;
+    }
+
+    /**
+     * Permet de modifier l'élément d'indice i.
+     * 
+     * @param i
+     *            Indice de l'élément.
+     * @param c
+     *            Nouvelle valeur.
+     */
+    public void set (final int i, final Complex c) {
+        set(i, c.getReal(), c.getImaginary());
+    }
+
+    /**
+     * Permet de mettre tous les éléments à zéro.
+     * 
+     * @return Ce tableau.
+     */
+    public ComplexArray clear () {
+        Arrays.fill(this.data, 0.0);
+        return this;
+    }
+
+    /**
+     * Permet d'ajouter en place les éléments de b : <i>this[i] += b[i]</i>.
+     * 
+     * @param b
+     *            Tableau de même taille.
+     * @return Ce tableau.
+     */
+    public ComplexArray add (final ComplexArray b) {
+        checkSize(b);
+        for (int i = 0; i < this.data.length; i++) {
+            this.data[i] += b.data[i];
+        }
+        return this;
+    }
+
+    /**
+     * Permet de soustraire en place les éléments de b : <i>this[i] -= b[i]</i>.
+     * 
+     * @param b
+     *            Tableau de même taille.
+     * @return Ce tableau.
+     */
+    public ComplexArray sub (final ComplexArray b) {
+        checkSize(b);
+        for (int i = 0; i < this.data.length; i++) {
+            this.data[i] -= b.data[i];
+        }
+        return this;
+    }
+
+    /**
+     * Permet de multiplier en place par les éléments de b : <i>this[i] *=
+     * b[i]</i>.
+     * 
+     * @param b
+     *            Tableau de même taille.
+     * @return Ce tableau.
+     */
+    public ComplexArray multiply (final ComplexArray b) {
+        checkSize(b);
+        for (int i = 0; i < this.data.length; i += 2) {
+            double re = this.data[i] * b.data[i] - this.data[i + 1] * b.data[i + 1];
+            double im = this.data[i] * b.data[i + 1] + this.data[i + 1] * b.data[i];
+            this.data[i] = re;
+            this.data[i + 1] = im;
+        }
+        return this;
+    }
+
+    /**
+     * Permet de multiplier en place par le conjugué des éléments de b :
+     * <i>this[i] *= conj(b[i])</i> (produit d'intercorrélation).
+     * 
+     * @param b
+     *            Tableau de même taille.
+     * @return Ce tableau.
+     */
+    public ComplexArray multiplyConjugate (final ComplexArray b) {
+        checkSize(b);
+        for (int i = 0; i < this.data.length; i += 2) {
+            double re = this.data[i] * b.data[i] + this.data[i + 1] * b.data[i + 1];
+            double im = this.data[i + 1] * b.data[i] - this.data[i] * b.data[i + 1];
+            this.data[i] = re;
+            this.data[i + 1] = im;
+        }
+        return this;
+    }
+
+    /**
+     * Permet de remplacer en place chaque élément par son conjugué.
+     * 
+     * @return Ce tableau.
+     */
+    public ComplexArray conjugate () {
+        for (int i = 1; i < this.data.length; i += 2) {
+            this.data[i] = -this.data[i];
+        }
+        return this;
+    }
+
+    /**
+     * Permet de multiplier en place chaque élément par un réel.
+     * 
+     * @param alpha
+     *            Facteur réel.
+     * @return Ce tableau.
+     */
+    public ComplexArray scale (final double alpha) {
+        for (int i = 0; i < this.data.length; i++) {
+            this.data[i] *= alpha;
+        }
+        return this;
+    }
+
+    /**
+     * Permet de multiplier en place chaque élément par un nombre complexe.
+     * 
+     * @param re
+     *            Partie réelle du facteur.
+     * @param im
+     *            Partie imaginaire du facteur.
+     * @return Ce tableau.
+     */
+    public ComplexArray scale (final double re, final double im) {
+        for (int i = 0; i < this.data.length; i += 2) {
+            double r = this.data[i] * re - this.data[i + 1] * im;
+            double j = this.data[i] * im + this.data[i + 1] * re;
+            this.data[i] = r;
+            this.data[i + 1] = j;
+        }
+        return this;
+    }
+
+    /**
+     * Permet de calculer le module de chaque élément.
+     * 
+     * @param dst
+     *            Tableau de taille N recevant les modules.
+     */
+    public void abs (final double[] dst) {
+        checkOutput(dst);
+        for (int i = 0; i < this.size; i++) {
+            double re = this.data[2 * i];
+            double im = this.data[2 * i + 1];
+            dst[i] = Math.sqrt(re * re + im * im);
+        }
+    }
+
+    /**
+     * Permet de calculer le carré du module de chaque élément (sans racine
+     * carrée).
+     * 
+     * @param dst
+     *            Tableau de taille N recevant les modules au carré.
+     */
+    public void absSquared (final double[] dst) {
+        checkOutput(dst);
+        for (int i = 0; i < this.size; i++) {
+            double re = this.data[2 * i];
+            double im = this.data[2 * i + 1];
+            dst[i] = re * re + im * im;
+        }
+    }
+
+    /**
+     * Permet de calculer l'argument de chaque élément.
+     * 
+     * @param dst
+     *            Tableau de taille N recevant les arguments en radians, entre -PI
+     *            et PI.
+     */
+    public void phase (final double[] dst) {
+        checkOutput(dst);
+        for (int i = 0; i < this.size; i++) {
+            dst[i] = Math.atan2(this.data[2 * i + 1], this.data[2 * i]);
+        }
+    }
+
+    @Override
+    public String toString () {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < this.size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(get(i));
+        }
+        return sb.append(']').toString();
+    }
+
+    private void checkSize (final ComplexArray b) {
+        if (b.size != this.size) {
+            throw new IllegalArgumentException("Different sizes: " + this.size + " and " + b.size);
+        }
+    }
+
+    private void checkOutput (final double[] dst) {
+        if (dst.length < this.size) {
+            throw new IllegalArgumentException("Output array size must be at least " + this.size);
+        }
+    }
+}
@@ -63,12 +63,97 @@ public class DFT {
      *         en Hz et y le gain de la réponse en décibels.
      */
     public final static double[][] TFDGain (double f0, double f1, double fs, int N, double[] wk) {
-        double[][] freqResp; // Réponse calculée
-        double[][] resp; // Réponse en gain
-        double dF = 0.0; // Résolution fréquentielle
-        double f = 0.0; // Fréquence instantanée
+        double[] freq = new double[N];
+        double[] gain = new double[N];
+        TFDGain(f0, f1, fs, N, wk, freq, gain);
 
-        // Vérification des paramètres
+        // Liste des points de la courbe contenant : [fréquence][gain]
+        double[][] resp = new double[N][2];
+        for (int i = 0; i < N; i++) {
+            resp[i][0] = freq[i];
+            resp[i][1] = gain[i];
+        }
+        return resp;
+    }
+
+    /**
+     * Permet de calculer la réponse fréquentielle en gain d'un filtre entre f0 et
+     * f1 à partir de ses coefficients, en écrivant le résultat dans des tableaux
+     * pré-alloués.
+     * 
+     * @param f0
+     *            Fréquence de départ pour l'affichage de la courbe.
+     * @param f1
+     *            Fréquence de fin pour l'affichage de la courbe.
+     * @param fs
+     *            Fréquence d'échantillonnage du filtre.
+     * @param N
+     *            Nombre de points à calculer pour la réponse fréquentielle.
+     * @param wk
+     *            Liste des coefficients du filtre.
+     * @param freq
+     *            Tableau de taille N recevant les fréquences en Hz.
+     * @param gain
+     *            Tableau de taille N recevant le gain en décibels.
+     * @see #frequencyResponse(double, double, double, int, double[], double[],
+     *      double[], double[])
+     */
+    public final static void TFDGain (double f0, double f1, double fs, int N, double[] wk, double[] freq,
+            double[] gain) {
+        checkResponse(f0, f1, N, wk, freq, gain, freq);
+        // Aucun tableau temporaire : la partie imaginaire de la réponse est
+        // écrite provisoirement dans le tableau des fréquences
+        response(f0, f1, fs, N, wk, gain, freq);
+        // Calcul du gain : 20*log(module) = 10*log(module²)
+        for (int i = 0; i < N; i++) {
+            gain[i] = 10 * Math.log10(gain[i] * gain[i] + freq[i] * freq[i]);
+        }
+        frequencies(f0, f1, N, freq);
+    }
+
+    /**
+     * Permet de calculer la réponse fréquentielle complexe
+     * H(f)=Σ(k=0..L-1)[c(k)*exp(-2.j.PI.f.k/Fs)] d'un filtre sur N points
+     * régulièrement espacés entre f0 et f1 (f1 exclue), sans évaluer de fonction
+     * trigonométrique par coefficient :
+     * <ul>
+     * <li>Si la grille correspond aux raies d'une FFT de taille puissance de 2
+     * (Fs/dF entier et f0 multiple de dF) et que c'est moins coûteux, la réponse
+     * est lue dans la FFT des coefficients complétés par des zéros.
+     * <li>Sinon chaque point est évalué avec l'algorithme de Goertzel, les
+     * phaseurs de chaque fréquence étant obtenus par récurrence d'un point au
+     * suivant.
+     * </ul>
+     * 
+     * @param f0
+     *            Fréquence de départ pour l'affichage de la courbe.
+     * @param f1
+     *            Fréquence de fin pour l'affichage de la courbe.
+     * @param fs
+     *            Fréquence d'échantillonnage du filtre.
+     * @param N
+     *            Nombre de points à calculer pour la réponse fréquentielle.
+     * @param wk
+     *            Liste des coefficients du filtre.
+     * @param freq
+     *            Tableau de taille N recevant les fréquences en Hz.
+     * @param re
+     *            Tableau de taille N recevant la partie réelle de la réponse.
+     * @param im
+     *            Tableau de taille N recevant la partie imaginaire de la réponse.
+     */
+    public final static void frequencyResponse (double f0, double f1, double fs, int N, double[] wk, double[] freq,
+            double[] re, double[] im) {
+        checkResponse(f0, f1, N, wk, freq, re, im);
+        response(f0, f1, fs, N, wk, re, im);
+        frequencies(f0, f1, N, freq);
+    }
+
+    /**
+     * Vérifie les paramètres du calcul de la réponse fréquentielle.
+     */
+    private static void checkResponse (double f0, double f1, int N, double[] wk, double[] freq, double[] re,
+            double[] im) {
         if (f0 >= f1) {
             throw new IllegalArgumentException("F0 frequency must be smaller than F1");
         }
@@ -78,41 +163,111 @@ public class DFT {
         if (wk == null || wk.length == 0) {
             throw new IllegalArgumentException("Coefficient list cannot be null or empty");
         }
-        // Réponse fréquentielle calculée
-        // Liste des points de la courbe contenant :
-        // [fréquence][partie réelle][partie imaginaire]
-        freqResp = new double[N][3];
-        // Réponse en gain
-        // Liste des points de la courbe contenant :
-        // [fréquence][gain]
-        resp = new double[N][2];
+        if (freq.length < N || re.length < N || im.length < N) {
+            throw new IllegalArgumentException("Output arrays must contain at least N points");
+        }
+    }
+
+    /**
+     * Ecrit les N fréquences régulièrement espacées entre f0 et f1 (f1 exclue).
+     */
+    private static void frequencies (double f0, double f1, int N, double[] freq) {
+        double dF = (f1 - f0) / N;
+        for (int i = 0; i < N; i++) {
+            freq[i] = f0 + i * dF;
+        }
+    }
+
+    /**
+     * Calcule la réponse complexe, par FFT ou par l'algorithme de Goertzel.
+     */
+    private static void response (double f0, double f1, double fs, int N, double[] wk, double[] re, double[] im) {
+        double dF = (f1 - f0) / N;
 
-        // Calcul de la résolution fréquentielle
-        dF = (f1 - f0) / N;
+        // Taille de la FFT dont les raies correspondent à la grille
+        double size = fs / dF;
+        long M = Math.round(size);
+        double k0 = f0 / dF;
+        boolean uniform = M >= 2 && M <= (1 << 30) && (M & (M - 1)) == 0 && Math.abs(size - M) < 1e-9 * M
+                && Math.abs(k0 - Math.rint(k0)) < 1e-6;
+        int log2M = 63 - Long.numberOfLeadingZeros(Math.max(M, 1));
+        if (uniform && (double) M * log2M < (double) N * wk.length) {
+            responseFFT((int) M, (long) Math.rint(k0), N, wk, re, im);
+        } else {
+            responseGoertzel(2 * Math.PI * f0 / fs, 2 * Math.PI * dF / fs, N, wk, re, im);
+        }
+    }
 
-        // Calcul des valeurs de la réponse pour chaque fréquence
-        f = f0;
+    /**
+     * Lit la réponse dans la FFT de taille M des coefficients. Les coefficients au
+     * delà de M sont repliés, la FFT étant périodique.
+     */
+    private static void responseFFT (int M, long k0, int N, double[] wk, double[] re, double[] im) {
+        double[] x = new double[M];
+        for (int k = 0; k < wk.length; k++) {
+            x[k % M] += wk[k];
+        }
+        double[] xr = new double[M / 2 + 1];
+        double[] xi = new double[M / 2 + 1];
+        FFT.plan(M).rfft(x, xr, xi);
         for (int i = 0; i < N; i++) {
-            freqResp[i][0] = f;
-            freqResp[i][1] = 0.0;
-            freqResp[i][2] = 0.0;
-            // Calcul de la valeur pour la fréquence donnée
-            // avec X(z) = Somme [ x(k).z^(-k)] et z = exp(-2.k.Pi.f)
-            for (int k = 0; k < wk.length; k++) {
-                // Partie réelle
-                freqResp[i][1] += wk[k] * Math.cos(-2 * Math.PI * f * k / fs);
-                // Partie imaginaire
-                freqResp[i][2] += wk[k] * Math.sin(-2 * Math.PI * f * k / fs);
+            int bin = (int) Math.floorMod(k0 + i, (long) M);
+            if (bin <= M / 2) {
+                re[i] = xr[bin];
+                im[i] = xi[bin];
+            } else {
+                // Symétrie hermitienne du spectre d'un signal réel
+                re[i] = xr[M - bin];
+                im[i] = -xi[M - bin];
             }
-            f += dF; // On passe au point suivant de la courbe
         }
+    }
+
+    /**
+     * Evalue la réponse aux pulsations w0 + i.dw avec l'algorithme de Goertzel :
+     * y = s(L-1) - exp(-j.w).s(L-2) avec s(n) = c(n) + 2.cos(w).s(n-1) - s(n-2),
+     * puis H(w) = exp(-j.w.(L-1)).y. Les phaseurs exp(j.w) et exp(j.w.(L-1)) sont
+     * obtenus par rotation d'un point à l'autre et recalculés régulièrement pour
+     * éviter l'accumulation des erreurs d'arrondi.
+     */
+    private static void responseGoertzel (double w0, double dw, int N, double[] wk, double[] re, double[] im) {
+        final int L = wk.length;
+        final int resync = 256;
+        double stepCos = Math.cos(dw), stepSin = Math.sin(dw);
+        double stepCosL = Math.cos(dw * (L - 1)), stepSinL = Math.sin(dw * (L - 1));
+        double c = 0, s = 0, cL = 0, sL = 0;
 
-        // Calcul du gain : 20*log(module)
         for (int i = 0; i < N; i++) {
-            double mod = Math.sqrt(freqResp[i][1] * freqResp[i][1] + freqResp[i][2] * freqResp[i][2]);
-            resp[i][0] = freqResp[i][0];
-            resp[i][1] = 20 * Math.log10(mod);
+            // Phaseurs exp(j.w) et exp(j.w.(L-1))
+            if (i % resync == 0) {
+                double w = w0 + i * dw;
+                c = Math.cos(w);
+                s = Math.sin(w);
+                cL = Math.cos(w * (L - 1));
+                sL = Math.sin(w * (L - 1));
+            } else {
+                double t = c * stepCos - s * stepSin;
+                s = s * stepCos + c * stepSin;
+                c = t;
+                t = cL * stepCosL - sL * stepSinL;
+                sL = sL * stepCosL + cL * stepSinL;
+                cL = t;
+            }
+
+            // Récurrence de Goertzel
+            double coeff = 2 * c;
+            double s1 = 0, s2 = 0;
+            for (int k = 0; k < L; k++) {
+                double s0 = wk[k] + coeff * s1 - s2;
+                s2 = s1;
+                s1 = s0;
+            }
+            double yr = s1 - c * s2;
+            double yi = s * s2;
+
+            // H(w) = exp(-j.w.(L-1)).y
+            re[i] = cL * yr + sL * yi;
+            im[i] = cL * yi - sL * yr;
         }
-        return resp;
     }
 }
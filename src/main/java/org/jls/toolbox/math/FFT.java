@@ -24,10 +24,29 @@
 
 package org.jls.toolbox.math;
 
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
 public class FFT {
 
+    /**
+     * Maximum number of plans kept by {@link #plan(int)}.
+     */
+    private static final int MAX_CACHED_PLANS = 32;
+
+    /**
+     * Maximum cumulated length of the plans kept by {@link #plan(int)}, a plan
+     * of length N using 12*N bytes of tables.
+     */
+    private static final long MAX_CACHED_POINTS = 1 << 21;
+
+    private static final LinkedHashMap<Integer, FFT> plans = new LinkedHashMap<>(16, 0.75f, true);
+    private static long cachedPoints = 0;
+
     private final double[] cos;
     private final double[] sin;
+    private final int[] bitReverse;
     private final int N;
     private final int M;
 
@@ -45,6 +64,39 @@ public class FFT {
             this.cos[i] = Math.cos(-2 * Math.PI * i / n);
             this.sin[i] = Math.sin(-2 * Math.PI * i / n);
         }
+        // Precalculate bit-reversal permutation
+        this.bitReverse = new int[n];
+        for (int i = 1; i < n; i++) {
+            this.bitReverse[i] = (this.bitReverse[i >> 1] >> 1) | ((i & 1) << (this.M - 1));
+        }
+    }
+
+    /**
+     * Returns a shared FFT of the specified length. The plans are immutable, so
+     * the same instance can be used concurrently for forward and inverse
+     * transforms by any number of threads. The most recently used plans are
+     * kept in a bounded cache, the least recently used ones being evicted first.
+     *
+     * @param n
+     *            FFT length (must be power of 2).
+     * @return Shared FFT of length n.
+     */
+    public static FFT plan (final int n) {
+        synchronized (plans) {
+            FFT fft = plans.get(n);
+            if (fft == null) {
+                fft = new FFT(n);
+                plans.put(n, fft);
+                cachedPoints += n;
+                // Evict least recently used plans, the new one being kept
+                Iterator<FFT> it = plans.values().iterator();
+                while ((plans.size() > MAX_CACHED_PLANS || cachedPoints > MAX_CACHED_POINTS) && plans.size() > 1) {
+                    cachedPoints -= it.next().N;
+                    it.remove();
+                }
+            }
+            return fft;
+        }
     }
 
     /**
@@ -85,19 +137,412 @@ public class FFT {
      *            N-sized array representing the imaginary part of FFT.
      */
     public void fft (final float[] real, final float[] img) {
+        transform(real, img, this.N, this.M, 0);
+    }
+
+    /**
+     * Calculate the in-place FFT radix-2 in double precision.
+     *
+     * @param real
+     *            N-sized array representing the real part of FFT.
+     * @param img
+     *            N-sized array representing the imaginary part of FFT.
+     */
+    public void fft (final double[] real, final double[] img) {
+        transform(real, img, this.N, this.M, 0);
+    }
+
+    /**
+     * Calculate the FFT of real samples, the window being applied while the
+     * samples are loaded into the work buffers. If the window is shorter than
+     * N, the windowed samples are zero-padded up to N.
+     *
+     * @param x
+     *            Array containing the samples.
+     * @param offset
+     *            Index of the first sample in x.
+     * @param window
+     *            Window coefficients (at most N).
+     * @param real
+     *            N-sized array receiving the real part of FFT.
+     * @param img
+     *            N-sized array receiving the imaginary part of FFT.
+     */
+    public void fft (final float[] x, final int offset, final double[] window, final float[] real,
+            final float[] img) {
+        checkWindowedBuffers(x.length, offset, window.length, real.length, img.length, this.N);
+        int length = window.length;
+        for (int i = 0; i < length; i++) {
+            real[i] = (float) (x[offset + i] * window[i]);
+        }
+        Arrays.fill(real, length, this.N, 0f);
+        Arrays.fill(img, 0, this.N, 0f);
+        transform(real, img, this.N, this.M, 0);
+    }
+
+    /**
+     * Calculate the FFT of real samples in double precision, the window being
+     * applied while the samples are loaded into the work buffers.
+     *
+     * @param x
+     *            Array containing the samples.
+     * @param offset
+     *            Index of the first sample in x.
+     * @param window
+     *            Window coefficients (at most N).
+     * @param real
+     *            N-sized array receiving the real part of FFT.
+     * @param img
+     *            N-sized array receiving the imaginary part of FFT.
+     * @see #fft(float[], int, double[], float[], float[])
+     */
+    public void fft (final double[] x, final int offset, final double[] window, final double[] real,
+            final double[] img) {
+        checkWindowedBuffers(x.length, offset, window.length, real.length, img.length, this.N);
+        int length = window.length;
+        for (int i = 0; i < length; i++) {
+            real[i] = x[offset + i] * window[i];
+        }
+        Arrays.fill(real, length, this.N, 0.0);
+        Arrays.fill(img, 0, this.N, 0.0);
+        transform(real, img, this.N, this.M, 0);
+    }
+
+    /**
+     * Calculate the in-place inverse FFT radix-2, normalized by 1/N.
+     *
+     * @param real
+     *            N-sized array representing the real part of FFT.
+     * @param img
+     *            N-sized array representing the imaginary part of FFT.
+     */
+    public void ifft (final float[] real, final float[] img) {
+        // ifft(x) = conj(fft(conj(x))) / N
+        for (int i = 0; i < this.N; i++) {
+            img[i] = -img[i];
+        }
+        transform(real, img, this.N, this.M, 0);
+        float scale = 1.0f / this.N;
+        for (int i = 0; i < this.N; i++) {
+            real[i] *= scale;
+            img[i] *= -scale;
+        }
+    }
+
+    /**
+     * Calculate the in-place inverse FFT radix-2 in double precision, normalized
+     * by 1/N.
+     *
+     * @param real
+     *            N-sized array representing the real part of FFT.
+     * @param img
+     *            N-sized array representing the imaginary part of FFT.
+     */
+    public void ifft (final double[] real, final double[] img) {
+        for (int i = 0; i < this.N; i++) {
+            img[i] = -img[i];
+        }
+        transform(real, img, this.N, this.M, 0);
+        double scale = 1.0 / this.N;
+        for (int i = 0; i < this.N; i++) {
+            real[i] *= scale;
+            img[i] *= -scale;
+        }
+    }
+
+    /**
+     * Calculate the FFT of N real samples. The samples are packed into an N/2
+     * complex sequence whose FFT is computed using the twiddle tables of this
+     * instance, then split into the N/2+1 non-redundant bins of the spectrum (the
+     * other bins are the complex conjugates of these ones).
+     *
+     * @param x
+     *            N-sized array of real samples.
+     * @param real
+     *            (N/2+1)-sized array receiving the real part of the spectrum.
+     * @param img
+     *            (N/2+1)-sized array receiving the imaginary part of the
+     *            spectrum.
+     */
+    public void rfft (final float[] x, final float[] real, final float[] img) {
+        checkRealBuffers(x.length, real.length, img.length);
+        int h = this.N / 2;
+        for (int k = 0; k < h; k++) {
+            real[k] = x[2 * k];
+            img[k] = x[2 * k + 1];
+        }
+        transform(real, img, h, this.M - 1, 1);
+        split(real, img);
+    }
+
+    /**
+     * Calculate the FFT of N real samples in double precision.
+     *
+     * @param x
+     *            N-sized array of real samples.
+     * @param real
+     *            (N/2+1)-sized array receiving the real part of the spectrum.
+     * @param img
+     *            (N/2+1)-sized array receiving the imaginary part of the
+     *            spectrum.
+     * @see #rfft(float[], float[], float[])
+     */
+    public void rfft (final double[] x, final double[] real, final double[] img) {
+        checkRealBuffers(x.length, real.length, img.length);
+        int h = this.N / 2;
+        for (int k = 0; k < h; k++) {
+            real[k] = x[2 * k];
+            img[k] = x[2 * k + 1];
+        }
+        transform(real, img, h, this.M - 1, 1);
+        split(real, img);
+    }
+
+    /**
+     * Calculate the FFT of N real samples, the window being applied while the
+     * samples are loaded into the work buffers. This avoids a separate
+     * windowing pass and an intermediate frame buffer. If the window is
+     * shorter than N, the windowed samples are zero-padded up to N.
+     *
+     * @param x
+     *            Array containing the samples.
+     * @param offset
+     *            Index of the first sample in x.
+     * @param window
+     *            Window coefficients (at most N).
+     * @param real
+     *            (N/2+1)-sized array receiving the real part of the spectrum.
+     * @param img
+     *            (N/2+1)-sized array receiving the imaginary part of the
+     *            spectrum.
+     * @see #rfft(float[], float[], float[])
+     */
+    public void rfft (final float[] x, final int offset, final double[] window, final float[] real,
+            final float[] img) {
+        checkRealLength();
+        checkWindowedBuffers(x.length, offset, window.length, real.length, img.length, this.N / 2 + 1);
+        int h = this.N / 2;
+        int length = window.length;
+        for (int k = 0; k < h; k++) {
+            int i = 2 * k;
+            real[k] = i < length ? (float) (x[offset + i] * window[i]) : 0f;
+            img[k] = i + 1 < length ? (float) (x[offset + i + 1] * window[i + 1]) : 0f;
+        }
+        transform(real, img, h, this.M - 1, 1);
+        split(real, img);
+    }
+
+    /**
+     * Calculate the FFT of N real samples in double precision, the window being
+     * applied while the samples are loaded into the work buffers.
+     *
+     * @param x
+     *            Array containing the samples.
+     * @param offset
+     *            Index of the first sample in x.
+     * @param window
+     *            Window coefficients (at most N).
+     * @param real
+     *            (N/2+1)-sized array receiving the real part of the spectrum.
+     * @param img
+     *            (N/2+1)-sized array receiving the imaginary part of the
+     *            spectrum.
+     * @see #rfft(float[], int, double[], float[], float[])
+     */
+    public void rfft (final double[] x, final int offset, final double[] window, final double[] real,
+            final double[] img) {
+        checkRealLength();
+        checkWindowedBuffers(x.length, offset, window.length, real.length, img.length, this.N / 2 + 1);
+        int h = this.N / 2;
+        int length = window.length;
+        for (int k = 0; k < h; k++) {
+            int i = 2 * k;
+            real[k] = i < length ? x[offset + i] * window[i] : 0.0;
+            img[k] = i + 1 < length ? x[offset + i + 1] * window[i + 1] : 0.0;
+        }
+        transform(real, img, h, this.M - 1, 1);
+        split(real, img);
+    }
+
+    /**
+     * Calculate the inverse FFT of a real signal from the N/2+1 non-redundant
+     * bins of its spectrum, as returned by {@link #rfft(float[], float[], float[])}.
+     * The result is normalized so that <code>irfft(rfft(x))</code> returns x. The
+     * spectrum arrays are used as work buffers and are overwritten.
+     *
+     * @param real
+     *            (N/2+1)-sized array representing the real part of the spectrum.
+     * @param img
+     *            (N/2+1)-sized array representing the imaginary part of the
+     *            spectrum.
+     * @param x
+     *            N-sized array receiving the real samples.
+     */
+    public void irfft (final float[] real, final float[] img, final float[] x) {
+        checkRealBuffers(x.length, real.length, img.length);
+        int h = this.N / 2;
+        // Merge into the packed spectrum, conjugated for the inverse transform
+        double xr0 = real[0];
+        double xrh = real[h];
+        real[0] = (float) ((xr0 + xrh) * 0.5);
+        img[0] = (float) (-(xr0 - xrh) * 0.5);
+        for (int k = 1; k <= h / 2; k++) {
+            int j = h - k;
+            double er = (real[k] + real[j]) * 0.5;
+            double ei = (img[k] - img[j]) * 0.5;
+            double dr = (real[k] - real[j]) * 0.5;
+            double di = (img[k] + img[j]) * 0.5;
+            double or = dr * this.cos[k] + di * this.sin[k];
+            double oi = di * this.cos[k] - dr * this.sin[k];
+            real[k] = (float) (er - oi);
+            img[k] = (float) (-(ei + or));
+            real[j] = (float) (er + oi);
+            img[j] = (float) (ei - or);
+        }
+        transform(real, img, h, this.M - 1, 1);
+        double scale = 1.0 / h;
+        for (int k = 0; k < h; k++) {
+            x[2 * k] = (float) (real[k] * scale);
+            x[2 * k + 1] = (float) (-img[k] * scale);
+        }
+    }
+
+    /**
+     * Calculate the inverse FFT of a real signal in double precision.
+     *
+     * @param real
+     *            (N/2+1)-sized array representing the real part of the spectrum.
+     * @param img
+     *            (N/2+1)-sized array representing the imaginary part of the
+     *            spectrum.
+     * @param x
+     *            N-sized array receiving the real samples.
+     * @see #irfft(float[], float[], float[])
+     */
+    public void irfft (final double[] real, final double[] img, final double[] x) {
+        checkRealBuffers(x.length, real.length, img.length);
+        int h = this.N / 2;
+        double xr0 = real[0];
+        double xrh = real[h];
+        real[0] = (xr0 + xrh) * 0.5;
+        img[0] = -(xr0 - xrh) * 0.5;
+        for (int k = 1; k <= h / 2; k++) {
+            int j = h - k;
+            double er = (real[k] + real[j]) * 0.5;
+            double ei = (img[k] - img[j]) * 0.5;
+            double dr = (real[k] - real[j]) * 0.5;
+            double di = (img[k] + img[j]) * 0.5;
+            double or = dr * this.cos[k] + di * this.sin[k];
+            double oi = di * this.cos[k] - dr * this.sin[k];
+            real[k] = er - oi;
+            img[k] = -(ei + or);
+            real[j] = er + oi;
+            img[j] = ei - or;
+        }
+        transform(real, img, h, this.M - 1, 1);
+        double scale = 1.0 / h;
+        for (int k = 0; k < h; k++) {
+            x[2 * k] = real[k] * scale;
+            x[2 * k + 1] = -img[k] * scale;
+        }
+    }
+
+    /**
+     * Split the N/2 packed complex spectrum into the N/2+1 bins of the real
+     * spectrum.
+     */
+    private void split (final float[] real, final float[] img) {
+        int h = this.N / 2;
+        double z0r = real[0];
+        double z0i = img[0];
+        real[0] = (float) (z0r + z0i);
+        img[0] = 0;
+        real[h] = (float) (z0r - z0i);
+        img[h] = 0;
+        for (int k = 1; k <= h / 2; k++) {
+            int j = h - k;
+            double er = (real[k] + real[j]) * 0.5;
+            double ei = (img[k] - img[j]) * 0.5;
+            double or = (img[k] + img[j]) * 0.5;
+            double oi = (real[j] - real[k]) * 0.5;
+            double wr = this.cos[k] * or - this.sin[k] * oi;
+            double wi = this.cos[k] * oi + this.sin[k] * or;
+            real[k] = (float) (er + wr);
+            img[k] = (float) (ei + wi);
+            real[j] = (float) (er - wr);
+            img[j] = (float) (wi - ei);
+        }
+    }
+
+    /**
+     * Split the N/2 packed complex spectrum into the N/2+1 bins of the real
+     * spectrum, in double precision.
+     */
+    private void split (final double[] real, final double[] img) {
+        int h = this.N / 2;
+        double z0r = real[0];
+        double z0i = img[0];
+        real[0] = z0r + z0i;
+        img[0] = 0;
+        real[h] = z0r - z0i;
+        img[h] = 0;
+        for (int k = 1; k <= h / 2; k++) {
+            int j = h - k;
+            double er = (real[k] + real[j]) * 0.5;
+            double ei = (img[k] - img[j]) * 0.5;
+            double or = (img[k] + img[j]) * 0.5;
+            double oi = (real[j] - real[k]) * 0.5;
+            double wr = this.cos[k] * or - this.sin[k] * oi;
+            double wi = this.cos[k] * oi + this.sin[k] * or;
+            real[k] = er + wr;
+            img[k] = ei + wi;
+            real[j] = er - wr;
+            img[j] = wi - ei;
+        }
+    }
+
+    private void checkWindowedBuffers (int samples, int offset, int windowLength, int realLength, int imgLength,
+            int spectrumLength) {
+        if (windowLength > this.N) {
+            throw new IllegalArgumentException("Window length must not exceed " + this.N);
+        }
+        if (offset < 0 || offset + windowLength > samples) {
+            throw new IllegalArgumentException("Sample buffer too small for the window");
+        }
+        if (realLength < spectrumLength || imgLength < spectrumLength) {
+            throw new IllegalArgumentException("Spectrum buffer size must be at least " + spectrumLength);
+        }
+    }
+
+    private void checkRealLength () {
+        if (this.N < 2) {
+            throw new IllegalStateException("Real FFT length must be at least 2");
+        }
+    }
+
+    private void checkRealBuffers (int samples, int realLength, int imgLength) {
+        checkRealLength();
+        if (samples < this.N) {
+            throw new IllegalArgumentException("Sample buffer size must be at least " + this.N);
+        }
+        if (realLength < this.N / 2 + 1 || imgLength < this.N / 2 + 1) {
+            throw new IllegalArgumentException("Spectrum buffer size must be at least " + (this.N / 2 + 1));
+        }
+    }
+
+    /**
+     * In-place radix-2 FFT of length n=2^m. The twiddle factors and the
+     * bit-reversal permutation are read from the tables of this instance with a
+     * stride of 2^shift, which allows to compute the transforms of the
+     * sub-lengths N/2^shift using the same tables.
+     */
+    private void transform (final float[] real, final float[] img, final int n, final int m, final int shift) {
         int i, j, k, n1, n2, a;
         double c, s, t1, t2;
-        // Bit-reverse
-        j = 0;
-        n2 = this.N / 2;
-        for (i = 1; i < this.N - 1; i++) {
-            n1 = n2;
-            while (j >= n1) {
-                j = j - n1;
-                n1 = n1 / 2;
-            }
-            j = j + n1;
-
+        // Bit-reverse, the permutation of a sub-length being the one of N
+        // shifted right
+        for (i = 1; i < n - 1; i++) {
+            j = this.bitReverse[i] >> shift;
             if (i < j) {
                 t1 = real[i];
                 real[i] = real[j];
@@ -110,7 +555,7 @@ public class FFT {
         // FFT
         n1 = 0;
         n2 = 1;
-        for (i = 0; i < this.M; i++) {
+        for (i = 0; i < m; i++) {
             n1 = n2;
             n2 = n2 + n2;
             a = 0;
@@ -118,9 +563,9 @@ public class FFT {
             for (j = 0; j < n1; j++) {
                 c = this.cos[a];
                 s = this.sin[a];
-                a += 1 << this.M - i - 1;
+                a += 1 << m - i - 1 + shift;
 
-                for (k = j; k < this.N; k = k + n2) {
+                for (k = j; k < n; k = k + n2) {
                     t1 = c * real[k + n1] - s * img[k + n1];
                     t2 = s * real[k + n1] + c * img[k + n1];
                     real[k + n1] = (float) (real[k] - t1);
@@ -131,4 +576,59 @@ public class FFT {
             }
         }
     }
+
+    /**
+     * In-place radix-2 FFT of length n=2^m in double precision.
+     *
+     * @see #transform(float[], float[], int, int, int)
+     */
+    private void transform (final double[] real, final double[] img, final int n, final int m, final int shift) {
+        int i, j, k, n1, n2, a;
+        double c, s, t1, t2;
+        // Bit-reverse, the permutation of a sub-length being the one of N
+        // shifted right
+        for (i = 1; i < n - 1; i++) {
+            j = this.bitReverse[i] >> shift;
+            if (i < j) {
+                t1 = real[i];
+                real[i] = real[j];
+                real[j] = t1;
+                t1 = img[i];
+                img[i] = img[j];
+                img[j] = t1;
+            }
+        }
+        // FFT
+        n1 = 0;
+        n2 = 1;
+        for (i = 0; i < m; i++) {
+            n1 = n2;
+            n2 = n2 + n2;
+            a = 0;
+
+            for (j = 0; j < n1; j++) {
+                c = this.cos[a];
+                s = this.sin[a];
+                a += 1 << m - i - 1 + shift;
+
+                for (k = j; k < n; k = k + n2) {
+                    t1 = c * real[k + n1] - s * img[k + n1];
+                    t2 = s * real[k + n1] + c * img[k + n1];
+                    real[k + n1] = real[k] - t1;
+                    img[k + n1] = img[k] - t2;
+                    real[k] = real[k] + t1;
+                    img[k] = img[k] + t2;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the length of the FFT.
+     *
+     * @return FFT length N.
+     */
+    public int getLength () {
+        return this.N;
+    }
 }
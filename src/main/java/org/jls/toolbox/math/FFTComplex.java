@@ -24,17 +24,23 @@
 
 package org.jls.toolbox.math;
 
+import java.util.Arrays;
+
 /**
  * Permet de calculer la FFT ou la FFT inverse d'une séquence de N nombres
  * complexes avec une complexité de O(N*logN). La différence avec la FFT normale
  * est que cette classe manipule des données de type {@link Complex}
  * directement.
  * <P>
+ * Les calculs sont effectués en place et sans allocation sur des tableaux
+ * entrelacés de taille 2N (re, im, re, im, ...). Les méthodes manipulant des
+ * tableaux de {@link Complex} ne sont que des adaptateurs convertissant les
+ * données vers ce format ; les séquences manipulées en {@link ComplexArray}
+ * sont transformées directement.
+ * <P>
  * Limitations :
  * <ul>
  * <li>N doit être une puissance de 2.
- * <li>Les calculs effectués sont peu optimisés (Représentation des nombres
- * complexes, réallocation des mémoires, ...).
  * </ul>
  * 
  * @author LE SAUCE Julien
@@ -43,48 +49,132 @@ package org.jls.toolbox.math;
 public class FFTComplex {
 
     /**
-     * Permet de calculer la FFT d'une séquence de N nombres complexes.
+     * Permet de calculer en place la FFT d'une séquence de N nombres complexes
+     * entrelacés.
      * 
      * @param x
-     *            Séquence de N nombres complexes (N doit être une puissance de 2).
-     * @return Séquence de nombres complexes représentant le résultat de la FFT.
+     *            Tableau de taille 2N contenant les parties réelles et imaginaires
+     *            entrelacées (N doit être une puissance de 2).
      */
-    public static Complex[] fft (Complex[] x) {
-        int N = x.length;
+    public static void fft (final double[] x) {
+        checkLength(x);
+        transform(x, -1);
+    }
 
-        // Cas trivial
-        if (N == 1) {
-            return new Complex[] { x[0] };
+    /**
+     * Permet de calculer en place la FFT inverse d'une séquence de N nombres
+     * complexes entrelacés.
+     * 
+     * @param x
+     *            Tableau de taille 2N contenant les parties réelles et imaginaires
+     *            entrelacées (N doit être une puissance de 2).
+     */
+    public static void ifft (final double[] x) {
+        checkLength(x);
+        transform(x, 1);
+        // Division par N
+        double scale = 2.0 / x.length;
+        for (int i = 0; i < x.length; i++) {
+            x[i] *= scale;
         }
+    }
 
-        // Si N n'est pas une puissance de 2
-        if (N % 2 != 0) {
-            throw new RuntimeException("N is not a power of 2");
+    /**
+     * Permet de calculer en place la convolution circulaire de x[] et y[]. Le
+     * résultat est écrit dans x[] et y[] est remplacé par sa FFT.
+     * 
+     * @param x
+     *            Tableau de taille 2N contenant les nombres complexes entrelacés
+     *            (N doit être une puissance de 2). Reçoit le résultat de la
+     *            convolution.
+     * @param y
+     *            Tableau de taille 2N contenant les nombres complexes entrelacés
+     *            (N doit être une puissance de 2).
+     */
+    public static void cconvolve (final double[] x, final double[] y) {
+        // x et y doivent être de même taille
+        if (x.length != y.length) {
+            throw new IllegalArgumentException("Different sizes for x[] and y[].");
         }
+        checkLength(x);
+
+        // Calcul de la FFT de chaque séquence
+        transform(x, -1);
+        transform(y, -1);
 
-        // FFT sur les termes pairs
-        Complex[] even = new Complex[N / 2];
-        for (int k = 0; k < N / 2; k++) {
-            even[k] = x[2 * k];
+        // Multiplication complexe
+        for (int i = 0; i < x.length; i += 2) {
+            double re = x[i] * y[i] - x[i + 1] * y[i + 1];
+            double im = x[i] * y[i + 1] + x[i + 1] * y[i];
+            x[i] = re;
+            x[i + 1] = im;
         }
-        Complex[] q = fft(even);
 
-        // FFT sur les termes impairs
-        Complex[] odd = even;
-        for (int k = 0; k < N / 2; k++) {
-            odd[k] = x[2 * k + 1];
+        // Calcul de la FFT inverse
+        ifft(x);
+    }
+
+    /**
+     * Permet de calculer la convolution linéaire de x[] et y[]. Les séquences
+     * sont complétées par des zéros jusqu'à 2N dans les tampons a[] et b[] puis
+     * on calcule leur convolution circulaire.
+     * 
+     * @param x
+     *            Tableau de taille 2N contenant les nombres complexes entrelacés.
+     * @param y
+     *            Tableau de taille 2N contenant les nombres complexes entrelacés.
+     * @param a
+     *            Tampon de taille 4N recevant le résultat de la convolution (2N
+     *            nombres complexes entrelacés).
+     * @param b
+     *            Tampon de travail de taille 4N.
+     */
+    public static void convolve (final double[] x, final double[] y, final double[] a, final double[] b) {
+        if (x.length != y.length) {
+            throw new IllegalArgumentException("Different sizes for x[] and y[].");
         }
-        Complex[] r = fft(odd);
-
-        // Combinaison
-        Complex[] y = new Complex[N];
-        for (int k = 0; k < N / 2; k++) {
-            double kth = -2 * k * Math.PI / N;
-            Complex wk = new Complex(Math.cos(kth), Math.sin(kth));
-            y[k] = q[k].add(wk.times(r[k]));
-            y[k + N / 2] = q[k].sub(wk.times(r[k]));
+        if (a.length != 2 * x.length || b.length != 2 * y.length) {
+            throw new IllegalArgumentException("Buffers must be twice the size of x[] and y[].");
         }
-        return y;
+        System.arraycopy(x, 0, a, 0, x.length);
+        Arrays.fill(a, x.length, a.length, 0.0);
+        System.arraycopy(y, 0, b, 0, y.length);
+        Arrays.fill(b, y.length, b.length, 0.0);
+        cconvolve(a, b);
+    }
+
+    /**
+     * Permet de calculer en place la FFT d'une séquence de N nombres complexes.
+     * 
+     * @param x
+     *            Séquence de N nombres complexes (N doit être une puissance de 2).
+     */
+    public static void fft (final ComplexArray x) {
+        fft(x.data());
+    }
+
+    /**
+     * Permet de calculer en place la FFT inverse d'une séquence de N nombres
+     * complexes.
+     * 
+     * @param x
+     *            Séquence de N nombres complexes (N doit être une puissance de 2).
+     */
+    public static void ifft (final ComplexArray x) {
+        ifft(x.data());
+    }
+
+    /**
+     * Permet de calculer la FFT d'une séquence de N nombres complexes.
+     * 
+     * @param x
+     *            Séquence de N nombres complexes (N doit être une puissance de 2).
+     * @return Séquence de nombres complexes représentant le résultat de la FFT.
+     */
+    public static Complex[] fft (Complex[] x) {
+        double[] data = ComplexArray.valueOf(x).data();
+        fft(data);
+        return ComplexArray.wrap(data).toComplex();
     }
 
     /**
@@ -96,27 +186,9 @@ public class FFTComplex {
      *         inverse.
      */
     public static Complex[] ifft (Complex[] x) {
-        int N = x.length;
-        Complex[] y = new Complex[N];
-
-        // On prend le conjugué de chaque complexe
-        for (int i = 0; i < N; i++) {
-            y[i] = x[i].conjugate();
-        }
-
-        // Calcul de la FFT sur les conjugués
-        y = fft(y);
-
-        // On reprend le conjugué de chaque nombre complexe
-        for (int i = 0; i < N; i++) {
-            y[i] = y[i].conjugate();
-        }
-
-        // Division par N
-        for (int i = 0; i < N; i++) {
-            y[i] = y[i].times(1.0 / N);
-        }
-        return y;
+        double[] data = ComplexArray.valueOf(x).data();
+        ifft(data);
+        return ComplexArray.wrap(data).toComplex();
     }
 
     /**
@@ -130,28 +202,10 @@ public class FFTComplex {
      *         convolution.
      */
     public static Complex[] cconvolve (Complex[] x, Complex[] y) {
-        // x et y doivent être de même taille
-        if (x.length != y.length) {
-            throw new RuntimeException("Different sizes for x[] nd y[].");
-        }
-        // Si N n'est pas une puissance de 2
-        if (x.length % 2 != 0) {
-            throw new RuntimeException("N is not a power of 2");
-        }
-        int N = x.length;
-
-        // Calcul de la FFT de chaque séquence
-        Complex[] a = fft(x);
-        Complex[] b = fft(y);
-
-        // Multiplication complexe
-        Complex[] c = new Complex[N];
-        for (int i = 0; i < N; i++) {
-            c[i] = a[i].times(b[i]);
-        }
-
-        // Calcul de la FFT inverse
-        return ifft(c);
+        double[] a = ComplexArray.valueOf(x).data();
+        double[] b = ComplexArray.valueOf(y).data();
+        cconvolve(a, b);
+        return ComplexArray.wrap(a).toComplex();
     }
 
     /**
@@ -165,20 +219,83 @@ public class FFTComplex {
      *         convolution.
      */
     public static Complex[] convolve (Complex[] x, Complex[] y) {
-        Complex zero = new Complex(0, 0);
+        // Complétion par des zéros jusqu'à 2N
+        double[] a = ComplexArray.valueOf(x, 2 * x.length).data();
+        double[] b = ComplexArray.valueOf(y, 2 * y.length).data();
+        cconvolve(a, b);
+        return ComplexArray.wrap(a).toComplex();
+    }
+
+    /**
+     * Vérifie que le tableau entrelacé contient une puissance de 2 de nombres
+     * complexes.
+     */
+    private static void checkLength (final double[] x) {
+        int n = x.length / 2;
+        if (x.length % 2 != 0 || n == 0 || (n & (n - 1)) != 0) {
+            throw new IllegalArgumentException("N is not a power of 2");
+        }
+    }
 
-        Complex[] a = new Complex[2 * x.length];
-        for (int i = 0; i < x.length; i++)
-            a[i] = x[i];
-        for (int i = x.length; i < 2 * x.length; i++)
-            a[i] = zero;
+    /**
+     * FFT radix-2 itérative en place sur un tableau entrelacé. Les facteurs de
+     * rotation sont calculés par récurrence à chaque étage, ce qui évite toute
+     * table ou allocation.
+     * 
+     * @param x
+     *            Tableau de taille 2N contenant les nombres complexes entrelacés.
+     * @param sign
+     *            -1 pour la FFT directe, 1 pour la FFT inverse (non normalisée).
+     */
+    private static void transform (final double[] x, final int sign) {
+        final int n = x.length;
+        double t;
 
-        Complex[] b = new Complex[2 * y.length];
-        for (int i = 0; i < y.length; i++)
-            b[i] = y[i];
-        for (int i = y.length; i < 2 * y.length; i++)
-            b[i] = zero;
+        // Permutation bit-reverse
+        int j = 0;
+        for (int i = 0; i < n; i += 2) {
+            if (j > i) {
+                t = x[j];
+                x[j] = x[i];
+                x[i] = t;
+                t = x[j + 1];
+                x[j + 1] = x[i + 1];
+                x[i + 1] = t;
+            }
+            int m = n >> 1;
+            while (m >= 2 && j >= m) {
+                j -= m;
+                m >>= 1;
+            }
+            j += m;
+        }
 
-        return cconvolve(a, b);
+        // Papillons de Danielson-Lanczos
+        int mmax = 2;
+        while (n > mmax) {
+            int step = mmax << 1;
+            double theta = sign * (2 * Math.PI / mmax);
+            double wtemp = Math.sin(0.5 * theta);
+            double wpr = -2.0 * wtemp * wtemp;
+            double wpi = Math.sin(theta);
+            double wr = 1.0;
+            double wi = 0.0;
+            for (int m = 0; m < mmax; m += 2) {
+                for (int i = m; i < n; i += step) {
+                    int k = i + mmax;
+                    double tr = wr * x[k] - wi * x[k + 1];
+                    double ti = wr * x[k + 1] + wi * x[k];
+                    x[k] = x[i] - tr;
+                    x[k + 1] = x[i + 1] - ti;
+                    x[i] += tr;
+                    x[i + 1] += ti;
+                }
+                wtemp = wr;
+                wr += wtemp * wpr - wi * wpi;
+                wi += wi * wpr + wtemp * wpi;
+            }
+            mmax = step;
+        }
     }
+
 }
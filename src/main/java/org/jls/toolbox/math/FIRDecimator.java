@@ -0,0 +1,171 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 LE SAUCE Julien
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.jls.toolbox.math;
+
+/**
+ * Permet de filtrer et de décimer un flux d'échantillons d'un facteur M. Seul
+ * un échantillon filtré sur M est conservé : la structure polyphase ne calcule
+ * donc la convolution que pour les échantillons de sortie, ce qui divise le
+ * coût du filtrage par M. Le filtre doit être conçu (par exemple avec
+ * {@link Remez}) pour couper au-dessus de la nouvelle fréquence de Nyquist.
+ * <p>
+ * L'état du filtre et la phase de décimation sont conservés d'un bloc à
+ * l'autre. Une instance n'est pas thread-safe.
+ *
+ * @author LE SAUCE Julien
+ * @date Oct 16, 2026
+ */
+public class FIRDecimator {
+
+    private final FIRFilter filter;
+    private final int factor;
+    private int phase;
+
+    /**
+     * Permet d'instancier un décimateur.
+     *
+     * @param coefficients
+     *            Réponse impulsionnelle du filtre anti-repliement.
+     * @param factor
+     *            Facteur de décimation M (strictement positif).
+     */
+    public FIRDecimator(final double[] coefficients, final int factor) {
+        if (factor <= 0) {
+            throw new IllegalArgumentException("Decimation factor must be positive");
+        }
+        this.filter = new FIRFilter(coefficients, Integer.MAX_VALUE);
+        this.factor = factor;
+        this.phase = 0;
+    }
+
+    /**
+     * Permet de filtrer et de décimer un bloc d'échantillons. Les tableaux
+     * d'entrée et de sortie peuvent être identiques.
+     *
+     * @param in
+     *            Echantillons d'entrée.
+     * @param inOffset
+     *            Indice du premier échantillon d'entrée.
+     * @param out
+     *            Tableau recevant les échantillons décimés.
+     * @param outOffset
+     *            Indice du premier échantillon de sortie.
+     * @param length
+     *            Nombre d'échantillons d'entrée.
+     * @return Nombre d'échantillons écrits dans le tableau de sortie.
+     */
+    public int filter (final double[] in, final int inOffset, final double[] out, final int outOffset,
+            final int length) {
+        checkBounds(in.length, inOffset, out.length, outOffset, length);
+        int n = outOffset;
+        for (int i = 0; i < length; i++) {
+            this.filter.write(in[inOffset + i]);
+            if (this.phase == 0) {
+                out[n++] = this.filter.convolve();
+                this.phase = this.factor - 1;
+            } else {
+                this.phase--;
+            }
+        }
+        return n - outOffset;
+    }
+
+    /**
+     * Permet de filtrer et de décimer un bloc d'échantillons simple précision.
+     *
+     * @param in
+     *            Echantillons d'entrée.
+     * @param inOffset
+     *            Indice du premier échantillon d'entrée.
+     * @param out
+     *            Tableau recevant les échantillons décimés.
+     * @param outOffset
+     *            Indice du premier échantillon de sortie.
+     * @param length
+     *            Nombre d'échantillons d'entrée.
+     * @return Nombre d'échantillons écrits dans le tableau de sortie.
+     * @see #filter(double[], int, double[], int, int)
+     */
+    public int filter (final float[] in, final int inOffset, final float[] out, final int outOffset,
+            final int length) {
+        checkBounds(in.length, inOffset, out.length, outOffset, length);
+        int n = outOffset;
+        for (int i = 0; i < length; i++) {
+            this.filter.write(in[inOffset + i]);
+            if (this.phase == 0) {
+                out[n++] = (float) this.filter.convolve();
+                this.phase = this.factor - 1;
+            } else {
+                this.phase--;
+            }
+        }
+        return n - outOffset;
+    }
+
+    /**
+     * Renvoie le nombre d'échantillons produits par le filtrage de length
+     * échantillons d'entrée à partir de l'état actuel.
+     *
+     * @param length
+     *            Nombre d'échantillons d'entrée.
+     * @return Nombre d'échantillons de sortie.
+     */
+    public int getOutputLength (final int length) {
+        return length <= this.phase ? 0 : (length - this.phase - 1) / this.factor + 1;
+    }
+
+    /**
+     * Permet de remettre à zéro la ligne à retard et la phase de décimation.
+     */
+    public void reset () {
+        this.filter.reset();
+        this.phase = 0;
+    }
+
+    /**
+     * Renvoie le facteur de décimation.
+     *
+     * @return Facteur M.
+     */
+    public int getFactor () {
+        return this.factor;
+    }
+
+    /**
+     * Renvoie le nombre de coefficients du filtre.
+     *
+     * @return Nombre de coefficients.
+     */
+    public int getTaps () {
+        return this.filter.getTaps();
+    }
+
+    private void checkBounds (int inLength, int inOffset, int outLength, int outOffset, int length) {
+        if (length < 0 || inOffset < 0 || outOffset < 0 || inOffset + length > inLength
+                || outOffset + getOutputLength(length) > outLength) {
+            throw new IllegalArgumentException("Invalid offset or length");
+        }
+    }
+}
@@ -0,0 +1,335 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 LE SAUCE Julien
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.jls.toolbox.math;
+
+import java.util.Arrays;
+
+/**
+ * Permet d'appliquer un filtre RIF (par exemple calculé avec {@link Remez}) à
+ * un flux d'échantillons traité par blocs successifs. L'état du filtre (ligne
+ * à retard circulaire) est conservé d'un bloc à l'autre, et aucun tableau n'est
+ * alloué pendant le filtrage.
+ * <p>
+ * Pour les filtres courts, la convolution est calculée directement (N
+ * multiplications par échantillon). Au-delà de {@link #DEFAULT_FFT_THRESHOLD}
+ * coefficients, les blocs suffisamment longs sont filtrés par overlap-save à
+ * l'aide d'un plan {@link FFT} partagé : le résultat est identique (aux erreurs
+ * d'arrondi près) et sans latence supplémentaire.
+ * <p>
+ * Une instance n'est pas thread-safe.
+ *
+ * @author LE SAUCE Julien
+ * @date Oct 16, 2026
+ */
+public class FIRFilter {
+
+    /**
+     * Nombre de coefficients à partir duquel la convolution par FFT est
+     * utilisée.
+     */
+    public static final int DEFAULT_FFT_THRESHOLD = 64;
+
+    private final double[] coefficients;
+    private final double[] reversed;
+    private final int taps;
+
+    /**
+     * Ligne à retard de taille 2*taps : chaque échantillon est écrit deux fois
+     * afin que les taps derniers échantillons soient toujours contigus.
+     */
+    private final double[] delay;
+    private int pos;
+
+    private final FFT fft;
+    private final int fftLength;
+    private final int blockLength;
+    private final double fftCost;
+    private final double[] segment;
+    private final double[] spectrumRe;
+    private final double[] spectrumIm;
+    private final double[] responseRe;
+    private final double[] responseIm;
+
+    /**
+     * Permet d'instancier un filtre RIF utilisant le seuil de bascule par défaut
+     * vers la convolution par FFT.
+     *
+     * @param coefficients
+     *            Réponse impulsionnelle du filtre.
+     */
+    public FIRFilter(final double[] coefficients) {
+        this(coefficients, DEFAULT_FFT_THRESHOLD);
+    }
+
+    /**
+     * Permet d'instancier un filtre RIF.
+     *
+     * @param coefficients
+     *            Réponse impulsionnelle du filtre.
+     * @param fftThreshold
+     *            Nombre de coefficients à partir duquel la convolution par FFT
+     *            est utilisée ({@link Integer#MAX_VALUE} pour toujours utiliser
+     *            la convolution directe).
+     */
+    public FIRFilter(final double[] coefficients, final int fftThreshold) {
+        if (coefficients == null || coefficients.length == 0) {
+            throw new IllegalArgumentException("Filter must have at least one coefficient");
+        }
+        this.coefficients = coefficients.clone();
+        this.taps = coefficients.length;
+        this.reversed = new double[this.taps];
+        for (int i = 0; i < this.taps; i++) {
+            this.reversed[i] = coefficients[this.taps - 1 - i];
+        }
+        this.delay = new double[2 * this.taps];
+        this.pos = 0;
+
+        if (this.taps >= fftThreshold) {
+            // Segments de 4 fois la taille du filtre : bon compromis entre le coût
+            // de la FFT et le nombre d'échantillons produits par segment
+            int n = Integer.highestOneBit(Math.max(4 * this.taps - 1, 4)) << 1;
+            this.fft = FFT.plan(n);
+            this.fftLength = n;
+            this.blockLength = n - this.taps + 1;
+            this.fftCost = 3.0 * n * (Integer.numberOfTrailingZeros(n) + 1);
+            this.segment = new double[n];
+            this.spectrumRe = new double[n / 2 + 1];
+            this.spectrumIm = new double[n / 2 + 1];
+            this.responseRe = new double[n / 2 + 1];
+            this.responseIm = new double[n / 2 + 1];
+            System.arraycopy(this.coefficients, 0, this.segment, 0, this.taps);
+            this.fft.rfft(this.segment, this.responseRe, this.responseIm);
+        } else {
+            this.fft = null;
+            this.fftLength = 0;
+            this.blockLength = 0;
+            this.fftCost = Double.POSITIVE_INFINITY;
+            this.segment = null;
+            this.spectrumRe = null;
+            this.spectrumIm = null;
+            this.responseRe = null;
+            this.responseIm = null;
+        }
+    }
+
+    /**
+     * Permet de filtrer un échantillon.
+     *
+     * @param sample
+     *            Echantillon d'entrée.
+     * @return Echantillon filtré.
+     */
+    public double filter (final double sample) {
+        write(sample);
+        return convolve();
+    }
+
+    /**
+     * Permet de filtrer un bloc d'échantillons. Les tableaux d'entrée et de
+     * sortie peuvent être identiques (filtrage en place).
+     *
+     * @param in
+     *            Echantillons d'entrée.
+     * @param inOffset
+     *            Indice du premier échantillon d'entrée.
+     * @param out
+     *            Tableau recevant les échantillons filtrés.
+     * @param outOffset
+     *            Indice du premier échantillon de sortie.
+     * @param length
+     *            Nombre d'échantillons à filtrer.
+     */
+    public void filter (final double[] in, final int inOffset, final double[] out, final int outOffset,
+            final int length) {
+        checkBounds(in.length, inOffset, out.length, outOffset, length);
+        int done = 0;
+        while (done < length) {
+            int count = Math.min(length - done, this.blockLength);
+            if (useFFT(count)) {
+                System.arraycopy(in, inOffset + done, this.segment, this.taps - 1, count);
+                convolveSegment(count);
+                for (int i = 0; i < count; i++) {
+                    out[outOffset + done + i] = this.segment[this.taps - 1 + i];
+                }
+                done += count;
+            } else {
+                for (; done < length; done++) {
+                    write(in[inOffset + done]);
+                    out[outOffset + done] = convolve();
+                }
+            }
+        }
+    }
+
+    /**
+     * Permet de filtrer un bloc d'échantillons simple précision. Les calculs
+     * sont effectués en double précision.
+     *
+     * @param in
+     *            Echantillons d'entrée.
+     * @param inOffset
+     *            Indice du premier échantillon d'entrée.
+     * @param out
+     *            Tableau recevant les échantillons filtrés.
+     * @param outOffset
+     *            Indice du premier échantillon de sortie.
+     * @param length
+     *            Nombre d'échantillons à filtrer.
+     * @see #filter(double[], int, double[], int, int)
+     */
+    public void filter (final float[] in, final int inOffset, final float[] out, final int outOffset,
+            final int length) {
+        checkBounds(in.length, inOffset, out.length, outOffset, length);
+        int done = 0;
+        while (done < length) {
+            int count = Math.min(length - done, this.blockLength);
+            if (useFFT(count)) {
+                for (int i = 0; i < count; i++) {
+                    this.segment[this.taps - 1 + i] = in[inOffset + done + i];
+                }
+                convolveSegment(count);
+                for (int i = 0; i < count; i++) {
+                    out[outOffset + done + i] = (float) this.segment[this.taps - 1 + i];
+                }
+                done += count;
+            } else {
+                for (; done < length; done++) {
+                    write(in[inOffset + done]);
+                    out[outOffset + done] = (float) convolve();
+                }
+            }
+        }
+    }
+
+    /**
+     * Permet de remettre à zéro la ligne à retard du filtre.
+     */
+    public void reset () {
+        Arrays.fill(this.delay, 0);
+        this.pos = 0;
+    }
+
+    /**
+     * Renvoie une copie des coefficients du filtre.
+     *
+     * @return Réponse impulsionnelle du filtre.
+     */
+    public double[] getCoefficients () {
+        return this.coefficients.clone();
+    }
+
+    /**
+     * Renvoie le nombre de coefficients du filtre.
+     *
+     * @return Nombre de coefficients.
+     */
+    public int getTaps () {
+        return this.taps;
+    }
+
+    /**
+     * Indique si les blocs longs sont filtrés par convolution rapide (FFT).
+     *
+     * @return true si la convolution par FFT est utilisée, false sinon.
+     */
+    public boolean isFFTEnabled () {
+        return this.fft != null;
+    }
+
+    /**
+     * Renvoie la taille des FFT utilisées par la convolution rapide.
+     *
+     * @return Taille des FFT, 0 si la convolution rapide n'est pas utilisée.
+     */
+    public int getFFTLength () {
+        return this.fftLength;
+    }
+
+    /**
+     * Ajoute un échantillon dans la ligne à retard.
+     *
+     * @param sample
+     *            Echantillon d'entrée.
+     */
+    void write (final double sample) {
+        this.delay[this.pos] = sample;
+        this.delay[this.pos + this.taps] = sample;
+        this.pos = this.pos + 1 == this.taps ? 0 : this.pos + 1;
+    }
+
+    /**
+     * Calcule la sortie du filtre pour le contenu actuel de la ligne à retard.
+     *
+     * @return Echantillon filtré.
+     */
+    double convolve () {
+        // Les taps derniers échantillons, du plus ancien au plus récent
+        double acc = 0;
+        for (int j = 0, k = this.pos; j < this.taps; j++, k++) {
+            acc += this.reversed[j] * this.delay[k];
+        }
+        return acc;
+    }
+
+    /**
+     * Indique si un bloc de la taille spécifiée est filtré plus rapidement par
+     * FFT que par convolution directe.
+     */
+    private boolean useFFT (final int count) {
+        return (double) count * this.taps > this.fftCost;
+    }
+
+    /**
+     * Filtre par overlap-save les count échantillons placés dans le segment à
+     * partir de l'indice taps-1. Les sorties sont rangées aux mêmes indices et
+     * la ligne à retard est mise à jour.
+     */
+    private void convolveSegment (final int count) {
+        int history = this.taps - 1;
+        // Les taps-1 échantillons précédents, du plus ancien au plus récent
+        System.arraycopy(this.delay, this.pos + 1, this.segment, 0, history);
+        Arrays.fill(this.segment, history + count, this.fftLength, 0);
+        int first = Math.max(0, count - this.taps);
+        for (int i = first; i < count; i++) {
+            write(this.segment[history + i]);
+        }
+
+        this.fft.rfft(this.segment, this.spectrumRe, this.spectrumIm);
+        for (int k = 0; k < this.spectrumRe.length; k++) {
+            double re = this.spectrumRe[k];
+            double im = this.spectrumIm[k];
+            this.spectrumRe[k] = re * this.responseRe[k] - im * this.responseIm[k];
+            this.spectrumIm[k] = re * this.responseIm[k] + im * this.responseRe[k];
+        }
+        this.fft.irfft(this.spectrumRe, this.spectrumIm, this.segment);
+    }
+
+    private static void checkBounds (int inLength, int inOffset, int outLength, int outOffset, int length) {
+        if (length < 0 || inOffset < 0 || outOffset < 0 || inOffset + length > inLength
+                || outOffset + length > outLength) {
+            throw new IllegalArgumentException("Invalid offset or length");
+        }
+    }
+}
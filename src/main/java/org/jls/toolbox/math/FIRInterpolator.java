@@ -0,0 +1,187 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 LE SAUCE Julien
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.jls.toolbox.math;
+
+import java.util.Arrays;
+
+/**
+ * Permet de suréchantillonner un flux d'échantillons d'un facteur L puis de le
+ * filtrer. Plutôt que d'insérer L-1 zéros entre chaque échantillon et de
+ * filtrer le résultat, le filtre est décomposé en L sous-filtres polyphases de
+ * N/L coefficients, chacun produisant l'une des L sorties associées à un
+ * échantillon d'entrée.
+ * <p>
+ * Les coefficients sont appliqués tels quels : pour conserver l'amplitude du
+ * signal, la réponse désirée du filtre passe-bas doit valoir L dans la bande
+ * passante. L'état du filtre est conservé d'un bloc à l'autre. Une instance
+ * n'est pas thread-safe.
+ *
+ * @author LE SAUCE Julien
+ * @date Oct 16, 2026
+ */
+public class FIRInterpolator {
+
+    private final int factor;
+    private final int taps;
+    private final int phaseLength;
+    /**
+     * Coefficients des sous-filtres, inversés, le sous-filtre p occupant les
+     * indices [p*phaseLength ; (p+1)*phaseLength[.
+     */
+    private final double[] phases;
+    private final double[] delay;
+    private int pos;
+
+    /**
+     * Permet d'instancier un interpolateur.
+     *
+     * @param coefficients
+     *            Réponse impulsionnelle du filtre d'interpolation.
+     * @param factor
+     *            Facteur de suréchantillonnage L (strictement positif).
+     */
+    public FIRInterpolator(final double[] coefficients, final int factor) {
+        if (coefficients == null || coefficients.length == 0) {
+            throw new IllegalArgumentException("Filter must have at least one coefficient");
+        }
+        if (factor <= 0) {
+            throw new IllegalArgumentException("Interpolation factor must be positive");
+        }
+        this.factor = factor;
+        this.taps = coefficients.length;
+        this.phaseLength = (this.taps + factor - 1) / factor;
+        this.phases = new double[factor * this.phaseLength];
+        for (int p = 0; p < factor; p++) {
+            for (int k = 0; p + k * factor < this.taps; k++) {
+                this.phases[p * this.phaseLength + this.phaseLength - 1 - k] = coefficients[p + k * factor];
+            }
+        }
+        this.delay = new double[2 * this.phaseLength];
+        this.pos = 0;
+    }
+
+    /**
+     * Permet de suréchantillonner et de filtrer un bloc d'échantillons. Le
+     * tableau de sortie doit pouvoir contenir length*L échantillons.
+     *
+     * @param in
+     *            Echantillons d'entrée.
+     * @param inOffset
+     *            Indice du premier échantillon d'entrée.
+     * @param out
+     *            Tableau recevant les échantillons interpolés.
+     * @param outOffset
+     *            Indice du premier échantillon de sortie.
+     * @param length
+     *            Nombre d'échantillons d'entrée.
+     */
+    public void filter (final double[] in, final int inOffset, final double[] out, final int outOffset,
+            final int length) {
+        checkBounds(in.length, inOffset, out.length, outOffset, length);
+        int n = outOffset;
+        for (int i = 0; i < length; i++) {
+            write(in[inOffset + i]);
+            for (int p = 0; p < this.factor; p++) {
+                out[n++] = convolve(p);
+            }
+        }
+    }
+
+    /**
+     * Permet de suréchantillonner et de filtrer un bloc d'échantillons simple
+     * précision.
+     *
+     * @param in
+     *            Echantillons d'entrée.
+     * @param inOffset
+     *            Indice du premier échantillon d'entrée.
+     * @param out
+     *            Tableau recevant les échantillons interpolés.
+     * @param outOffset
+     *            Indice du premier échantillon de sortie.
+     * @param length
+     *            Nombre d'échantillons d'entrée.
+     * @see #filter(double[], int, double[], int, int)
+     */
+    public void filter (final float[] in, final int inOffset, final float[] out, final int outOffset,
+            final int length) {
+        checkBounds(in.length, inOffset, out.length, outOffset, length);
+        int n = outOffset;
+        for (int i = 0; i < length; i++) {
+            write(in[inOffset + i]);
+            for (int p = 0; p < this.factor; p++) {
+                out[n++] = (float) convolve(p);
+            }
+        }
+    }
+
+    /**
+     * Permet de remettre à zéro la ligne à retard du filtre.
+     */
+    public void reset () {
+        Arrays.fill(this.delay, 0);
+        this.pos = 0;
+    }
+
+    /**
+     * Renvoie le facteur de suréchantillonnage.
+     *
+     * @return Facteur L.
+     */
+    public int getFactor () {
+        return this.factor;
+    }
+
+    /**
+     * Renvoie le nombre de coefficients du filtre.
+     *
+     * @return Nombre de coefficients.
+     */
+    public int getTaps () {
+        return this.taps;
+    }
+
+    private void write (final double sample) {
+        this.delay[this.pos] = sample;
+        this.delay[this.pos + this.phaseLength] = sample;
+        this.pos = this.pos + 1 == this.phaseLength ? 0 : this.pos + 1;
+    }
+
+    private double convolve (final int phase) {
+        double acc = 0;
+        int offset = phase * this.phaseLength;
+        for (int j = 0, k = this.pos; j < this.phaseLength; j++, k++) {
+            acc += this.phases[offset + j] * this.delay[k];
+        }
+        return acc;
+    }
+
+    private void checkBounds (int inLength, int inOffset, int outLength, int outOffset, int length) {
+        if (length < 0 || inOffset < 0 || outOffset < 0 || inOffset + length > inLength
+                || outOffset + (long) length * this.factor > outLength) {
+            throw new IllegalArgumentException("Invalid offset or length");
+        }
+    }
+}
@@ -0,0 +1,330 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 LE SAUCE Julien
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.jls.toolbox.math;
+
+import java.util.Arrays;
+
+import org.jls.toolbox.math.Window.WindowType;
+
+/**
+ * Détecteur de raies par l'algorithme de Goertzel. Le flux d'échantillons est
+ * découpé en blocs consécutifs de N échantillons ; pour chaque fréquence
+ * surveillée, un résonateur du second ordre est mis à jour à chaque échantillon
+ * (une multiplication et deux additions) et la puissance de la raie est
+ * disponible à la fin de chaque bloc. Le coût est donc en O(1) par échantillon
+ * et par raie, contre O(log N) par échantillon pour une FFT complète, ce qui
+ * est avantageux tant que le nombre de raies reste inférieur à log2(N)
+ * environ, et pour des fréquences quelconques qui ne tombent pas sur une raie
+ * de la FFT.
+ * <p>
+ * Les états des résonateurs sont stockés par tableaux (un tableau par
+ * grandeur, indexé par raie) afin que la mise à jour de plusieurs centaines de
+ * raies soit une simple boucle vectorisable. Une instance n'est pas
+ * thread-safe.
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 16, 2026
+ */
+public class GoertzelDetector {
+
+    /**
+     * Interface permettant d'être notifié de la fin de chaque bloc.
+     */
+    public interface Listener {
+
+        /**
+         * Appelée à la fin de chaque bloc, lorsque les puissances du bloc sont
+         * disponibles via le détecteur.
+         * 
+         * @param detector
+         *            Détecteur ayant terminé le bloc.
+         * @param block
+         *            Numéro du bloc depuis le début du flux.
+         */
+        void blockCompleted (GoertzelDetector detector, long block);
+    }
+
+    private final double fs;
+    private final int blockLength;
+    private final double[] frequencies;
+    private final double[] window;
+    private final double amplitudeGain;
+
+    // Coefficients 2.cos(w) et états des résonateurs, indexés par raie
+    private final double[] coeffs;
+    private final double[] s1;
+    private final double[] s2;
+    private final double[] powers;
+
+    private int position;
+    private long blocks;
+    private Listener listener;
+
+    /**
+     * Permet d'instancier un détecteur sans fenêtrage (fenêtre rectangulaire).
+     * 
+     * @param fs
+     *            Fréquence d'échantillonnage en hertz.
+     * @param N
+     *            Nombre d'échantillons d'un bloc.
+     * @param frequencies
+     *            Fréquence(s) surveillée(s) en hertz.
+     */
+    public GoertzelDetector(double fs, int N, double... frequencies) {
+        this(WindowType.RECTANGULAR, fs, N, frequencies);
+    }
+
+    /**
+     * Permet d'instancier un détecteur dont chaque bloc est pondéré par une
+     * fenêtre, afin de réduire les fuites spectrales entre raies voisines.
+     * 
+     * @param win
+     *            Type de fenêtrage appliqué à chaque bloc.
+     * @param fs
+     *            Fréquence d'échantillonnage en hertz.
+     * @param N
+     *            Nombre d'échantillons d'un bloc.
+     * @param frequencies
+     *            Fréquence(s) surveillée(s) en hertz.
+     */
+    public GoertzelDetector(WindowType win, double fs, int N, double... frequencies) {
+        if (fs <= 0) {
+            throw new IllegalArgumentException("Sampling frequency must be positive");
+        }
+        if (N <= 0) {
+            throw new IllegalArgumentException("Block length must be positive");
+        }
+        if (frequencies == null || frequencies.length == 0) {
+            throw new IllegalArgumentException("At least one frequency is required");
+        }
+        this.fs = fs;
+        this.blockLength = N;
+        this.frequencies = frequencies.clone();
+        CachedWindow cached = WindowCache.get(win, N);
+        this.window = win == WindowType.RECTANGULAR ? null : cached.coefficients();
+        // Une sinusoïde d'amplitude A donne une raie de module A.Sum(w)/2
+        this.amplitudeGain = 2.0 / (N * cached.getCoherentGain());
+
+        int count = frequencies.length;
+        this.coeffs = new double[count];
+        for (int k = 0; k < count; k++) {
+            this.coeffs[k] = 2 * Math.cos(2 * Math.PI * frequencies[k] / fs);
+        }
+        this.s1 = new double[count];
+        this.s2 = new double[count];
+        this.powers = new double[count];
+        this.position = 0;
+        this.blocks = 0;
+    }
+
+    /**
+     * Permet de traiter des échantillons du flux.
+     * 
+     * @param samples
+     *            Tableau contenant les échantillons.
+     * @param offset
+     *            Indice du premier échantillon à traiter.
+     * @param length
+     *            Nombre d'échantillons à traiter.
+     * @return Nombre de blocs terminés pendant l'appel.
+     */
+    public int process (final double[] samples, final int offset, final int length) {
+        checkRange(samples.length, offset, length);
+        int completed = 0;
+        for (int n = offset; n < offset + length; n++) {
+            if (update(samples[n])) {
+                completed++;
+            }
+        }
+        return completed;
+    }
+
+    /**
+     * Permet de traiter des échantillons du flux.
+     * 
+     * @param samples
+     *            Tableau contenant les échantillons.
+     * @param offset
+     *            Indice du premier échantillon à traiter.
+     * @param length
+     *            Nombre d'échantillons à traiter.
+     * @return Nombre de blocs terminés pendant l'appel.
+     */
+    public int process (final float[] samples, final int offset, final int length) {
+        checkRange(samples.length, offset, length);
+        int completed = 0;
+        for (int n = offset; n < offset + length; n++) {
+            if (update(samples[n])) {
+                completed++;
+            }
+        }
+        return completed;
+    }
+
+    /**
+     * Renvoie la puissance d'une raie sur le dernier bloc terminé, c'est-à-dire
+     * le carré du module de sa transformée de Fourier discrète.
+     * 
+     * @param tone
+     *            Index de la fréquence surveillée.
+     * @return Puissance de la raie, ou 0 si aucun bloc n'est terminé.
+     */
+    public double getPower (final int tone) {
+        return this.powers[tone];
+    }
+
+    /**
+     * Permet de copier les puissances de toutes les raies sur le dernier bloc
+     * terminé.
+     * 
+     * @param dst
+     *            Tableau recevant les puissances, de taille au moins égale au
+     *            nombre de fréquences surveillées.
+     */
+    public void getPowers (final double[] dst) {
+        System.arraycopy(this.powers, 0, dst, 0, this.powers.length);
+    }
+
+    /**
+     * Renvoie l'amplitude estimée d'une raie sur le dernier bloc terminé,
+     * corrigée du gain cohérent de la fenêtre : une sinusoïde d'amplitude A
+     * centrée sur la fréquence surveillée donne A.
+     * 
+     * @param tone
+     *            Index de la fréquence surveillée.
+     * @return Amplitude estimée.
+     */
+    public double getAmplitude (final int tone) {
+        return Math.sqrt(this.powers[tone]) * this.amplitudeGain;
+    }
+
+    /**
+     * Permet de définir l'objet notifié à la fin de chaque bloc.
+     * 
+     * @param listener
+     *            Objet notifié, ou <code>null</code> pour ne plus être notifié.
+     */
+    public void setListener (final Listener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Permet de réinitialiser le détecteur : le bloc en cours et les puissances
+     * calculées sont effacés.
+     */
+    public void reset () {
+        Arrays.fill(this.s1, 0.0);
+        Arrays.fill(this.s2, 0.0);
+        Arrays.fill(this.powers, 0.0);
+        this.position = 0;
+        this.blocks = 0;
+    }
+
+    /**
+     * Renvoie le nombre de blocs terminés depuis le début du flux.
+     * 
+     * @return Nombre de blocs terminés.
+     */
+    public long getBlockCount () {
+        return this.blocks;
+    }
+
+    /**
+     * Renvoie le nombre d'échantillons d'un bloc.
+     * 
+     * @return Taille d'un bloc.
+     */
+    public int getBlockLength () {
+        return this.blockLength;
+    }
+
+    /**
+     * Renvoie le nombre de fréquences surveillées.
+     * 
+     * @return Nombre de fréquences.
+     */
+    public int getToneCount () {
+        return this.frequencies.length;
+    }
+
+    /**
+     * Renvoie une fréquence surveillée.
+     * 
+     * @param tone
+     *            Index de la fréquence.
+     * @return Fréquence en hertz.
+     */
+    public double getFrequency (final int tone) {
+        return this.frequencies[tone];
+    }
+
+    /**
+     * Renvoie la fréquence d'échantillonnage.
+     * 
+     * @return Fréquence d'échantillonnage en hertz.
+     */
+    public double getSamplingFrequency () {
+        return this.fs;
+    }
+
+    /**
+     * Met à jour les résonateurs avec un échantillon et termine le bloc si
+     * nécessaire.
+     * 
+     * @return <code>true</code> si un bloc a été terminé.
+     */
+    private boolean update (final double sample) {
+        double x = this.window == null ? sample : sample * this.window[this.position];
+        double[] c = this.coeffs;
+        double[] a = this.s1;
+        double[] b = this.s2;
+        for (int k = 0; k < c.length; k++) {
+            double s0 = x + c[k] * a[k] - b[k];
+            b[k] = a[k];
+            a[k] = s0;
+        }
+        if (++this.position < this.blockLength) {
+            return false;
+        }
+        // |X|² = s1² + s2² - 2.cos(w).s1.s2
+        for (int k = 0; k < c.length; k++) {
+            this.powers[k] = a[k] * a[k] + b[k] * b[k] - c[k] * a[k] * b[k];
+        }
+        Arrays.fill(a, 0.0);
+        Arrays.fill(b, 0.0);
+        this.position = 0;
+        long block = this.blocks++;
+        if (this.listener != null) {
+            this.listener.blockCompleted(this, block);
+        }
+        return true;
+    }
+
+    private static void checkRange (int size, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > size) {
+            throw new IndexOutOfBoundsException("Invalid range [" + offset + ";" + (offset + length) + "[");
+        }
+    }
+}
@@ -0,0 +1,349 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 LE SAUCE Julien
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.jls.toolbox.math;
+
+import java.util.Arrays;
+
+import org.jls.toolbox.math.Sweep.SweepType;
+import org.jls.toolbox.math.Window.WindowType;
+
+/**
+ * Corrélateur (filtre adapté) d'un flux d'échantillons avec une réplique, pour
+ * la compression d'impulsion. La corrélation est calculée par overlap-save à
+ * partir du spectre précalculé de la réplique ({@link ReplicaSpectrum}) : pour
+ * chaque bloc, une FFT réelle du segment, un produit par le spectre de la
+ * réplique puis une FFT inverse complexe, sans allocation. Le résultat est le
+ * signal analytique de la corrélation, dont le module (l'enveloppe) est
+ * renvoyé pour chaque échantillon du flux, sans latence.
+ * <p>
+ * L'échantillon n de l'enveloppe correspond à une réplique se terminant à
+ * l'échantillon n du flux, c'est-à-dire débutant à l'échantillon n-L+1. Les
+ * pics de l'enveloppe qui dépassent un seuil sont signalés à un
+ * {@link PeakListener} avec l'index de début de la réplique dans le flux : un
+ * pic est le maximum d'une suite d'échantillons consécutifs au-dessus du seuil,
+ * signalé lorsque l'enveloppe repasse sous le seuil.
+ * <p>
+ * Le débit est maximal lorsque les blocs fournis contiennent au moins
+ * {@link #getBlockLength()} échantillons. Une instance n'est pas thread-safe,
+ * mais plusieurs instances peuvent partager le même spectre de réplique.
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 16, 2026
+ */
+public class MatchedFilter {
+
+    /**
+     * Interface permettant d'être notifié des pics de corrélation.
+     */
+    public interface PeakListener {
+
+        /**
+         * Appelée pour chaque pic d'enveloppe dépassant le seuil.
+         * 
+         * @param index
+         *            Index dans le flux du premier échantillon de la réplique
+         *            détectée.
+         * @param value
+         *            Valeur de l'enveloppe au pic (1 pour la réplique seule).
+         */
+        void peakDetected (long index, double value);
+    }
+
+    private final ReplicaSpectrum replica;
+    private final int replicaLength;
+    private final int fftLength;
+    private final int blockLength;
+    private final FFT fft;
+
+    // Segment d'overlap-save : les L-1 échantillons précédents puis le bloc
+    private final double[] segment;
+    private final double[] spectrumRe;
+    private final double[] spectrumIm;
+    private final double[] outputRe;
+    private final double[] outputIm;
+
+    // Détection de pics
+    private PeakListener listener;
+    private double threshold;
+    private boolean inPeak;
+    private double peakValue;
+    private long peakIndex;
+    private long position;
+
+    /**
+     * Permet d'instancier un corrélateur à partir d'une réplique quelconque.
+     * 
+     * @param replica
+     *            Echantillons de la réplique.
+     */
+    public MatchedFilter(final double[] replica) {
+        this(new ReplicaSpectrum(replica));
+    }
+
+    /**
+     * Permet d'instancier un corrélateur avec la réplique produite par
+     * {@link WaveformGenerator#computeWaveform(WindowType, SweepType, int, int, int, long)},
+     * dont le spectre est partagé via {@link ReplicaSpectrum#get}.
+     * 
+     * @param win
+     *            Enveloppe de la réplique.
+     * @param sw
+     *            Type de balayage de fréquence.
+     * @param fc
+     *            Fréquence centrale en hertz.
+     * @param b
+     *            Largeur de bande en hertz.
+     * @param fs
+     *            Fréquence d'échantillonnage en hertz.
+     * @param T
+     *            Durée de la réplique en millisecondes.
+     */
+    public MatchedFilter(final WindowType win, final SweepType sw, final int fc, final int b, final int fs,
+            final long T) {
+        this(ReplicaSpectrum.get(win, sw, fc, b, fs, T));
+    }
+
+    /**
+     * Permet d'instancier un corrélateur à partir du spectre d'une réplique.
+     * 
+     * @param replica
+     *            Spectre précalculé de la réplique.
+     */
+    public MatchedFilter(final ReplicaSpectrum replica) {
+        if (replica == null) {
+            throw new NullPointerException("Replica spectrum cannot be null");
+        }
+        this.replica = replica;
+        this.replicaLength = replica.getLength();
+        this.fftLength = replica.getFFTLength();
+        this.blockLength = this.fftLength - this.replicaLength + 1;
+        this.fft = FFT.plan(this.fftLength);
+        this.segment = new double[this.fftLength];
+        this.spectrumRe = new double[this.fftLength / 2 + 1];
+        this.spectrumIm = new double[this.fftLength / 2 + 1];
+        this.outputRe = new double[this.fftLength];
+        this.outputIm = new double[this.fftLength];
+        this.threshold = Double.POSITIVE_INFINITY;
+        reset();
+    }
+
+    /**
+     * Permet de corréler des échantillons du flux avec la réplique.
+     * 
+     * @param in
+     *            Tableau contenant les échantillons.
+     * @param inOffset
+     *            Indice du premier échantillon à traiter.
+     * @param envelope
+     *            Tableau recevant l'enveloppe de la corrélation normalisée, ou
+     *            <code>null</code> si seule la détection de pics est utilisée.
+     * @param outOffset
+     *            Indice du premier échantillon écrit dans l'enveloppe.
+     * @param length
+     *            Nombre d'échantillons à traiter.
+     */
+    public void process (final double[] in, final int inOffset, final double[] envelope, final int outOffset,
+            final int length) {
+        checkBounds(in.length, inOffset, envelope == null ? Integer.MAX_VALUE : envelope.length, outOffset, length);
+        int history = this.replicaLength - 1;
+        for (int done = 0; done < length;) {
+            int count = Math.min(this.blockLength, length - done);
+            System.arraycopy(in, inOffset + done, this.segment, history, count);
+            correlate(count);
+            if (envelope != null) {
+                for (int i = 0; i < count; i++) {
+                    envelope[outOffset + done + i] = magnitude(history + i);
+                }
+            }
+            done += count;
+        }
+    }
+
+    /**
+     * Permet de corréler des échantillons du flux avec la réplique.
+     * 
+     * @param in
+     *            Tableau contenant les échantillons.
+     * @param inOffset
+     *            Indice du premier échantillon à traiter.
+     * @param envelope
+     *            Tableau recevant l'enveloppe de la corrélation normalisée, ou
+     *            <code>null</code> si seule la détection de pics est utilisée.
+     * @param outOffset
+     *            Indice du premier échantillon écrit dans l'enveloppe.
+     * @param length
+     *            Nombre d'échantillons à traiter.
+     */
+    public void process (final float[] in, final int inOffset, final float[] envelope, final int outOffset,
+            final int length) {
+        checkBounds(in.length, inOffset, envelope == null ? Integer.MAX_VALUE : envelope.length, outOffset, length);
+        int history = this.replicaLength - 1;
+        for (int done = 0; done < length;) {
+            int count = Math.min(this.blockLength, length - done);
+            for (int i = 0; i < count; i++) {
+                this.segment[history + i] = in[inOffset + done + i];
+            }
+            correlate(count);
+            if (envelope != null) {
+                for (int i = 0; i < count; i++) {
+                    envelope[outOffset + done + i] = (float) magnitude(history + i);
+                }
+            }
+            done += count;
+        }
+    }
+
+    /**
+     * Permet de définir l'objet notifié des pics de corrélation.
+     * 
+     * @param listener
+     *            Objet notifié, ou <code>null</code> pour ne plus être notifié.
+     */
+    public void setPeakListener (final PeakListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Permet de définir le seuil de détection des pics, appliqué à l'enveloppe
+     * normalisée (1 pour la réplique seule).
+     * 
+     * @param threshold
+     *            Seuil de détection strictement positif.
+     */
+    public void setThreshold (final double threshold) {
+        if (!(threshold > 0)) {
+            throw new IllegalArgumentException("Threshold must be positive");
+        }
+        this.threshold = threshold;
+    }
+
+    /**
+     * Renvoie le seuil de détection des pics.
+     * 
+     * @return Seuil de détection, infini si aucun seuil n'est défini.
+     */
+    public double getThreshold () {
+        return this.threshold;
+    }
+
+    /**
+     * Permet de réinitialiser le corrélateur : l'historique du flux et le pic en
+     * cours sont effacés.
+     */
+    public void reset () {
+        Arrays.fill(this.segment, 0.0);
+        this.inPeak = false;
+        this.peakValue = 0;
+        this.peakIndex = 0;
+        this.position = 0;
+    }
+
+    /**
+     * Renvoie le spectre de la réplique utilisé.
+     * 
+     * @return Spectre de la réplique.
+     */
+    public ReplicaSpectrum getReplica () {
+        return this.replica;
+    }
+
+    /**
+     * Renvoie le nombre maximal d'échantillons traités par une FFT.
+     * 
+     * @return Taille d'un bloc d'overlap-save.
+     */
+    public int getBlockLength () {
+        return this.blockLength;
+    }
+
+    /**
+     * Corrèle le segment contenant count nouveaux échantillons à partir de
+     * l'indice L-1, détecte les pics puis conserve les L-1 derniers
+     * échantillons en tête du segment.
+     */
+    private void correlate (final int count) {
+        int history = this.replicaLength - 1;
+        int n = this.fftLength;
+        int h = n / 2;
+        Arrays.fill(this.segment, history + count, n, 0.0);
+        this.fft.rfft(this.segment, this.spectrumRe, this.spectrumIm);
+
+        // Le flux étant réel, X(n-k) = conj(X(k)) ; la réponse de la réplique
+        // analytique est quasi unilatérale mais appliquée sur tout le spectre
+        double[] gr = this.replica.real();
+        double[] gi = this.replica.imaginary();
+        for (int k = 0; k <= h; k++) {
+            double xr = this.spectrumRe[k];
+            double xi = this.spectrumIm[k];
+            this.outputRe[k] = xr * gr[k] - xi * gi[k];
+            this.outputIm[k] = xr * gi[k] + xi * gr[k];
+            if (k > 0 && k < h) {
+                int j = n - k;
+                this.outputRe[j] = xr * gr[j] + xi * gi[j];
+                this.outputIm[j] = xr * gi[j] - xi * gr[j];
+            }
+        }
+        this.fft.ifft(this.outputRe, this.outputIm);
+
+        if (this.listener != null) {
+            detectPeaks(count);
+        }
+        this.position += count;
+        System.arraycopy(this.segment, count, this.segment, 0, history);
+    }
+
+    /**
+     * Recherche les pics parmi les count échantillons d'enveloppe calculés.
+     */
+    private void detectPeaks (final int count) {
+        int history = this.replicaLength - 1;
+        for (int i = 0; i < count; i++) {
+            double v = magnitude(history + i);
+            if (v >= this.threshold) {
+                if (!this.inPeak || v > this.peakValue) {
+                    this.peakValue = v;
+                    this.peakIndex = this.position + i - history;
+                }
+                this.inPeak = true;
+            } else if (this.inPeak) {
+                this.inPeak = false;
+                this.listener.peakDetected(this.peakIndex, this.peakValue);
+            }
+        }
+    }
+
+    private double magnitude (final int i) {
+        double re = this.outputRe[i];
+        double im = this.outputIm[i];
+        return Math.sqrt(re * re + im * im);
+    }
+
+    private static void checkBounds (int inLength, int inOffset, int outLength, int outOffset, int length) {
+        if (length < 0 || inOffset < 0 || outOffset < 0 || inOffset + length > inLength
+                || outOffset + length > outLength) {
+            throw new IllegalArgumentException("Invalid offset or length");
+        }
+    }
+}
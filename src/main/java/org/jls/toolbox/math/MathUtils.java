@@ -32,6 +32,28 @@ package org.jls.toolbox.math;
  */
 public class MathUtils {
 
+    private static final float HALF_PI = (float) (Math.PI / 2.0);
+    private static final float PI = (float) Math.PI;
+
+    // Coefficients minimax de atan(a) sur [0;1]
+    private static final float ATAN_A1 = 0.99997726f;
+    private static final float ATAN_A3 = -0.33262347f;
+    private static final float ATAN_A5 = 0.19354346f;
+    private static final float ATAN_A7 = -0.11643287f;
+    private static final float ATAN_A9 = 0.05265332f;
+    private static final float ATAN_A11 = -0.01172120f;
+
+    // Série de log2(m) = 2/ln(2) * atanh((m-1)/(m+1)) sur [sqrt(2)/2;sqrt(2)[
+    private static final float LOG2_C1 = (float) (2.0 / Math.log(2.0));
+    private static final float LOG2_C3 = (float) (2.0 / (3.0 * Math.log(2.0)));
+    private static final float LOG2_C5 = (float) (2.0 / (5.0 * Math.log(2.0)));
+    private static final float LOG2_C7 = (float) (2.0 / (7.0 * Math.log(2.0)));
+    // Mantisse de sqrt(2) en simple précision
+    private static final int SQRT2_MANTISSA = 0x3504F3;
+
+    private static final float DB_AMPLITUDE = (float) (20.0 * Math.log10(2.0));
+    private static final float DB_POWER = (float) (10.0 * Math.log10(2.0));
+
     /**
      * Permet d'arrondir une valeur à un nombre de décimales près.
      * 
@@ -59,10 +81,19 @@ public class MathUtils {
      *         spécifié.
      */
     public static int max (final double[] tab) {
+        if (tab == null) {
+            throw new NullPointerException("Array cannot be null");
+        }
+        if (tab.length == 0) {
+            throw new IllegalArgumentException("Array has zero length");
+        }
         int index = 0;
         double max = tab[index];
         for (int i = 0; i < tab.length; i++) {
-            index = tab[i] > max ? i : index;
+            if (tab[i] > max) {
+                index = i;
+                max = tab[i];
+            }
         }
         return index;
     }
@@ -83,9 +114,12 @@ public class MathUtils {
             throw new IllegalArgumentException("Array has zero length");
         }
         int index = 0;
-        double max = tab[index];
+        double min = tab[index];
         for (int i = 0; i < tab.length; i++) {
-            index = tab[i] < max ? i : index;
+            if (tab[i] < min) {
+                index = i;
+                min = tab[i];
+            }
         }
         return index;
     }
@@ -108,11 +142,12 @@ public class MathUtils {
             throw new IllegalArgumentException("Array has zero length");
         }
         int index = 0;
-        double max = tab[0];
+        double max = Math.abs(tab[0]);
         for (int i = 0; i < tab.length; i++) {
-            if (tab[i] > max) {
+            double abs = Math.abs(tab[i]);
+            if (abs > max) {
                 index = i;
-                max = tab[i];
+                max = abs;
             }
         }
         return index;
@@ -162,6 +197,40 @@ public class MathUtils {
         return Math.sqrt(sum / an.length);
     }
 
+    /**
+     * Permet de calculer en un seul parcours le minimum, le maximum, le maximum
+     * en valeur absolue, la moyenne, la variance et la moyenne quadratique d'un
+     * tableau d'échantillons. Les grands tableaux sont réduits en parallèle.
+     * 
+     * @param tab
+     *            Tableau non vide d'échantillons.
+     * @return Statistiques du tableau.
+     * @see Statistics
+     */
+    public static Statistics statistics (final double[] tab) {
+        if (tab == null) {
+            throw new NullPointerException("Array cannot be null");
+        }
+        return Statistics.of(tab);
+    }
+
+    /**
+     * Permet de calculer en un seul parcours le minimum, le maximum, le maximum
+     * en valeur absolue, la moyenne, la variance et la moyenne quadratique d'un
+     * tableau d'échantillons. Les grands tableaux sont réduits en parallèle.
+     * 
+     * @param tab
+     *            Tableau non vide d'échantillons.
+     * @return Statistiques du tableau.
+     * @see Statistics
+     */
+    public static Statistics statistics (final float[] tab) {
+        if (tab == null) {
+            throw new NullPointerException("Array cannot be null");
+        }
+        return Statistics.of(tab);
+    }
+
     /**
      * Permet de normaliser les valeurs du tableau par le maximum en valeur absolue.
      * Cela a pour effet de normaliser toutes les valeurs entre -1.0 et 1.0. Pour
@@ -180,7 +249,7 @@ public class MathUtils {
             throw new IllegalArgumentException("Array has zero length");
         }
         // Recherche de la valeur absolue du max
-        double max = Math.abs(tab[maxAbs(tab)]);
+        double max = Statistics.of(tab).getMaxAbs();
         // On divise toutes les valeurs par le maximum
         for (int i = 0; i < tab.length; i++) {
             tab[i] /= max;
@@ -209,11 +278,7 @@ public class MathUtils {
             // Phase
             // Cas d'une limite infinie (division par 0)
             if (real[i] == 0) {
-                if (img[i] >= 0) {
-                    phase[i] = (float) (4 * Math.atan(1.0) / 2.0f);
-                } else {
-                    phase[i] = (float) (-4 * Math.atan(1.0) / 2.0f);
-                }
+                phase[i] = img[i] >= 0 ? HALF_PI : -HALF_PI;
             } else {
                 phase[i] = (float) Math.atan(img[i] / real[i]);
             }
@@ -233,4 +298,212 @@ public class MathUtils {
             mod[i] = (float) (20 * Math.log10(mod[i]));
         }
     }
+
+    /**
+     * Permet de calculer le carré du module d'une liste de nombres complexes,
+     * <i>dst(n)=re(n)²+im(n)²</i>. Le résultat peut être écrit dans l'un des
+     * tableaux d'entrée.
+     * 
+     * @param real
+     *            Liste de N valeurs réelles.
+     * @param img
+     *            Liste de N valeurs imaginaires.
+     * @param dst
+     *            Tableau pré-alloué de taille N recevant les modules au carré.
+     */
+    public static void magnitudeSquared (final float[] real, final float[] img, final float[] dst) {
+        checkSizes(real, img, dst);
+        for (int i = 0; i < real.length; i++) {
+            dst[i] = real[i] * real[i] + img[i] * img[i];
+        }
+    }
+
+    /**
+     * Permet de calculer le module d'une liste de nombres complexes. Contrairement
+     * à {@link Math#hypot(double, double)}, aucune protection contre le
+     * dépassement n'est assurée : les carrés doivent être représentables en
+     * simple précision.
+     * 
+     * @param real
+     *            Liste de N valeurs réelles.
+     * @param img
+     *            Liste de N valeurs imaginaires.
+     * @param dst
+     *            Tableau pré-alloué de taille N recevant les modules.
+     */
+    public static void magnitude (final float[] real, final float[] img, final float[] dst) {
+        checkSizes(real, img, dst);
+        for (int i = 0; i < real.length; i++) {
+            dst[i] = (float) Math.sqrt(real[i] * real[i] + img[i] * img[i]);
+        }
+    }
+
+    /**
+     * Permet de calculer la phase d'une liste de nombres complexes sur les quatre
+     * quadrants, <i>dst(n)=atan2(im(n), re(n))</i>.
+     * 
+     * @param real
+     *            Liste de N valeurs réelles.
+     * @param img
+     *            Liste de N valeurs imaginaires.
+     * @param dst
+     *            Tableau pré-alloué de taille N recevant les phases en radians,
+     *            entre -PI et PI.
+     */
+    public static void phase (final float[] real, final float[] img, final float[] dst) {
+        checkSizes(real, img, dst);
+        for (int i = 0; i < real.length; i++) {
+            dst[i] = (float) Math.atan2(img[i], real[i]);
+        }
+    }
+
+    /**
+     * Permet de calculer une approximation de la phase d'une liste de nombres
+     * complexes sur les quatre quadrants. L'erreur absolue par rapport à
+     * {@link #phase(float[], float[], float[])} est inférieure à 1e-5 radian.
+     * 
+     * @param real
+     *            Liste de N valeurs réelles.
+     * @param img
+     *            Liste de N valeurs imaginaires.
+     * @param dst
+     *            Tableau pré-alloué de taille N recevant les phases en radians,
+     *            entre -PI et PI.
+     * @see #fastAtan2(float, float)
+     */
+    public static void fastPhase (final float[] real, final float[] img, final float[] dst) {
+        checkSizes(real, img, dst);
+        for (int i = 0; i < real.length; i++) {
+            dst[i] = fastAtan2(img[i], real[i]);
+        }
+    }
+
+    /**
+     * Permet de convertir des modules en décibels, <i>dst(n)=20*log10(mod(n))</i>.
+     * Le résultat peut être écrit dans le tableau d'entrée.
+     * 
+     * @param mod
+     *            Liste de N modules.
+     * @param dst
+     *            Tableau pré-alloué de taille N recevant les gains en dB.
+     */
+    public static void decibels (final float[] mod, final float[] dst) {
+        checkSizes(mod, dst);
+        for (int i = 0; i < mod.length; i++) {
+            dst[i] = (float) (20 * Math.log10(mod[i]));
+        }
+    }
+
+    /**
+     * Permet de convertir des puissances (modules au carré) en décibels,
+     * <i>dst(n)=10*log10(pow(n))</i>. Associée à
+     * {@link #magnitudeSquared(float[], float[], float[])}, elle évite le calcul
+     * de la racine carrée.
+     * 
+     * @param power
+     *            Liste de N puissances.
+     * @param dst
+     *            Tableau pré-alloué de taille N recevant les gains en dB.
+     */
+    public static void powerDecibels (final float[] power, final float[] dst) {
+        checkSizes(power, dst);
+        for (int i = 0; i < power.length; i++) {
+            dst[i] = (float) (10 * Math.log10(power[i]));
+        }
+    }
+
+    /**
+     * Permet de convertir des modules en décibels de manière approchée. L'erreur
+     * absolue par rapport à {@link #decibels(float[], float[])} est inférieure à
+     * 1e-4 dB pour tout module normalisé en simple précision ; les modules nuls,
+     * sous-normaux ou négatifs donnent <i>-Infinity</i>.
+     * 
+     * @param mod
+     *            Liste de N modules.
+     * @param dst
+     *            Tableau pré-alloué de taille N recevant les gains en dB.
+     * @see #fastLog2(float)
+     */
+    public static void fastDecibels (final float[] mod, final float[] dst) {
+        checkSizes(mod, dst);
+        for (int i = 0; i < mod.length; i++) {
+            dst[i] = DB_AMPLITUDE * fastLog2(mod[i]);
+        }
+    }
+
+    /**
+     * Permet de convertir des puissances en décibels de manière approchée.
+     * L'erreur absolue par rapport à {@link #powerDecibels(float[], float[])} est
+     * inférieure à 1e-4 dB pour toute puissance normalisée en simple précision ;
+     * les puissances nulles, sous-normales ou négatives donnent <i>-Infinity</i>.
+     * 
+     * @param power
+     *            Liste de N puissances.
+     * @param dst
+     *            Tableau pré-alloué de taille N recevant les gains en dB.
+     */
+    public static void fastPowerDecibels (final float[] power, final float[] dst) {
+        checkSizes(power, dst);
+        for (int i = 0; i < power.length; i++) {
+            dst[i] = DB_POWER * fastLog2(power[i]);
+        }
+    }
+
+    /**
+     * Renvoie une approximation de <i>atan2(y, x)</i>. L'argument est ramené sur
+     * [0;1] par symétries puis évalué par un polynôme minimax de degré 11, sans
+     * appel de fonction ni branchement autre que des sélections.
+     * 
+     * @param y
+     *            Ordonnée.
+     * @param x
+     *            Abscisse.
+     * @return Angle en radians entre -PI et PI, à 1e-5 radian près.
+     */
+    public static float fastAtan2 (final float y, final float x) {
+        float ax = Math.abs(x);
+        float ay = Math.abs(y);
+        float max = Math.max(ax, ay);
+        float a = max == 0f ? 0f : Math.min(ax, ay) / max;
+        float s = a * a;
+        float r = a * (ATAN_A1 + s * (ATAN_A3 + s * (ATAN_A5 + s * (ATAN_A7 + s * (ATAN_A9 + s * ATAN_A11)))));
+        r = ay > ax ? HALF_PI - r : r;
+        // Signes testés par copySign pour traiter -0 comme atan2
+        r = Math.copySign(1f, x) < 0 ? PI - r : r;
+        return Math.copySign(r, y);
+    }
+
+    /**
+     * Renvoie une approximation du logarithme en base 2. L'exposant est extrait
+     * de la représentation IEEE 754 et la mantisse, ramenée sur
+     * [sqrt(2)/2;sqrt(2)[, est évaluée par la série de atanh.
+     * 
+     * @param v
+     *            Valeur strictement positive.
+     * @return Logarithme en base 2, à 4e-6 près, ou <i>-Infinity</i> si la valeur
+     *         est nulle, sous-normale ou négative.
+     */
+    public static float fastLog2 (final float v) {
+        int bits = Float.floatToRawIntBits(v);
+        int mantissa = bits & 0x7FFFFF;
+        int adjust = mantissa > SQRT2_MANTISSA ? 1 : 0;
+        float m = Float.intBitsToFloat(mantissa | ((127 - adjust) << 23));
+        float t = (m - 1f) / (m + 1f);
+        float t2 = t * t;
+        float log2 = ((bits >>> 23) - 127 + adjust) + t * (LOG2_C1 + t2 * (LOG2_C3 + t2 * (LOG2_C5 + t2 * LOG2_C7)));
+        return v < Float.MIN_NORMAL ? Float.NEGATIVE_INFINITY : log2;
+    }
+
+    private static void checkSizes (final float[] src, final float[] dst) {
+        if (dst.length < src.length) {
+            throw new IllegalArgumentException("Output array size must be at least " + src.length);
+        }
+    }
+
+    private static void checkSizes (final float[] real, final float[] img, final float[] dst) {
+        if (real.length != img.length) {
+            throw new IllegalArgumentException("Different sizes for real[] and img[]");
+        }
+        checkSizes(real, dst);
+    }
 }
@@ -0,0 +1,482 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 LE SAUCE Julien
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.jls.toolbox.math;
+
+/**
+ * Permet de calculer la FFT d'une séquence de longueur N quelconque. Le plan de
+ * calcul est déterminé une seule fois à l'instanciation :
+ * <ul>
+ * <li>Si N est une puissance de 2, le calcul est délégué à {@link FFT}.
+ * <li>Si N ne contient que des facteurs 2, 3 et 5, on utilise un algorithme de
+ * Stockham à base mixte (radix 4, 2, 3 et 5).
+ * <li>Sinon (N premier ou contenant d'autres facteurs), on utilise l'algorithme
+ * de Bluestein qui ramène le calcul à une convolution calculée avec une
+ * {@link FFT} de taille puissance de 2.
+ * </ul>
+ * Les tables de twiddles et les tampons de travail sont alloués à
+ * l'instanciation, les transformées n'effectuent donc aucune allocation. En
+ * conséquence une instance ne doit pas être partagée entre plusieurs threads.
+ *
+ * @author LE SAUCE Julien
+ * @date Oct 16, 2026
+ */
+public class MixedRadixFFT {
+
+    private final int N;
+    private final int[] factors;
+
+    // Délégation pour les puissances de 2
+    private final FFT radix2;
+
+    // Base mixte : twiddles W(k)=exp(-2.j.PI.k/N) et tampon de Stockham
+    private final double[] cos;
+    private final double[] sin;
+    private final double[] workRe;
+    private final double[] workIm;
+
+    // Bluestein : chirp, réponse du filtre dans le domaine fréquentiel et
+    // tampon de convolution
+    private final FFT convolution;
+    private final double[] chirpCos;
+    private final double[] chirpSin;
+    private final double[] filterRe;
+    private final double[] filterIm;
+    private final double[] convRe;
+    private final double[] convIm;
+
+    // Tampons de conversion pour les données en simple précision
+    private final double[] bufRe;
+    private final double[] bufIm;
+
+    /**
+     * Permet d'instancier le plan de calcul d'une FFT de longueur N.
+     *
+     * @param n
+     *            Longueur de la FFT (strictement positive).
+     */
+    public MixedRadixFFT(final int n) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("FFT length must be positive");
+        }
+        this.N = n;
+        if ((n & (n - 1)) == 0) {
+            this.radix2 = FFT.plan(n);
+            this.factors = null;
+            this.cos = null;
+            this.sin = null;
+            this.workRe = null;
+            this.workIm = null;
+            this.convolution = null;
+            this.chirpCos = null;
+            this.chirpSin = null;
+            this.filterRe = null;
+            this.filterIm = null;
+            this.convRe = null;
+            this.convIm = null;
+            this.bufRe = null;
+            this.bufIm = null;
+            return;
+        }
+        this.radix2 = null;
+        this.bufRe = new double[n];
+        this.bufIm = new double[n];
+        int[] f = factorize(n);
+        if (f != null) {
+            // Base mixte
+            this.factors = f;
+            this.cos = new double[n];
+            this.sin = new double[n];
+            for (int k = 0; k < n; k++) {
+                this.cos[k] = Math.cos(-2 * Math.PI * k / n);
+                this.sin[k] = Math.sin(-2 * Math.PI * k / n);
+            }
+            this.workRe = new double[n];
+            this.workIm = new double[n];
+            this.convolution = null;
+            this.chirpCos = null;
+            this.chirpSin = null;
+            this.filterRe = null;
+            this.filterIm = null;
+            this.convRe = null;
+            this.convIm = null;
+        } else {
+            // Bluestein : convolution de taille M >= 2N-1
+            this.factors = null;
+            this.cos = null;
+            this.sin = null;
+            this.workRe = null;
+            this.workIm = null;
+            int m = Integer.highestOneBit(2 * n - 1);
+            if (m < 2 * n - 1) {
+                m <<= 1;
+            }
+            this.convolution = FFT.plan(m);
+            this.chirpCos = new double[n];
+            this.chirpSin = new double[n];
+            for (int k = 0; k < n; k++) {
+                // w(k)=exp(-j.PI.k²/N), k² calculé modulo 2N pour la précision
+                double angle = Math.PI * ((long) k * k % (2L * n)) / n;
+                this.chirpCos[k] = Math.cos(angle);
+                this.chirpSin[k] = -Math.sin(angle);
+            }
+            // Filtre b(k)=conj(w(k)) rendu circulaire, normalisé par 1/M pour
+            // intégrer la division de la FFT inverse
+            this.filterRe = new double[m];
+            this.filterIm = new double[m];
+            this.filterRe[0] = this.chirpCos[0] / m;
+            this.filterIm[0] = -this.chirpSin[0] / m;
+            for (int k = 1; k < n; k++) {
+                this.filterRe[k] = this.filterRe[m - k] = this.chirpCos[k] / m;
+                this.filterIm[k] = this.filterIm[m - k] = -this.chirpSin[k] / m;
+            }
+            this.convolution.fft(this.filterRe, this.filterIm);
+            this.convRe = new double[m];
+            this.convIm = new double[m];
+        }
+    }
+
+    /**
+     * Permet de décomposer N en facteurs 4, 2, 3 et 5.
+     *
+     * @param n
+     *            Longueur à décomposer.
+     * @return Liste des facteurs, ou <code>null</code> si N contient un autre
+     *         facteur premier.
+     */
+    private static int[] factorize (int n) {
+        int[] f = new int[32];
+        int count = 0;
+        int[] radices = { 4, 2, 3, 5 };
+        for (int p : radices) {
+            while (n % p == 0) {
+                f[count++] = p;
+                n /= p;
+            }
+        }
+        if (n != 1) {
+            return null;
+        }
+        int[] result = new int[count];
+        System.arraycopy(f, 0, result, 0, count);
+        return result;
+    }
+
+    /**
+     * Permet de calculer la FFT directe en place.
+     *
+     * @param real
+     *            Tableau de taille N représentant la partie réelle.
+     * @param img
+     *            Tableau de taille N représentant la partie imaginaire.
+     */
+    public void fft (final double[] real, final double[] img) {
+        checkBuffers(real.length, img.length);
+        if (this.radix2 != null) {
+            this.radix2.fft(real, img);
+        } else if (this.factors != null) {
+            stockham(real, img);
+        } else {
+            bluestein(real, img);
+        }
+    }
+
+    /**
+     * Permet de calculer la FFT directe en place.
+     *
+     * @param real
+     *            Tableau de taille N représentant la partie réelle.
+     * @param img
+     *            Tableau de taille N représentant la partie imaginaire.
+     */
+    public void fft (final float[] real, final float[] img) {
+        checkBuffers(real.length, img.length);
+        if (this.radix2 != null) {
+            this.radix2.fft(real, img);
+            return;
+        }
+        for (int i = 0; i < this.N; i++) {
+            this.bufRe[i] = real[i];
+            this.bufIm[i] = img[i];
+        }
+        fft(this.bufRe, this.bufIm);
+        for (int i = 0; i < this.N; i++) {
+            real[i] = (float) this.bufRe[i];
+            img[i] = (float) this.bufIm[i];
+        }
+    }
+
+    /**
+     * Permet de calculer la FFT inverse en place (normalisée par 1/N).
+     *
+     * @param real
+     *            Tableau de taille N représentant la partie réelle.
+     * @param img
+     *            Tableau de taille N représentant la partie imaginaire.
+     */
+    public void ifft (final double[] real, final double[] img) {
+        checkBuffers(real.length, img.length);
+        // ifft(x) = conj(fft(conj(x))) / N
+        for (int i = 0; i < this.N; i++) {
+            img[i] = -img[i];
+        }
+        fft(real, img);
+        double scale = 1.0 / this.N;
+        for (int i = 0; i < this.N; i++) {
+            real[i] *= scale;
+            img[i] *= -scale;
+        }
+    }
+
+    /**
+     * Permet de calculer la FFT inverse en place (normalisée par 1/N).
+     *
+     * @param real
+     *            Tableau de taille N représentant la partie réelle.
+     * @param img
+     *            Tableau de taille N représentant la partie imaginaire.
+     */
+    public void ifft (final float[] real, final float[] img) {
+        checkBuffers(real.length, img.length);
+        for (int i = 0; i < this.N; i++) {
+            img[i] = -img[i];
+        }
+        fft(real, img);
+        float scale = 1.0f / this.N;
+        for (int i = 0; i < this.N; i++) {
+            real[i] *= scale;
+            img[i] *= -scale;
+        }
+    }
+
+    /**
+     * Renvoie la longueur de la FFT.
+     *
+     * @return Longueur N de la FFT.
+     */
+    public int getLength () {
+        return this.N;
+    }
+
+    private void checkBuffers (int realLength, int imgLength) {
+        if (realLength < this.N || imgLength < this.N) {
+            throw new IllegalArgumentException("Buffer size must be at least " + this.N);
+        }
+    }
+
+    /**
+     * Algorithme de Stockham à base mixte (décimation en fréquence, sans
+     * permutation finale). Chaque étage lit un tampon et écrit dans l'autre.
+     */
+    private void stockham (final double[] real, final double[] img) {
+        final int n = this.N;
+        final double[] c = this.cos;
+        final double[] sn = this.sin;
+        double[] xr = real, xi = img, yr = this.workRe, yi = this.workIm;
+        int s = 1;
+
+        for (int p : this.factors) {
+            final int m = n / (s * p);
+            final int sm = s * m;
+            for (int j = 0; j < m; j++) {
+                final int tw = j * s;
+                final double w1r = c[tw], w1i = sn[tw];
+                final int in = s * j;
+                final int out = s * p * j;
+                switch (p) {
+                    case 2:
+                        for (int k = 0; k < s; k++) {
+                            int i0 = in + k, o = out + k;
+                            double ar = xr[i0], ai = xi[i0];
+                            double br = xr[i0 + sm], bi = xi[i0 + sm];
+                            yr[o] = ar + br;
+                            yi[o] = ai + bi;
+                            double dr = ar - br, di = ai - bi;
+                            yr[o + s] = dr * w1r - di * w1i;
+                            yi[o + s] = dr * w1i + di * w1r;
+                        }
+                        break;
+                    case 3: {
+                        final double w2r = c[2 * tw], w2i = sn[2 * tw];
+                        final double h = 0.86602540378443864676; // sin(2.PI/3)
+                        for (int k = 0; k < s; k++) {
+                            int i0 = in + k, o = out + k;
+                            double a0r = xr[i0], a0i = xi[i0];
+                            double a1r = xr[i0 + sm], a1i = xi[i0 + sm];
+                            double a2r = xr[i0 + 2 * sm], a2i = xi[i0 + 2 * sm];
+                            double tr = a1r + a2r, ti = a1i + a2i;
+                            double ur = a0r - 0.5 * tr, ui = a0i - 0.5 * ti;
+                            double vr = h * (a1i - a2i), vi = -h * (a1r - a2r);
+                            yr[o] = a0r + tr;
+                            yi[o] = a0i + ti;
+                            double br = ur + vr, bi = ui + vi;
+                            yr[o + s] = br * w1r - bi * w1i;
+                            yi[o + s] = br * w1i + bi * w1r;
+                            br = ur - vr;
+                            bi = ui - vi;
+                            yr[o + 2 * s] = br * w2r - bi * w2i;
+                            yi[o + 2 * s] = br * w2i + bi * w2r;
+                        }
+                        break;
+                    }
+                    case 4: {
+                        final double w2r = c[2 * tw], w2i = sn[2 * tw];
+                        final double w3r = c[3 * tw], w3i = sn[3 * tw];
+                        for (int k = 0; k < s; k++) {
+                            int i0 = in + k, o = out + k;
+                            double a0r = xr[i0], a0i = xi[i0];
+                            double a1r = xr[i0 + sm], a1i = xi[i0 + sm];
+                            double a2r = xr[i0 + 2 * sm], a2i = xi[i0 + 2 * sm];
+                            double a3r = xr[i0 + 3 * sm], a3i = xi[i0 + 3 * sm];
+                            double t0r = a0r + a2r, t0i = a0i + a2i;
+                            double t1r = a0r - a2r, t1i = a0i - a2i;
+                            double t2r = a1r + a3r, t2i = a1i + a3i;
+                            double t3r = a1r - a3r, t3i = a1i - a3i;
+                            yr[o] = t0r + t2r;
+                            yi[o] = t0i + t2i;
+                            // A1 = t1 - j.t3
+                            double br = t1r + t3i, bi = t1i - t3r;
+                            yr[o + s] = br * w1r - bi * w1i;
+                            yi[o + s] = br * w1i + bi * w1r;
+                            // A2 = t0 - t2
+                            br = t0r - t2r;
+                            bi = t0i - t2i;
+                            yr[o + 2 * s] = br * w2r - bi * w2i;
+                            yi[o + 2 * s] = br * w2i + bi * w2r;
+                            // A3 = t1 + j.t3
+                            br = t1r - t3i;
+                            bi = t1i + t3r;
+                            yr[o + 3 * s] = br * w3r - bi * w3i;
+                            yi[o + 3 * s] = br * w3i + bi * w3r;
+                        }
+                        break;
+                    }
+                    case 5: {
+                        final double w2r = c[2 * tw], w2i = sn[2 * tw];
+                        final double w3r = c[3 * tw], w3i = sn[3 * tw];
+                        final double w4r = c[4 * tw], w4i = sn[4 * tw];
+                        final double c1 = 0.30901699437494742410; // cos(2.PI/5)
+                        final double c2 = -0.80901699437494742410; // cos(4.PI/5)
+                        final double s1 = 0.95105651629515357212; // sin(2.PI/5)
+                        final double s2 = 0.58778525229247312917; // sin(4.PI/5)
+                        for (int k = 0; k < s; k++) {
+                            int i0 = in + k, o = out + k;
+                            double a0r = xr[i0], a0i = xi[i0];
+                            double a1r = xr[i0 + sm], a1i = xi[i0 + sm];
+                            double a2r = xr[i0 + 2 * sm], a2i = xi[i0 + 2 * sm];
+                            double a3r = xr[i0 + 3 * sm], a3i = xi[i0 + 3 * sm];
+                            double a4r = xr[i0 + 4 * sm], a4i = xi[i0 + 4 * sm];
+                            double p14r = a1r + a4r, p14i = a1i + a4i;
+                            double m14r = a1r - a4r, m14i = a1i - a4i;
+                            double p23r = a2r + a3r, p23i = a2i + a3i;
+                            double m23r = a2r - a3r, m23i = a2i - a3i;
+                            yr[o] = a0r + p14r + p23r;
+                            yi[o] = a0i + p14i + p23i;
+                            // Parties paires et impaires des sorties 1/4 et 2/3
+                            double e1r = a0r + c1 * p14r + c2 * p23r, e1i = a0i + c1 * p14i + c2 * p23i;
+                            double e2r = a0r + c2 * p14r + c1 * p23r, e2i = a0i + c2 * p14i + c1 * p23i;
+                            double q1r = s1 * m14r + s2 * m23r, q1i = s1 * m14i + s2 * m23i;
+                            double q2r = s2 * m14r - s1 * m23r, q2i = s2 * m14i - s1 * m23i;
+                            // A1 = e1 - j.q1, A4 = e1 + j.q1
+                            double br = e1r + q1i, bi = e1i - q1r;
+                            yr[o + s] = br * w1r - bi * w1i;
+                            yi[o + s] = br * w1i + bi * w1r;
+                            br = e1r - q1i;
+                            bi = e1i + q1r;
+                            yr[o + 4 * s] = br * w4r - bi * w4i;
+                            yi[o + 4 * s] = br * w4i + bi * w4r;
+                            // A2 = e2 - j.q2, A3 = e2 + j.q2
+                            br = e2r + q2i;
+                            bi = e2i - q2r;
+                            yr[o + 2 * s] = br * w2r - bi * w2i;
+                            yi[o + 2 * s] = br * w2i + bi * w2r;
+                            br = e2r - q2i;
+                            bi = e2i + q2r;
+                            yr[o + 3 * s] = br * w3r - bi * w3i;
+                            yi[o + 3 * s] = br * w3i + bi * w3r;
+                        }
+                        break;
+                    }
+                    default:
+                        throw new IllegalStateException("Unsupported radix " + p);
+                }
+            }
+            // Echange des tampons
+            double[] tr = xr;
+            double[] ti = xi;
+            xr = yr;
+            xi = yi;
+            yr = tr;
+            yi = ti;
+            s *= p;
+        }
+        // Le résultat est dans le tampon de travail si le nombre d'étages est
+        // impair
+        if (xr != real) {
+            System.arraycopy(xr, 0, real, 0, n);
+            System.arraycopy(xi, 0, img, 0, n);
+        }
+    }
+
+    /**
+     * Algorithme de Bluestein : X(k)=w(k).Σ[x(n).w(n)].conj(w(k-n)) avec
+     * w(n)=exp(-j.PI.n²/N), la convolution étant calculée par FFT.
+     */
+    private void bluestein (final double[] real, final double[] img) {
+        final int n = this.N;
+        final int m = this.convRe.length;
+        final double[] ar = this.convRe;
+        final double[] ai = this.convIm;
+
+        // a(k) = x(k).w(k), complété par des zéros
+        for (int k = 0; k < n; k++) {
+            double wr = this.chirpCos[k], wi = this.chirpSin[k];
+            ar[k] = real[k] * wr - img[k] * wi;
+            ai[k] = real[k] * wi + img[k] * wr;
+        }
+        for (int k = n; k < m; k++) {
+            ar[k] = 0.0;
+            ai[k] = 0.0;
+        }
+        this.convolution.fft(ar, ai);
+
+        // Produit avec le filtre, suivi de la FFT inverse par conjugaison
+        for (int k = 0; k < m; k++) {
+            double br = this.filterRe[k], bi = this.filterIm[k];
+            double r = ar[k] * br - ai[k] * bi;
+            double i = ar[k] * bi + ai[k] * br;
+            ar[k] = r;
+            ai[k] = -i;
+        }
+        this.convolution.fft(ar, ai);
+
+        // X(k) = w(k).conj(a(k))
+        for (int k = 0; k < n; k++) {
+            double wr = this.chirpCos[k], wi = this.chirpSin[k];
+            double cr = ar[k], ci = -ai[k];
+            real[k] = cr * wr - ci * wi;
+            img[k] = cr * wi + ci * wr;
+        }
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 LE SAUCE Julien
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.jls.toolbox.math;
+
+import java.util.Arrays;
+
+/**
+ * Oscillateur à commande numérique (NCO) générant une somme de sinusoïdes à
+ * partir d'une {@link SineTable}. Chaque fréquence dispose de son propre
+ * accumulateur de phase sur 32 bits : le calcul d'un échantillon ne demande
+ * qu'une addition entière et une lecture de table par fréquence, au lieu d'un
+ * appel à {@link Math#sin(double)}.
+ * <p>
+ * La somme est normalisée par le nombre de fréquences, comme dans
+ * {@link Sweep#continuousWave(double, long, double, double...)}. La résolution
+ * en fréquence est de Fs/2<sup>32</sup>. La phase de chaque fréquence reste
+ * continue d'un bloc à l'autre et lors d'un changement de fréquence. Une
+ * instance n'est pas thread-safe.
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 16, 2026
+ */
+public class NCO {
+
+    private final SineTable table;
+    private final double fs;
+    private final int[] phases;
+    private final int[] increments;
+    private final double gain;
+
+    /**
+     * Permet d'instancier un oscillateur utilisant la table par défaut.
+     * 
+     * @param fs
+     *            Fréquence d'échantillonnage en hertz.
+     * @param frequencies
+     *            Fréquence(s) générée(s) en hertz.
+     */
+    public NCO(double fs, double... frequencies) {
+        this(SineTable.DEFAULT, fs, frequencies);
+    }
+
+    /**
+     * Permet d'instancier un oscillateur.
+     * 
+     * @param table
+     *            Table de sinus utilisée.
+     * @param fs
+     *            Fréquence d'échantillonnage en hertz.
+     * @param frequencies
+     *            Fréquence(s) générée(s) en hertz.
+     */
+    public NCO(SineTable table, double fs, double... frequencies) {
+        if (table == null) {
+            throw new NullPointerException("Sine table cannot be null");
+        }
+        if (fs <= 0) {
+            throw new IllegalArgumentException("Sampling frequency must be positive");
+        }
+        if (frequencies == null || frequencies.length == 0) {
+            throw new IllegalArgumentException("At least one frequency is required");
+        }
+        this.table = table;
+        this.fs = fs;
+        this.phases = new int[frequencies.length];
+        this.increments = new int[frequencies.length];
+        for (int i = 0; i < frequencies.length; i++) {
+            this.increments[i] = SineTable.phaseIncrement(frequencies[i], fs);
+        }
+        this.gain = 1.0 / frequencies.length;
+    }
+
+    /**
+     * Permet de générer les échantillons suivants.
+     * 
+     * @param buffer
+     *            Tableau recevant les échantillons.
+     * @param offset
+     *            Indice du premier échantillon écrit.
+     * @param length
+     *            Nombre d'échantillons à générer.
+     */
+    public void generate (final double[] buffer, final int offset, final int length) {
+        checkRange(buffer.length, offset, length);
+        if (this.phases.length == 1) {
+            int phase = this.phases[0];
+            int increment = this.increments[0];
+            for (int n = 0; n < length; n++) {
+                buffer[offset + n] = this.table.sin(phase);
+                phase += increment;
+            }
+            this.phases[0] = phase;
+            return;
+        }
+        for (int n = 0; n < length; n++) {
+            double sum = 0;
+            for (int i = 0; i < this.phases.length; i++) {
+                sum += this.table.sin(this.phases[i]);
+                this.phases[i] += this.increments[i];
+            }
+            buffer[offset + n] = sum * this.gain;
+        }
+    }
+
+    /**
+     * Permet de générer les échantillons suivants en simple précision.
+     * 
+     * @param buffer
+     *            Tableau recevant les échantillons.
+     * @param offset
+     *            Indice du premier échantillon écrit.
+     * @param length
+     *            Nombre d'échantillons à générer.
+     */
+    public void generate (final float[] buffer, final int offset, final int length) {
+        checkRange(buffer.length, offset, length);
+        for (int n = 0; n < length; n++) {
+            double sum = 0;
+            for (int i = 0; i < this.phases.length; i++) {
+                sum += this.table.sin(this.phases[i]);
+                this.phases[i] += this.increments[i];
+            }
+            buffer[offset + n] = (float) (sum * this.gain);
+        }
+    }
+
+    /**
+     * Permet de modifier la fréquence de l'une des sinusoïdes, sans discontinuité
+     * de phase.
+     * 
+     * @param tone
+     *            Indice de la sinusoïde.
+     * @param f
+     *            Nouvelle fréquence en hertz.
+     */
+    public void setFrequency (final int tone, final double f) {
+        this.increments[tone] = SineTable.phaseIncrement(f, this.fs);
+    }
+
+    /**
+     * Renvoie la fréquence effective (après quantification) de l'une des
+     * sinusoïdes.
+     * 
+     * @param tone
+     *            Indice de la sinusoïde.
+     * @return Fréquence en hertz.
+     */
+    public double getFrequency (final int tone) {
+        return (this.increments[tone] & 0xFFFFFFFFL) * this.fs / 4294967296.0;
+    }
+
+    /**
+     * Renvoie le nombre de sinusoïdes générées.
+     * 
+     * @return Nombre de fréquences.
+     */
+    public int getToneCount () {
+        return this.phases.length;
+    }
+
+    /**
+     * Permet de remettre à zéro la phase de toutes les sinusoïdes.
+     */
+    public void reset () {
+        Arrays.fill(this.phases, 0);
+    }
+
+    private static void checkRange (int size, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > size) {
+            throw new IndexOutOfBoundsException("Invalid range [" + offset + ";" + (offset + length) + "[");
+        }
+    }
+}
@@ -24,6 +24,14 @@
 
 package org.jls.toolbox.math;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
 /**
  * Permet de générer des filtres digitaux à réponse impulsionnelle finie (RIF) à
  * partir de certaines spécifications précisées par l'utilisateur. Ces
@@ -38,6 +46,12 @@ package org.jls.toolbox.math;
  * Designing Optimum FIR Linear Phase Digital Filters " (L.R.RABINER,
  * J.H.MCCLELLAN, T.W.PARKS) IEEE et "Discrete-Time Signal Processing"
  * (A.V.OPPENHEIM, R.W.SCHAFER, J.R.BUCK) Prentice Hall.
+ * <p>
+ * La densité de la grille et le nombre maximal d'itérations sont
+ * configurables. Pour les filtres de grande taille, l'évaluation de la fonction
+ * d'erreur et la recherche des extremums sont réparties sur plusieurs threads,
+ * et les poids barycentriques de l'interpolation de Lagrange sont mis à jour
+ * incrémentalement d'une itération à l'autre.
  * 
  * @author LE SAUCE Julien
  * @date Feb 12, 2015
@@ -52,12 +66,21 @@ public class Remez {
     private final static int NEGATIVE = 1;
     private final static int GRIDDENSITY = 16;
     private final static int MAXITERATIONS = 40;
+    /**
+     * Nombre d'opérations (points de grille x extremums) par itération en
+     * dessous duquel les calculs restent séquentiels.
+     */
+    private final static int PARALLEL_THRESHOLD = 1 << 16;
 
     private double[] bands;
     private double[] des;
     private double[] weight;
     private int nbOfCoeff;
     private int type;
+    private int gridDensity;
+    private int maxIterations;
+    private ExecutorService executor;
+    private int parallelism;
 
     /**
      * Permet d'instancier le générateur Remez.
@@ -86,6 +109,9 @@ public class Remez {
         this.des = des;
         this.weight = weight;
         this.type = type;
+        this.gridDensity = GRIDDENSITY;
+        this.maxIterations = MAXITERATIONS;
+        setExecutor(ForkJoinPool.commonPool());
     }
 
     /**
@@ -96,7 +122,144 @@ public class Remez {
      *             Si l'algorithme ne converge pas vers une solution.
      */
     public double[] generateFilter () throws RemezException {
-        return remez(this.nbOfCoeff, this.bands, this.des, this.weight, this.type);
+        try {
+            // La grille peut modifier les bandes, on travaille sur une copie
+            return remez(this.nbOfCoeff, this.bands.clone(), this.des, this.weight, this.type);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RemezException("Filter design interrupted", e);
+        }
+    }
+
+    /**
+     * Renvoie le nombre de coefficients de la réponse impulsionnelle.
+     * 
+     * @return Nombre de coefficients.
+     */
+    public int getNbOfCoeff () {
+        return this.nbOfCoeff;
+    }
+
+    /**
+     * Renvoie une copie des limites fréquentielles de chaque bande du filtre.
+     * 
+     * @return Bandes du filtre normalisées entre 0 et 0.5.
+     */
+    public double[] getBands () {
+        return this.bands.clone();
+    }
+
+    /**
+     * Renvoie une copie de la réponse désirée sur chaque bande de fréquence.
+     * 
+     * @return Réponse désirée.
+     */
+    public double[] getDesiredResponse () {
+        return this.des.clone();
+    }
+
+    /**
+     * Renvoie une copie des poids attribués à l'erreur sur chaque bande.
+     * 
+     * @return Poids de chaque bande.
+     */
+    public double[] getWeight () {
+        return this.weight.clone();
+    }
+
+    /**
+     * Renvoie le type du filtre.
+     * 
+     * @return BANDPASS, HILBERT ou DIFFERENTIATOR.
+     */
+    public int getType () {
+        return this.type;
+    }
+
+    /**
+     * Permet de spécifier la densité de la grille des fréquences, c'est-à-dire le
+     * nombre de points de la grille par extremum. Une densité plus faible accélère
+     * la conception de très grands filtres au prix d'une précision moindre.
+     * 
+     * @param gridDensity
+     *            Densité de la grille (16 par défaut).
+     */
+    public void setGridDensity (final int gridDensity) {
+        if (gridDensity <= 0) {
+            throw new IllegalArgumentException("Grid density must be positive");
+        }
+        this.gridDensity = gridDensity;
+    }
+
+    /**
+     * Renvoie la densité de la grille des fréquences.
+     * 
+     * @return Nombre de points de la grille par extremum.
+     */
+    public int getGridDensity () {
+        return this.gridDensity;
+    }
+
+    /**
+     * Permet de spécifier le nombre maximal d'itérations de l'algorithme Remez
+     * Exchange avant de considérer qu'il ne converge pas.
+     * 
+     * @param maxIterations
+     *            Nombre maximal d'itérations (40 par défaut).
+     */
+    public void setMaxIterations (final int maxIterations) {
+        if (maxIterations <= 0) {
+            throw new IllegalArgumentException("Maximum number of iterations must be positive");
+        }
+        this.maxIterations = maxIterations;
+    }
+
+    /**
+     * Renvoie le nombre maximal d'itérations de l'algorithme.
+     * 
+     * @return Nombre maximal d'itérations.
+     */
+    public int getMaxIterations () {
+        return this.maxIterations;
+    }
+
+    /**
+     * Permet de spécifier l'exécuteur sur lequel est répartie l'évaluation de la
+     * grille. Le parallélisme est réinitialisé à celui de l'exécuteur.
+     * 
+     * @param executor
+     *            Exécuteur utilisé (le pool de threads commun par défaut).
+     */
+    public void setExecutor (final ExecutorService executor) {
+        if (executor == null) {
+            throw new NullPointerException("Executor cannot be null");
+        }
+        this.executor = executor;
+        this.parallelism = executor instanceof ForkJoinPool ? ((ForkJoinPool) executor).getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Permet de spécifier le nombre de tâches entre lesquelles la grille est
+     * répartie. Une valeur de 1 force un calcul séquentiel.
+     * 
+     * @param parallelism
+     *            Nombre de tâches (strictement positif).
+     */
+    public void setParallelism (final int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Renvoie le nombre de tâches entre lesquelles la grille est répartie.
+     * 
+     * @return Nombre de tâches.
+     */
+    public int getParallelism () {
+        return this.parallelism;
     }
 
     /**
@@ -121,13 +284,15 @@ public class Remez {
      * @return Tableau contenant les coefficients de la réponse impulsionnelle.
      * @throws RemezException
      *             Si l'algorithme ne converge pas vers une solution.
+     * @throws InterruptedException
+     *             Si le thread appelant est interrompu pendant le calcul.
      */
-    private static double[] remez (int nbOfCoeff, double bands[], double des[], double weight[], int type)
-            throws RemezException {
-        double[] Grid, W, D, E, h, taps, x, y, ad;
-        int[] Ext;
+    private double[] remez (int nbOfCoeff, double bands[], double des[], double weight[], int type)
+            throws RemezException, InterruptedException {
+        double[] Grid, xGrid, W, D, E, h, taps, x, y, ad, prod;
+        int[] Ext, prevExt;
         double c;
-        int symmetry, gridsize, iter, r;
+        int symmetry, gridsize, iter, r, tasks;
 
         if (type == BANDPASS) {
             symmetry = POSITIVE;
@@ -144,7 +309,7 @@ public class Remez {
         // Permet de prédire la taille de la grille pour l'allocation
         gridsize = 0;
         for (int i = 0; i < (bands.length / 2); i++) {
-            gridsize += (int) (2 * r * GRIDDENSITY * (bands[2 * i + 1] - bands[2 * i]) + 0.5);
+            gridsize += (int) (2 * r * this.gridDensity * (bands[2 * i + 1] - bands[2 * i]) + 0.5);
         }
         if (symmetry == NEGATIVE) {
             gridsize--;
@@ -152,10 +317,13 @@ public class Remez {
 
         // Allocation en mémoire des tableaux utilisés
         Grid = new double[gridsize];
+        xGrid = new double[gridsize];
         D = new double[gridsize];
         W = new double[gridsize];
         E = new double[gridsize];
         Ext = new int[r + 1];
+        prevExt = new int[r + 1];
+        prod = new double[r + 1];
         taps = new double[r + 1];
         x = new double[r + 1];
         y = new double[r + 1];
@@ -163,8 +331,16 @@ public class Remez {
         h = new double[nbOfCoeff];
 
         // Création de la grille
-        createDenseGrid(r, nbOfCoeff, bands, des, weight, Grid, D, W, symmetry);
+        createDenseGrid(r, nbOfCoeff, this.gridDensity, bands, des, weight, Grid, D, W, symmetry);
         initialGuess(r, Ext, gridsize);
+        prevExt[0] = -1;
+
+        // Les abscisses cos(2*pi*f) de la grille ne changent pas d'une itération
+        // à l'autre
+        for (int i = 0; i < gridsize; i++) {
+            xGrid[i] = Math.cos(2 * Math.PI * Grid[i]);
+        }
+        tasks = (long) gridsize * (r + 1) < PARALLEL_THRESHOLD ? 1 : Math.min(this.parallelism, gridsize / 2);
 
         // Pour le DIFFERENTIATOR la grille est fixe
         if (type == DIFFERENTIATOR) {
@@ -202,19 +378,21 @@ public class Remez {
         }
 
         // Exécution de l'algorithme Remez Exchange
-        for (iter = 0; iter < MAXITERATIONS; iter++) {
-            calcParms(r, Ext, Grid, D, W, ad, x, y);
-            calculateErrorFunction(r, ad, x, y, Grid, D, W, E);
-            search(r, Ext, gridsize, E);
+        for (iter = 0; iter < this.maxIterations; iter++) {
+            calcParms(r, Ext, prevExt, xGrid, D, W, prod, ad, x, y);
+            calculateErrorFunction(r, ad, x, y, xGrid, D, W, E, tasks);
+            if (!search(r, Ext, gridsize, E, tasks)) {
+                throw new RemezException("Not enough extremal frequencies found.");
+            }
             if (isDone(r, Ext, E)) {
                 break;
             }
         }
-        if (iter == MAXITERATIONS) {
+        if (iter == this.maxIterations) {
             // Echec de converge de la réponse
             throw new RemezException("Algorithm failed to converge.");
         }
-        calcParms(r, Ext, Grid, D, W, ad, x, y);
+        calcParms(r, Ext, prevExt, xGrid, D, W, prod, ad, x, y);
 
         // Détermination des coefficients du filtre pour échantillonnage de
         // fréquence.
@@ -234,7 +412,7 @@ public class Remez {
                     c = Math.sin(Math.PI * i / nbOfCoeff);
                 }
             }
-            taps[i] = computeA((double) i / nbOfCoeff, r, ad, x, y) * c;
+            taps[i] = computeA(Math.cos(2 * Math.PI * i / nbOfCoeff), r, ad, x, y) * c;
         }
 
         // Echantillonnage de fréquence avec les coefficients calculés
@@ -262,6 +440,8 @@ public class Remez {
      *            moins grâce à la parité).
      * @param nbOfCoeff
      *            Nombre de coefficients du filtre.
+     * @param gridDensity
+     *            Nombre de points de la grille par extremum.
      * @param bands
      *            Bandes de fréquences spécifiées pour le filtre.
      * @param des
@@ -277,12 +457,12 @@ public class Remez {
      * @param symmetry
      *            Symétrie du filtre.
      */
-    private static void createDenseGrid (int r, int nbOfCoeff, double bands[], double des[], double weight[],
-            double Grid[], double D[], double W[], int symmetry) {
+    private static void createDenseGrid (int r, int nbOfCoeff, int gridDensity, double bands[], double des[],
+            double weight[], double Grid[], double D[], double W[], int symmetry) {
         double delf, lowf, highf;
         int j, k;
 
-        delf = 0.5 / (GRIDDENSITY * r);
+        delf = 0.5 / (gridDensity * r);
 
         // Pour le DIFFERENTIATOR et HILBERT, symétrie impaire et Grid[0] =
         // max(delf, band[0])
@@ -332,19 +512,27 @@ public class Remez {
     }
 
     /**
-     * CalcParms
+     * CalcParms. Les produits (dénominateurs des poids barycentriques) sont
+     * conservés dans prod[] d'une itération à l'autre : lorsque seuls quelques
+     * extremums ont été déplacés par la recherche, ils sont mis à jour en O(r)
+     * par extremum déplacé au lieu d'être recalculés en O(r²).
      * 
      * @param r
      *            Nombre de coefficients du filtre réellement à calculer (moitié
      *            moins grâce à la parité).
      * @param Ext
      *            Tableau d'indiçage des fréquences extrêmes dans la grille.
-     * @param Grid
-     *            Grille des fréquences (de 0 à 0.5).
+     * @param prevExt
+     *            Extremums utilisés lors du précédent appel (prevExt[0] &lt; 0
+     *            pour le premier appel), mis à jour en sortie.
+     * @param xGrid
+     *            cos(2*pi*f) pour chaque fréquence f de la grille.
      * @param D
      *            Réponse désirée sur la grille.
      * @param W
      *            Fonction de pondération sur la grille.
+     * @param prod
+     *            Produits 2*(x[i]-x[k]) pour k != i [r+1].
      * @param ad
      *            'b' d'après Oppenheim & Schafer [r+1].
      * @param x
@@ -352,27 +540,76 @@ public class Remez {
      * @param y
      *            'C' d'après Oppenheim & Schafer [r+1].
      */
-    private static void calcParms (int r, int Ext[], double Grid[], double D[], double W[], double ad[], double x[],
-            double y[]) {
+    private static void calcParms (int r, int Ext[], int prevExt[], double xGrid[], double D[], double W[],
+            double prod[], double ad[], double x[], double y[]) {
         double sign, xi, delta, denom, numer;
-        int k, ld;
+        int changed, k, ld;
 
-        for (int i = 0; i <= r; i++) {
-            x[i] = Math.cos(2 * Math.PI * Grid[Ext[i]]);
+        changed = 0;
+        if (prevExt[0] < 0) {
+            changed = r + 1;
+        } else {
+            for (int i = 0; i <= r; i++) {
+                if (Ext[i] != prevExt[i]) {
+                    changed++;
+                }
+            }
         }
 
-        // Calcul de ad[] - Oppenheim & Schafer eq 7.132
-        ld = (r - 1) / 15 + 1; // Saut pour éviter les erreurs d'arrondi
-        for (int i = 0; i <= r; i++) {
-            denom = 1.0;
-            xi = x[i];
-            for (int j = 0; j < ld; j++) {
-                for (k = j; k <= r; k += ld) {
-                    if (k != i) {
-                        denom *= 2.0 * (xi - x[k]);
+        if (2 * changed > r) {
+            // Calcul complet des produits - Oppenheim & Schafer eq 7.132
+            for (int i = 0; i <= r; i++) {
+                x[i] = xGrid[Ext[i]];
+            }
+            ld = (r - 1) / 15 + 1; // Saut pour éviter les erreurs d'arrondi
+            for (int i = 0; i <= r; i++) {
+                denom = 1.0;
+                xi = x[i];
+                for (int j = 0; j < ld; j++) {
+                    for (k = j; k <= r; k += ld) {
+                        if (k != i) {
+                            denom *= 2.0 * (xi - x[k]);
+                        }
+                    }
+                }
+                prod[i] = denom;
+            }
+        } else if (changed > 0) {
+            // Mise à jour des produits des extremums inchangés : on remplace le
+            // facteur de l'ancienne abscisse par celui de la nouvelle
+            for (int m = 0; m <= r; m++) {
+                if (Ext[m] != prevExt[m]) {
+                    double oldX = x[m];
+                    double newX = xGrid[Ext[m]];
+                    for (int i = 0; i <= r; i++) {
+                        if (Ext[i] == prevExt[i]) {
+                            prod[i] *= (x[i] - newX) / (x[i] - oldX);
+                        }
                     }
                 }
             }
+            for (int m = 0; m <= r; m++) {
+                x[m] = xGrid[Ext[m]];
+            }
+            // Recalcul complet des produits des extremums déplacés
+            for (int i = 0; i <= r; i++) {
+                if (Ext[i] != prevExt[i]) {
+                    denom = 1.0;
+                    xi = x[i];
+                    for (k = 0; k <= r; k++) {
+                        if (k != i) {
+                            denom *= 2.0 * (xi - x[k]);
+                        }
+                    }
+                    prod[i] = denom;
+                }
+            }
+        }
+        System.arraycopy(Ext, 0, prevExt, 0, r + 1);
+
+        // Calcul de ad[]
+        for (int i = 0; i <= r; i++) {
+            denom = prod[i];
             if (Math.abs(denom) < 0.00001) {
                 denom = 0.00001;
             }
@@ -402,8 +639,8 @@ public class Remez {
      * véritable réponse fréquentielle à une fréquence donnée. Utilisation de eq
      * 7.133a d'après Oppenheim & Schafer.
      * 
-     * @param freq
-     *            Fréquence (de 0 à 0.5).
+     * @param xc
+     *            cos(2*pi*f) où f est la fréquence (de 0 à 0.5).
      * @param r
      *            Nombre de coefficients du filtre réellement à calculer (moitié
      *            moins grâce à la parité).
@@ -415,11 +652,10 @@ public class Remez {
      *            'C' d'après Oppenheim & Schafer [r+1].
      * @return Valeur de A[freq].
      */
-    private static double computeA (double freq, int r, double ad[], double x[], double y[]) {
-        double xc, c, denom, numer;
+    private static double computeA (double xc, int r, double ad[], double x[], double y[]) {
+        double c, denom, numer;
 
         denom = numer = 0;
-        xc = Math.cos(2 * Math.PI * freq);
         for (int i = 0; i <= r; i++) {
             c = xc - x[i];
             if (Math.abs(c) < 1.0e-7) {
@@ -449,21 +685,27 @@ public class Remez {
      *            [r+1].
      * @param y
      *            'C' d'après Oppenheim & Schafer [r+1].
-     * @param Grid
-     *            Grille des fréquences (de 0 à 0.5).
+     * @param xGrid
+     *            cos(2*pi*f) pour chaque fréquence f de la grille.
      * @param D
      *            Réponse désirée sur la grille.
      * @param W
      *            Fonction de pondération sur la grille.
      * @param E
      *            Fonction d'erreur.
+     * @param tasks
+     *            Nombre de tâches entre lesquelles la grille est répartie.
+     * @throws InterruptedException
+     *             Si le thread appelant est interrompu pendant le calcul.
      */
-    private static void calculateErrorFunction (int r, double ad[], double x[], double y[], double Grid[], double D[],
-            double W[], double E[]) {
-        for (int i = 0; i < Grid.length; i++) {
-            double A = computeA(Grid[i], r, ad, x, y);
-            E[i] = W[i] * (D[i] - A);
-        }
+    private void calculateErrorFunction (int r, double ad[], double x[], double y[], double xGrid[], double D[],
+            double W[], double E[], int tasks) throws InterruptedException {
+        execute(xGrid.length, tasks, (task, first, last) -> {
+            for (int i = first; i < last; i++) {
+                double A = computeA(xGrid[i], r, ad, x, y);
+                E[i] = W[i] * (D[i] - A);
+            }
+        });
     }
 
     /**
@@ -473,6 +715,9 @@ public class Remez {
      * en trop, on supprime celui avec la plus petite erreur. Cela va créer une
      * alternance corrigée grâce à 1). 3) S'il y a exactement un extrema en trop, on
      * supprime le plus plus petit du premier/dernier extremum.
+     * <p>
+     * La détection des extremums locaux est répartie par plages de la grille, les
+     * résultats de chaque plage étant ensuite concaténés dans l'ordre.
      * 
      * @param r
      *            Nombre de coefficients du filtre réellement à calculer (moitié
@@ -483,33 +728,57 @@ public class Remez {
      *            Taille de la grille.
      * @param E
      *            Fonction d'erreur.
+     * @param tasks
+     *            Nombre de tâches entre lesquelles la grille est répartie.
+     * @return false si moins de r+1 extremums ont été trouvés, true sinon.
+     * @throws InterruptedException
+     *             Si le thread appelant est interrompu pendant le calcul.
      */
-    private static void search (int r, int Ext[], int gridsize, double E[]) {
+    private boolean search (int r, int Ext[], int gridsize, double E[], int tasks) throws InterruptedException {
         int j, k, l, extra;
         int up, alt;
         int[] foundExt;
+        final int[][] chunks = new int[tasks][];
+        final int[] counts = new int[tasks];
+
+        // Recherche des extremas dans chaque plage de la grille
+        execute(gridsize, tasks, (task, first, last) -> {
+            int[] found = new int[last - first];
+            int n = 0;
+            for (int i = first; i < last; i++) {
+                if (i == 0) {
+                    // Recherche d'un extrema en zéro
+                    if (((E[0] > 0.0) && (E[0] > E[1])) || ((E[0] < 0.0) && (E[0] < E[1]))) {
+                        found[n++] = 0;
+                    }
+                } else if (i == gridsize - 1) {
+                    // Recherche d'un extrema sur la dernière valeur
+                    if (((E[i] > 0.0) && (E[i] > E[i - 1])) || ((E[i] < 0.0) && (E[i] < E[i - 1]))) {
+                        found[n++] = i;
+                    }
+                } else if (((E[i] >= E[i - 1]) && (E[i] > E[i + 1]) && (E[i] > 0.0))
+                        || ((E[i] <= E[i - 1]) && (E[i] < E[i + 1]) && (E[i] < 0.0))) {
+                    found[n++] = i;
+                }
+            }
+            chunks[task] = found;
+            counts[task] = n;
+        });
 
-        // Allocation d'assez de mémoire pour trouver les extremums
-        foundExt = new int[10 * r];
+        // Concaténation des extremas trouvés (un emplacement supplémentaire pour
+        // la boucle de suppression)
         k = 0;
-
-        // Recherche d'un extrema en zéro
-        if (((E[0] > 0.0) && (E[0] > E[1])) || ((E[0] < 0.0) && (E[0] < E[1]))) {
-            foundExt[k++] = 0;
+        for (int t = 0; t < tasks; t++) {
+            k += counts[t];
         }
-
-        // Recherche d'extremas dans la grille
-        for (int i = 1; i < gridsize - 1; i++) {
-            if (((E[i] >= E[i - 1]) && (E[i] > E[i + 1]) && (E[i] > 0.0))
-                    || ((E[i] <= E[i - 1]) && (E[i] < E[i + 1]) && (E[i] < 0.0))) {
-                foundExt[k++] = i;
-            }
+        if (k < r + 1) {
+            return false;
         }
-
-        // Recherche d'un extrema sur la dernière valeur
-        j = gridsize - 1;
-        if (((E[j] > 0.0) && (E[j] > E[j - 1])) || ((E[j] < 0.0) && (E[j] < E[j - 1]))) {
-            foundExt[k++] = j;
+        foundExt = new int[k + 1];
+        k = 0;
+        for (int t = 0; t < tasks; t++) {
+            System.arraycopy(chunks[t], 0, foundExt, k, counts[t]);
+            k += counts[t];
         }
 
         // Suppression des extremas en trop
@@ -545,10 +814,10 @@ public class Remez {
                 // Alors on supprime le plus petit du premier/dernier extrema
                 if (Math.abs(E[foundExt[k - 1]]) < Math.abs(E[foundExt[0]])) {
                     // Suppression du dernier extrema
-                    l = foundExt[k - 1];
+                    l = k - 1;
                 } else {
                     // Suppression du premier extrema
-                    l = foundExt[0];
+                    l = 0;
                 }
             }
 
@@ -564,7 +833,7 @@ public class Remez {
         for (int i = 0; i <= r; i++) {
             Ext[i] = foundExt[i];
         }
-
+        return true;
     }
 
     /**
@@ -659,4 +928,46 @@ public class Remez {
         }
         return false;
     }
+
+    /**
+     * Répartit les points de la grille [0 ; size[ en plages contiguës et attend
+     * la fin de leur traitement.
+     */
+    private void execute (final int size, final int tasks, final GridRange range) throws InterruptedException {
+        if (tasks <= 1) {
+            range.process(0, 0, size);
+            return;
+        }
+        List<Callable<Void>> callables = new ArrayList<>(tasks);
+        for (int t = 0; t < tasks; t++) {
+            final int task = t;
+            final int first = (int) ((long) size * t / tasks);
+            final int last = (int) ((long) size * (t + 1) / tasks);
+            callables.add(() -> {
+                range.process(task, first, last);
+                return null;
+            });
+        }
+        for (Future<Void> future : this.executor.invokeAll(callables)) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new IllegalStateException("Grid evaluation failed", cause);
+            }
+        }
+    }
+
+    /**
+     * Traitement de la plage [first ; last[ de la grille par la tâche spécifiée.
+     */
+    private interface GridRange {
+        void process (int task, int first, int last);
+    }
 }
@@ -0,0 +1,459 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 LE SAUCE Julien
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.jls.toolbox.math;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Permet de concevoir des filtres {@link Remez} en mémorisant les réponses
+ * impulsionnelles déjà calculées. Une conception est identifiée par le nombre
+ * de coefficients, les bandes, la réponse désirée, les poids, le type, la
+ * densité de grille et le nombre maximal d'itérations : demander deux fois le
+ * même filtre ne lance l'algorithme qu'une seule fois.
+ * <p>
+ * Le cache est borné (les conceptions les moins récemment utilisées sont
+ * supprimées en premier) et peut être sauvegardé dans un fichier, relu à
+ * l'instanciation suivante. Plusieurs filtres peuvent être conçus en parallèle
+ * avec {@link #designAll(List)}, chaque conception s'exécutant sur un seul
+ * thread.
+ *
+ * @author LE SAUCE Julien
+ * @date Oct 16, 2026
+ */
+public class RemezDesigner {
+
+    /**
+     * En-tête et version du format du fichier de sauvegarde.
+     */
+    private static final int MAGIC = 0x52454D5A;
+    private static final int VERSION = 1;
+
+    /**
+     * Taille maximale des tableaux relus, afin qu'un fichier corrompu ne
+     * provoque pas d'allocation démesurée.
+     */
+    private static final int MAX_LENGTH = 1 << 16;
+
+    private final int capacity;
+    private final File file;
+    private final ExecutorService executor;
+    private final Logger logger;
+    private final LinkedHashMap<DesignKey, double[]> cache;
+
+    /**
+     * Permet d'instancier un concepteur dont le cache n'est conservé qu'en
+     * mémoire.
+     *
+     * @param capacity
+     *            Nombre maximal de conceptions mémorisées.
+     */
+    public RemezDesigner(final int capacity) {
+        this(capacity, null, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Permet d'instancier un concepteur dont le cache est sauvegardé dans le
+     * fichier spécifié. Si le fichier existe, les conceptions qu'il contient sont
+     * chargées.
+     *
+     * @param capacity
+     *            Nombre maximal de conceptions mémorisées.
+     * @param file
+     *            Fichier de sauvegarde du cache (null pour un cache en mémoire
+     *            uniquement).
+     */
+    public RemezDesigner(final int capacity, final File file) {
+        this(capacity, file, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Permet d'instancier un concepteur dont le cache est sauvegardé dans le
+     * fichier spécifié et dont les conceptions par lot sont réparties sur
+     * l'exécuteur spécifié.
+     *
+     * @param capacity
+     *            Nombre maximal de conceptions mémorisées.
+     * @param file
+     *            Fichier de sauvegarde du cache (null pour un cache en mémoire
+     *            uniquement).
+     * @param executor
+     *            Exécuteur utilisé par {@link #designAll(List)}.
+     */
+    public RemezDesigner(final int capacity, final File file, final ExecutorService executor) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        if (executor == null) {
+            throw new NullPointerException("Executor cannot be null");
+        }
+        this.capacity = capacity;
+        this.file = file;
+        this.executor = executor;
+        this.logger = LogManager.getLogger();
+        this.cache = new LinkedHashMap<DesignKey, double[]>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry (Map.Entry<DesignKey, double[]> eldest) {
+                return size() > RemezDesigner.this.capacity;
+            }
+        };
+        if (file != null && file.isFile()) {
+            load();
+        }
+    }
+
+    /**
+     * Renvoie la réponse impulsionnelle du filtre spécifié, en la calculant
+     * uniquement si elle n'a pas déjà été mémorisée.
+     *
+     * @param nbOfCoeff
+     *            Nombre de coefficients de la réponse impulsionnelle.
+     * @param bands
+     *            Limites fréquentielles de chaque bande du filtre normalisées
+     *            entre 0 et 0.5.
+     * @param des
+     *            Réponse désirée sur chaque bande de fréquence.
+     * @param weight
+     *            Poids attribué à l'erreur sur chaque bande du filtre.
+     * @param type
+     *            Type du filtre (BANDPASS, HILBERT ou DIFFERENTIATOR).
+     * @return Copie de la réponse impulsionnelle calculée.
+     * @throws RemezException
+     *             Si l'algorithme ne converge pas vers une solution.
+     */
+    public double[] design (int nbOfCoeff, double[] bands, double[] des, double[] weight, int type)
+            throws RemezException {
+        return design(new Remez(nbOfCoeff, bands, des, weight, type));
+    }
+
+    /**
+     * Renvoie la réponse impulsionnelle du filtre spécifié, en la calculant
+     * uniquement si elle n'a pas déjà été mémorisée.
+     *
+     * @param remez
+     *            Spécification du filtre.
+     * @return Copie de la réponse impulsionnelle calculée.
+     * @throws RemezException
+     *             Si l'algorithme ne converge pas vers une solution.
+     */
+    public double[] design (final Remez remez) throws RemezException {
+        DesignKey key = new DesignKey(remez);
+        double[] h = lookup(key);
+        if (h == null) {
+            h = remez.generateFilter();
+            store(key, h);
+        }
+        return h.clone();
+    }
+
+    /**
+     * Permet de concevoir plusieurs filtres en parallèle. Les filtres déjà
+     * mémorisés sont renvoyés directement, les autres sont conçus chacun sur son
+     * propre thread de l'exécuteur (sans parallélisation interne de la grille).
+     *
+     * @param designs
+     *            Spécifications des filtres.
+     * @return Réponses impulsionnelles, dans l'ordre des spécifications.
+     * @throws RemezException
+     *             Si l'algorithme ne converge pas pour l'un des filtres.
+     * @throws InterruptedException
+     *             Si le thread appelant est interrompu pendant le calcul.
+     */
+    public List<double[]> designAll (final List<Remez> designs) throws RemezException, InterruptedException {
+        List<double[]> results = new ArrayList<>(designs.size());
+        List<Callable<double[]>> callables = new ArrayList<>();
+        List<Integer> positions = new ArrayList<>();
+        for (Remez remez : designs) {
+            final DesignKey key = new DesignKey(remez);
+            double[] h = lookup(key);
+            results.add(h == null ? null : h.clone());
+            if (h == null) {
+                // Copie isolée de la spécification, conçue sur un seul thread
+                final Remez copy = new Remez(key.nbOfCoeff, key.bands, key.des, key.weight, key.type);
+                copy.setGridDensity(key.gridDensity);
+                copy.setMaxIterations(key.maxIterations);
+                copy.setParallelism(1);
+                positions.add(results.size() - 1);
+                callables.add(() -> {
+                    double[] coeffs = copy.generateFilter();
+                    store(key, coeffs);
+                    return coeffs.clone();
+                });
+            }
+        }
+        if (callables.isEmpty()) {
+            return results;
+        }
+        List<Future<double[]>> futures = this.executor.invokeAll(callables);
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                results.set(positions.get(i), futures.get(i).get());
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RemezException) {
+                    throw (RemezException) cause;
+                }
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new RemezException("Filter design failed", cause);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Permet de sauvegarder le contenu du cache dans le fichier spécifié à
+     * l'instanciation. Le cache est écrit dans un fichier temporaire renommé
+     * une fois complet, de sorte qu'une sauvegarde interrompue ne corrompt pas
+     * le fichier existant.
+     *
+     * @throws IOException
+     *             Si une erreur survient lors de l'écriture du fichier.
+     */
+    public void save () throws IOException {
+        if (this.file == null) {
+            throw new IllegalStateException("No cache file specified");
+        }
+        LinkedHashMap<DesignKey, double[]> snapshot;
+        synchronized (this.cache) {
+            snapshot = new LinkedHashMap<>(this.cache);
+        }
+        File folder = this.file.getAbsoluteFile().getParentFile();
+        File temp = File.createTempFile(this.file.getName(), ".tmp", folder);
+        try {
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(new FileOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(snapshot.size());
+                for (Map.Entry<DesignKey, double[]> entry : snapshot.entrySet()) {
+                    entry.getKey().write(out);
+                    writeArray(out, entry.getValue());
+                }
+            }
+            try {
+                Files.move(temp.toPath(), this.file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp.toPath(), this.file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp.toPath());
+        }
+    }
+
+    /**
+     * Permet de vider le cache en mémoire.
+     */
+    public void clear () {
+        synchronized (this.cache) {
+            this.cache.clear();
+        }
+    }
+
+    /**
+     * Renvoie le nombre de conceptions mémorisées.
+     *
+     * @return Nombre de conceptions dans le cache.
+     */
+    public int size () {
+        synchronized (this.cache) {
+            return this.cache.size();
+        }
+    }
+
+    /**
+     * Renvoie le nombre maximal de conceptions mémorisées.
+     *
+     * @return Capacité du cache.
+     */
+    public int getCapacity () {
+        return this.capacity;
+    }
+
+    private double[] lookup (final DesignKey key) {
+        synchronized (this.cache) {
+            return this.cache.get(key);
+        }
+    }
+
+    private void store (final DesignKey key, final double[] h) {
+        synchronized (this.cache) {
+            this.cache.put(key, h.clone());
+        }
+    }
+
+    /**
+     * Charge les conceptions sauvegardées. Le fichier ne contient que des
+     * entiers et des réels : aucun objet n'est désérialisé. Un fichier
+     * illisible est ignoré dans sa totalité.
+     */
+    private void load () {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(this.file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("Unknown cache file format");
+            }
+            int count = in.readInt();
+            if (count < 0) {
+                throw new IOException("Invalid design count: " + count);
+            }
+            LinkedHashMap<DesignKey, double[]> saved = new LinkedHashMap<>();
+            for (int i = 0; i < count; i++) {
+                DesignKey key = DesignKey.read(in);
+                saved.put(key, readArray(in));
+            }
+            synchronized (this.cache) {
+                this.cache.putAll(saved);
+            }
+        } catch (IOException e) {
+            this.logger.warn("Unable to load Remez design cache from {}", this.file, e);
+        }
+    }
+
+    private static void writeArray (final DataOutputStream out, final double[] array) throws IOException {
+        out.writeInt(array.length);
+        for (double value : array) {
+            out.writeDouble(value);
+        }
+    }
+
+    private static double[] readArray (final DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > MAX_LENGTH) {
+            throw new IOException("Invalid array length: " + length);
+        }
+        double[] array = new double[length];
+        for (int i = 0; i < length; i++) {
+            array[i] = in.readDouble();
+        }
+        return array;
+    }
+
+    /**
+     * Clé identifiant une conception. Les tableaux sont copiés afin que la clé ne
+     * soit pas modifiée par l'appelant.
+     */
+    private static final class DesignKey {
+
+        private final int nbOfCoeff;
+        private final double[] bands;
+        private final double[] des;
+        private final double[] weight;
+        private final int type;
+        private final int gridDensity;
+        private final int maxIterations;
+        private final int hash;
+
+        private DesignKey(final Remez remez) {
+            this(remez.getNbOfCoeff(), remez.getBands(), remez.getDesiredResponse(), remez.getWeight(),
+                    remez.getType(), remez.getGridDensity(), remez.getMaxIterations());
+        }
+
+        private DesignKey(final int nbOfCoeff, final double[] bands, final double[] des, final double[] weight,
+                final int type, final int gridDensity, final int maxIterations) {
+            this.nbOfCoeff = nbOfCoeff;
+            this.bands = bands;
+            this.des = des;
+            this.weight = weight;
+            this.type = type;
+            this.gridDensity = gridDensity;
+            this.maxIterations = maxIterations;
+            int h = Arrays.hashCode(this.bands);
+            h = 31 * h + Arrays.hashCode(this.des);
+            h = 31 * h + Arrays.hashCode(this.weight);
+            h = 31 * h + this.nbOfCoeff;
+            h = 31 * h + this.type;
+            h = 31 * h + this.gridDensity;
+            this.hash = 31 * h + this.maxIterations;
+        }
+
+        private static DesignKey read (final DataInputStream in) throws IOException {
+            int nbOfCoeff = in.readInt();
+            int type = in.readInt();
+            int gridDensity = in.readInt();
+            int maxIterations = in.readInt();
+            return new DesignKey(nbOfCoeff, readArray(in), readArray(in), readArray(in), type, gridDensity,
+                    maxIterations);
+        }
+
+        private void write (final DataOutputStream out) throws IOException {
+            out.writeInt(this.nbOfCoeff);
+            out.writeInt(this.type);
+            out.writeInt(this.gridDensity);
+            out.writeInt(this.maxIterations);
+            writeArray(out, this.bands);
+            writeArray(out, this.des);
+            writeArray(out, this.weight);
+        }
+
+        @Override
+        public int hashCode () {
+            return this.hash;
+        }
+
+        @Override
+        public boolean equals (Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof DesignKey)) {
+                return false;
+            }
+            DesignKey other = (DesignKey) obj;
+            return this.hash == other.hash && this.nbOfCoeff == other.nbOfCoeff && this.type == other.type
+                    && this.gridDensity == other.gridDensity && this.maxIterations == other.maxIterations
+                    && Arrays.equals(this.bands, other.bands) && Arrays.equals(this.des, other.des)
+                    && Arrays.equals(this.weight, other.weight);
+        }
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 LE SAUCE Julien
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.jls.toolbox.math;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+
+import org.jls.toolbox.math.Sweep.SweepType;
+import org.jls.toolbox.math.Window.WindowType;
+
+/**
+ * Spectre précalculé d'une réplique, utilisé par {@link MatchedFilter} pour
+ * corréler un flux par overlap-save. La réplique réelle r(m) de L échantillons
+ * est d'abord rendue analytique (r + j.H{r}, tronquée à ses L échantillons),
+ * puis retournée et conjuguée afin que sa convolution avec le flux donne
+ * directement le signal analytique de la corrélation, dont le module est
+ * l'enveloppe. Le spectre est normalisé par l'énergie de la réplique : un flux
+ * contenant la réplique elle-même donne un pic d'enveloppe égal à 1.
+ * <p>
+ * La taille de la FFT est la puissance de 2 supérieure ou égale à 4L, comme
+ * pour {@link FIRFilter}. Une instance est immuable et peut être partagée par
+ * plusieurs corrélateurs et plusieurs threads ; les spectres des répliques
+ * produites par
+ * {@link WaveformGenerator#computeWaveform(WindowType, SweepType, int, int, int, long)}
+ * sont conservés dans un cache partagé.
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 16, 2026
+ */
+public final class ReplicaSpectrum {
+
+    /**
+     * Nombre maximal de spectres de répliques conservés.
+     */
+    private static final int MAX_CACHED_REPLICAS = 16;
+
+    private static final LinkedHashMap<Key, ReplicaSpectrum> replicas = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final int length;
+    private final int fftLength;
+    private final double energy;
+    private final double[] re;
+    private final double[] im;
+
+    /**
+     * Permet de calculer le spectre d'une réplique.
+     * 
+     * @param replica
+     *            Echantillons de la réplique, qui sont copiés.
+     */
+    public ReplicaSpectrum(final double[] replica) {
+        if (replica == null || replica.length == 0) {
+            throw new IllegalArgumentException("Replica must have at least one sample");
+        }
+        int L = replica.length;
+        double energy = 0;
+        for (double v : replica) {
+            energy += v * v;
+        }
+        if (energy == 0) {
+            throw new IllegalArgumentException("Replica must not be null everywhere");
+        }
+        this.length = L;
+        this.fftLength = Integer.highestOneBit(Math.max(4 * L - 1, 4)) << 1;
+        this.energy = energy;
+        int n = this.fftLength;
+        FFT fft = FFT.plan(n);
+
+        // Signal analytique de la réplique : spectre unilatéral
+        double[] ar = new double[n];
+        double[] ai = new double[n];
+        System.arraycopy(replica, 0, ar, 0, L);
+        fft.fft(ar, ai);
+        for (int k = 1; k < n / 2; k++) {
+            ar[k] *= 2;
+            ai[k] *= 2;
+        }
+        for (int k = n / 2 + 1; k < n; k++) {
+            ar[k] = 0;
+            ai[k] = 0;
+        }
+        fft.ifft(ar, ai);
+
+        // Réponse impulsionnelle g(i) = conj(a(L-1-i)) / énergie, tronquée à L
+        this.re = new double[n];
+        this.im = new double[n];
+        double scale = 1.0 / energy;
+        for (int i = 0; i < L; i++) {
+            this.re[i] = ar[L - 1 - i] * scale;
+            this.im[i] = -ai[L - 1 - i] * scale;
+        }
+        fft.fft(this.re, this.im);
+    }
+
+    /**
+     * Renvoie le spectre partagé de la réplique produite par
+     * {@link WaveformGenerator#computeWaveform(WindowType, SweepType, int, int, int, long)}
+     * avec les mêmes paramètres, en le calculant s'il n'est pas déjà en cache.
+     * 
+     * @param win
+     *            Enveloppe de la réplique.
+     * @param sw
+     *            Type de balayage de fréquence.
+     * @param fc
+     *            Fréquence centrale en hertz.
+     * @param b
+     *            Largeur de bande en hertz.
+     * @param fs
+     *            Fréquence d'échantillonnage en hertz.
+     * @param T
+     *            Durée de la réplique en millisecondes.
+     * @return Spectre partagé de la réplique.
+     */
+    public static ReplicaSpectrum get (final WindowType win, final SweepType sw, final int fc, final int b,
+            final int fs, final long T) {
+        Key key = new Key(win, sw, fc, b, fs, T);
+        synchronized (replicas) {
+            ReplicaSpectrum spectrum = replicas.get(key);
+            if (spectrum == null) {
+                spectrum = new ReplicaSpectrum(WaveformGenerator.computeWaveform(win, sw, fc, b, fs, T));
+                replicas.put(key, spectrum);
+                // Suppression des répliques les moins récemment utilisées
+                Iterator<ReplicaSpectrum> it = replicas.values().iterator();
+                while (replicas.size() > MAX_CACHED_REPLICAS) {
+                    it.next();
+                    it.remove();
+                }
+            }
+            return spectrum;
+        }
+    }
+
+    /**
+     * Permet de vider le cache des répliques.
+     */
+    public static void clear () {
+        synchronized (replicas) {
+            replicas.clear();
+        }
+    }
+
+    /**
+     * Renvoie le nombre d'échantillons L de la réplique.
+     * 
+     * @return Taille de la réplique.
+     */
+    public int getLength () {
+        return this.length;
+    }
+
+    /**
+     * Renvoie la taille de la FFT utilisée pour la corrélation.
+     * 
+     * @return Taille de la FFT.
+     */
+    public int getFFTLength () {
+        return this.fftLength;
+    }
+
+    /**
+     * Renvoie l'énergie de la réplique, <i>Sum(r(m)²)</i>.
+     * 
+     * @return Energie de la réplique.
+     */
+    public double getEnergy () {
+        return this.energy;
+    }
+
+    /**
+     * Renvoie la partie réelle du spectre, sans copie, pour les calculs internes
+     * au paquetage.
+     */
+    double[] real () {
+        return this.re;
+    }
+
+    /**
+     * Renvoie la partie imaginaire du spectre, sans copie, pour les calculs
+     * internes au paquetage.
+     */
+    double[] imaginary () {
+        return this.im;
+    }
+
+    /**
+     * Clé identifiant une réplique produite par {@link WaveformGenerator}.
+     */
+    private static final class Key {
+
+        private final WindowType win;
+        private final SweepType sw;
+        private final int fc;
+        private final int b;
+        private final int fs;
+        private final long T;
+
+        private Key(final WindowType win, final SweepType sw, final int fc, final int b, final int fs, final long T) {
+            this.win = win;
+            this.sw = sw;
+            this.fc = fc;
+            this.b = b;
+            this.fs = fs;
+            this.T = T;
+        }
+
+        @Override
+        public int hashCode () {
+            return Objects.hash(this.win, this.sw, this.fc, this.b, this.fs, this.T);
+        }
+
+        @Override
+        public boolean equals (Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return this.win == other.win && this.sw == other.sw && this.fc == other.fc && this.b == other.b
+                    && this.fs == other.fs && this.T == other.T;
+        }
+    }
+}
@@ -0,0 +1,308 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 LE SAUCE Julien
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.jls.toolbox.math;
+
+import org.jls.toolbox.math.Window.WindowType;
+
+/**
+ * Permet de calculer une transformée de Fourier à court terme (STFT) de manière
+ * incrémentale. Les échantillons sont fournis par blocs de taille quelconque ;
+ * dès qu'une trame est complète (une trame toutes les <i>hop</i> échantillons),
+ * elle est fenêtrée, complétée par des zéros jusqu'à la taille de la FFT puis
+ * transformée. Le module et la phase des N/2+1 raies du spectre sont alors
+ * écrits dans un tampon circulaire de trames qui peut être consommé au fil de
+ * l'eau pour alimenter un spectrogramme.
+ * <p>
+ * Seuls les derniers échantillons nécessaires au calcul de la trame suivante
+ * sont conservés en mémoire. Si le tampon de trames est plein, les trames les
+ * plus anciennes sont écrasées.
+ *
+ * @author LE SAUCE Julien
+ * @date Oct 16, 2026
+ */
+public class STFT {
+
+    private final int windowLength;
+    private final int fftLength;
+    private final int hopSize;
+    private final int bins;
+    private final int capacity;
+    private final FFT fft;
+    private final double[] window;
+
+    // Historique circulaire des derniers échantillons, chaque échantillon étant
+    // écrit deux fois afin que la trame courante soit toujours contiguë
+    private final double[] history;
+    private int historyPos;
+    private int untilNextFrame;
+
+    // Tampons de calcul d'une trame
+    private final double[] re;
+    private final double[] im;
+
+    // Tampon circulaire des trames calculées
+    private final float[] magnitudes;
+    private final float[] phases;
+    private int head;
+    private int count;
+    private long producedFrames;
+    private long droppedFrames;
+
+    /**
+     * Permet d'instancier une STFT.
+     *
+     * @param win
+     *            Type de fenêtrage appliqué à chaque trame.
+     * @param windowLength
+     *            Nombre d'échantillons d'une trame.
+     * @param fftLength
+     *            Taille de la FFT (puissance de 2 supérieure ou égale à la taille
+     *            d'une trame).
+     * @param hopSize
+     *            Nombre d'échantillons entre le début de deux trames successives.
+     * @param capacity
+     *            Nombre de trames conservées dans le tampon circulaire.
+     */
+    public STFT(WindowType win, int windowLength, int fftLength, int hopSize, int capacity) {
+        if (windowLength <= 0 || hopSize <= 0 || capacity <= 0) {
+            throw new IllegalArgumentException("Window length, hop size and capacity must be positive");
+        }
+        if (fftLength < 2) {
+            throw new IllegalArgumentException("FFT length must be at least 2");
+        }
+        if (windowLength > fftLength) {
+            throw new IllegalArgumentException("Window length must not exceed FFT length");
+        }
+        this.windowLength = windowLength;
+        this.fftLength = fftLength;
+        this.hopSize = hopSize;
+        this.bins = fftLength / 2 + 1;
+        this.capacity = capacity;
+        this.fft = FFT.plan(fftLength);
+        this.window = WindowCache.get(win, windowLength).coefficients();
+
+        this.history = new double[2 * windowLength];
+        this.historyPos = 0;
+        this.untilNextFrame = windowLength;
+
+        this.re = new double[this.bins];
+        this.im = new double[this.bins];
+
+        this.magnitudes = new float[capacity * this.bins];
+        this.phases = new float[capacity * this.bins];
+        this.head = 0;
+        this.count = 0;
+        this.producedFrames = 0;
+        this.droppedFrames = 0;
+    }
+
+    /**
+     * Permet d'ajouter des échantillons au flux.
+     *
+     * @param samples
+     *            Tableau contenant les échantillons.
+     * @param offset
+     *            Indice du premier échantillon à ajouter.
+     * @param length
+     *            Nombre d'échantillons à ajouter.
+     */
+    public synchronized void push (final float[] samples, final int offset, final int length) {
+        checkRange(samples.length, offset, length);
+        int i = offset;
+        int end = offset + length;
+        while (i < end) {
+            int n = Math.min(Math.min(end - i, this.untilNextFrame), this.windowLength - this.historyPos);
+            for (int k = 0; k < n; k++) {
+                this.history[this.historyPos + k] = samples[i + k];
+                this.history[this.historyPos + this.windowLength + k] = samples[i + k];
+            }
+            advance(n);
+            i += n;
+        }
+    }
+
+    /**
+     * Permet d'ajouter des échantillons au flux.
+     *
+     * @param samples
+     *            Tableau contenant les échantillons.
+     * @param offset
+     *            Indice du premier échantillon à ajouter.
+     * @param length
+     *            Nombre d'échantillons à ajouter.
+     */
+    public synchronized void push (final double[] samples, final int offset, final int length) {
+        checkRange(samples.length, offset, length);
+        int i = offset;
+        int end = offset + length;
+        while (i < end) {
+            int n = Math.min(Math.min(end - i, this.untilNextFrame), this.windowLength - this.historyPos);
+            System.arraycopy(samples, i, this.history, this.historyPos, n);
+            System.arraycopy(samples, i, this.history, this.historyPos + this.windowLength, n);
+            advance(n);
+            i += n;
+        }
+    }
+
+    /**
+     * Permet de récupérer la plus ancienne trame disponible et de la retirer du
+     * tampon.
+     *
+     * @param magnitude
+     *            Tableau de taille N/2+1 recevant le module de chaque raie.
+     * @param phase
+     *            Tableau de taille N/2+1 recevant la phase de chaque raie en
+     *            radians (peut être <code>null</code>).
+     * @return Numéro de la trame récupérée depuis le début du flux, ou -1 si
+     *         aucune trame n'est disponible.
+     */
+    public synchronized long poll (final float[] magnitude, final float[] phase) {
+        if (this.count == 0) {
+            return -1;
+        }
+        int slot = (this.head - this.count + this.capacity) % this.capacity;
+        System.arraycopy(this.magnitudes, slot * this.bins, magnitude, 0, this.bins);
+        if (phase != null) {
+            System.arraycopy(this.phases, slot * this.bins, phase, 0, this.bins);
+        }
+        long index = this.producedFrames - this.count;
+        this.count--;
+        return index;
+    }
+
+    /**
+     * Permet de réinitialiser le flux : les échantillons en attente et les trames
+     * non consommées sont supprimés.
+     */
+    public synchronized void reset () {
+        this.historyPos = 0;
+        this.untilNextFrame = this.windowLength;
+        this.head = 0;
+        this.count = 0;
+        this.producedFrames = 0;
+        this.droppedFrames = 0;
+    }
+
+    /**
+     * Renvoie le nombre de trames disponibles dans le tampon.
+     *
+     * @return Nombre de trames disponibles.
+     */
+    public synchronized int getAvailableFrames () {
+        return this.count;
+    }
+
+    /**
+     * Renvoie le nombre de trames calculées depuis le début du flux.
+     *
+     * @return Nombre de trames calculées.
+     */
+    public synchronized long getProducedFrames () {
+        return this.producedFrames;
+    }
+
+    /**
+     * Renvoie le nombre de trames écrasées avant d'avoir été consommées.
+     *
+     * @return Nombre de trames perdues.
+     */
+    public synchronized long getDroppedFrames () {
+        return this.droppedFrames;
+    }
+
+    /**
+     * Renvoie le nombre de raies d'une trame.
+     *
+     * @return Nombre de raies (N/2+1).
+     */
+    public int getBinCount () {
+        return this.bins;
+    }
+
+    /**
+     * Renvoie le nombre d'échantillons entre deux trames successives.
+     *
+     * @return Pas entre deux trames.
+     */
+    public int getHopSize () {
+        return this.hopSize;
+    }
+
+    /**
+     * Renvoie la taille de la FFT.
+     *
+     * @return Taille de la FFT.
+     */
+    public int getFFTLength () {
+        return this.fftLength;
+    }
+
+    private void checkRange (int size, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > size) {
+            throw new IndexOutOfBoundsException("Invalid range [" + offset + ";" + (offset + length) + "[");
+        }
+    }
+
+    /**
+     * Avance dans l'historique après l'écriture de n échantillons et calcule une
+     * trame si nécessaire.
+     */
+    private void advance (final int n) {
+        this.historyPos += n;
+        if (this.historyPos == this.windowLength) {
+            this.historyPos = 0;
+        }
+        this.untilNextFrame -= n;
+        if (this.untilNextFrame == 0) {
+            computeFrame();
+            this.untilNextFrame = this.hopSize;
+        }
+    }
+
+    /**
+     * Calcule la trame correspondant aux derniers échantillons de l'historique.
+     */
+    private void computeFrame () {
+        // La trame, de l'échantillon le plus ancien au plus récent, commence à
+        // historyPos ; elle est fenêtrée pendant le chargement de la FFT
+        this.fft.rfft(this.history, this.historyPos, this.window, this.re, this.im);
+
+        // Ecriture dans le tampon circulaire
+        int base = this.head * this.bins;
+        for (int k = 0; k < this.bins; k++) {
+            double r = this.re[k];
+            double i = this.im[k];
+            this.magnitudes[base + k] = (float) Math.sqrt(r * r + i * i);
+            this.phases[base + k] = (float) Math.atan2(i, r);
+        }
+        this.head = (this.head + 1) % this.capacity;
+        if (this.count == this.capacity) {
+            this.droppedFrames++;
+        } else {
+            this.count++;
+        }
+        this.producedFrames++;
+    }
+}
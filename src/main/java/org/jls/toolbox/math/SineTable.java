@@ -0,0 +1,165 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 LE SAUCE Julien
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.jls.toolbox.math;
+
+/**
+ * Table de sinus utilisée par les oscillateurs numériques ({@link NCO},
+ * {@link SweepGenerator}). La table contient 2<sup>bits</sup> points sur une
+ * période et la valeur est obtenue soit directement (point le plus proche par
+ * défaut), soit par interpolation linéaire entre deux points. La phase est
+ * exprimée soit sur un entier 32 bits représentant un tour complet (le
+ * débordement de l'entier réalisant le modulo 2.PI), soit en nombre de tours.
+ * <p>
+ * Les tables sont immuables et peuvent être partagées entre plusieurs threads.
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 16, 2026
+ */
+public final class SineTable {
+
+    /**
+     * Permet de représenter les modes de lecture de la table.
+     * 
+     * @author LE SAUCE Julien
+     * @date Oct 16, 2026
+     */
+    public enum Interpolation {
+        /**
+         * Point de la table immédiatement inférieur : le plus rapide, erreur de
+         * l'ordre de 2.PI/taille.
+         */
+        NONE,
+        /**
+         * Interpolation linéaire entre deux points : erreur de l'ordre de
+         * (2.PI/taille)<sup>2</sup>/8.
+         */
+        LINEAR;
+    }
+
+    /**
+     * Table par défaut de 4096 points avec interpolation linéaire (erreur
+     * inférieure à 3e-7).
+     */
+    public static final SineTable DEFAULT = new SineTable(12, Interpolation.LINEAR);
+
+    private final int bits;
+    private final int size;
+    private final Interpolation interpolation;
+    private final double[] table;
+    private final double fracScale;
+
+    /**
+     * Permet d'instancier une table de sinus.
+     * 
+     * @param bits
+     *            Logarithme en base 2 du nombre de points de la table (entre 2 et
+     *            24).
+     * @param interpolation
+     *            Mode de lecture de la table.
+     */
+    public SineTable(final int bits, final Interpolation interpolation) {
+        if (bits < 2 || bits > 24) {
+            throw new IllegalArgumentException("Table size must be between 2^2 and 2^24 points");
+        }
+        if (interpolation == null) {
+            throw new NullPointerException("Interpolation cannot be null");
+        }
+        this.bits = bits;
+        this.size = 1 << bits;
+        this.interpolation = interpolation;
+        this.table = new double[this.size + 1];
+        for (int i = 0; i <= this.size; i++) {
+            this.table[i] = Math.sin(2 * Math.PI * i / this.size);
+        }
+        this.fracScale = 1.0 / (1L << (32 - bits));
+    }
+
+    /**
+     * Renvoie le sinus de la phase spécifiée sur 32 bits, 2<sup>32</sup>
+     * correspondant à un tour complet.
+     * 
+     * @param phase
+     *            Phase sur 32 bits (interprétée comme un entier non signé).
+     * @return Valeur de sin(2.PI.phase/2<sup>32</sup>).
+     */
+    public double sin (final int phase) {
+        int i = phase >>> (32 - this.bits);
+        if (this.interpolation == Interpolation.NONE) {
+            return this.table[i];
+        }
+        double frac = (phase & ((1 << (32 - this.bits)) - 1)) * this.fracScale;
+        return this.table[i] + (this.table[i + 1] - this.table[i]) * frac;
+    }
+
+    /**
+     * Renvoie le sinus de la phase spécifiée en nombre de tours.
+     * 
+     * @param phase
+     *            Phase en tours, comprise dans [0 ; 1[.
+     * @return Valeur de sin(2.PI.phase).
+     */
+    public double sinCycles (final double phase) {
+        double x = phase * this.size;
+        int i = (int) x;
+        if (this.interpolation == Interpolation.NONE) {
+            return this.table[i];
+        }
+        return this.table[i] + (this.table[i + 1] - this.table[i]) * (x - i);
+    }
+
+    /**
+     * Convertit une fréquence en incrément de phase sur 32 bits.
+     * 
+     * @param f
+     *            Fréquence en hertz.
+     * @param fs
+     *            Fréquence d'échantillonnage en hertz.
+     * @return Incrément de phase par échantillon, 2<sup>32</sup> correspondant à
+     *         un tour.
+     */
+    public static int phaseIncrement (final double f, final double fs) {
+        double cycles = f / fs;
+        cycles -= Math.floor(cycles);
+        return (int) Math.round(cycles * 4294967296.0);
+    }
+
+    /**
+     * Renvoie le nombre de points de la table.
+     * 
+     * @return Nombre de points sur une période.
+     */
+    public int size () {
+        return this.size;
+    }
+
+    /**
+     * Renvoie le mode de lecture de la table.
+     * 
+     * @return Mode d'interpolation.
+     */
+    public Interpolation getInterpolation () {
+        return this.interpolation;
+    }
+}
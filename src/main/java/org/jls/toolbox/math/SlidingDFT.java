@@ -0,0 +1,327 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 LE SAUCE Julien
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.jls.toolbox.math;
+
+import java.util.Arrays;
+
+/**
+ * Transformée de Fourier discrète glissante (sliding DFT) : pour chaque
+ * fréquence surveillée, la raie de la DFT des N derniers échantillons est mise
+ * à jour à chaque nouvel échantillon par la récurrence
+ * <i>X(n) = x(n) + exp(j.w).X(n-1) - exp(j.w.N).x(n-N)</i>, soit un coût en
+ * O(1) par échantillon et par raie. Contrairement au
+ * {@link GoertzelDetector}, le spectre est disponible après chaque échantillon
+ * et non à la fin d'un bloc.
+ * <p>
+ * La récurrence est valable pour des fréquences quelconques, qui ne tombent
+ * pas nécessairement sur une raie de la FFT de taille N. La phase des raies est
+ * référencée au dernier échantillon reçu. Pour éviter l'accumulation des
+ * erreurs d'arrondi sur un flux continu, les raies sont recalculées exactement
+ * à partir de l'historique toutes les {@link #RESYNC_BLOCKS} fenêtres, ce qui
+ * ajoute en moyenne 1/{@link #RESYNC_BLOCKS} multiplication complexe par
+ * échantillon et par raie.
+ * <p>
+ * Les raies sont stockées par tableaux (parties réelles, parties imaginaires,
+ * coefficients) afin que la mise à jour de plusieurs centaines de raies soit
+ * une simple boucle vectorisable. Une instance n'est pas thread-safe.
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 16, 2026
+ */
+public class SlidingDFT {
+
+    /**
+     * Nombre de fenêtres de N échantillons entre deux recalculs exacts des
+     * raies.
+     */
+    public static final int RESYNC_BLOCKS = 16;
+
+    private final double fs;
+    private final int windowLength;
+    private final double[] frequencies;
+
+    // Rotations exp(j.w) et exp(j.w.N), indexées par raie
+    private final double[] cos;
+    private final double[] sin;
+    private final double[] cosN;
+    private final double[] sinN;
+
+    // Raies courantes, indexées par raie
+    private final double[] re;
+    private final double[] im;
+
+    // Historique circulaire des N derniers échantillons
+    private final double[] history;
+    private int position;
+    private int untilResync;
+
+    /**
+     * Permet d'instancier une DFT glissante.
+     * 
+     * @param fs
+     *            Fréquence d'échantillonnage en hertz.
+     * @param N
+     *            Nombre d'échantillons de la fenêtre glissante.
+     * @param frequencies
+     *            Fréquence(s) surveillée(s) en hertz.
+     */
+    public SlidingDFT(double fs, int N, double... frequencies) {
+        if (fs <= 0) {
+            throw new IllegalArgumentException("Sampling frequency must be positive");
+        }
+        if (N <= 0) {
+            throw new IllegalArgumentException("Window length must be positive");
+        }
+        if (frequencies == null || frequencies.length == 0) {
+            throw new IllegalArgumentException("At least one frequency is required");
+        }
+        this.fs = fs;
+        this.windowLength = N;
+        this.frequencies = frequencies.clone();
+
+        int count = frequencies.length;
+        this.cos = new double[count];
+        this.sin = new double[count];
+        this.cosN = new double[count];
+        this.sinN = new double[count];
+        for (int k = 0; k < count; k++) {
+            double w = 2 * Math.PI * frequencies[k] / fs;
+            this.cos[k] = Math.cos(w);
+            this.sin[k] = Math.sin(w);
+            this.cosN[k] = Math.cos(w * N);
+            this.sinN[k] = Math.sin(w * N);
+        }
+        this.re = new double[count];
+        this.im = new double[count];
+        this.history = new double[N];
+        this.position = 0;
+        this.untilResync = RESYNC_BLOCKS * N;
+    }
+
+    /**
+     * Permet de traiter des échantillons du flux.
+     * 
+     * @param samples
+     *            Tableau contenant les échantillons.
+     * @param offset
+     *            Indice du premier échantillon à traiter.
+     * @param length
+     *            Nombre d'échantillons à traiter.
+     */
+    public void process (final double[] samples, final int offset, final int length) {
+        checkRange(samples.length, offset, length);
+        for (int n = offset; n < offset + length; n++) {
+            update(samples[n]);
+        }
+    }
+
+    /**
+     * Permet de traiter des échantillons du flux.
+     * 
+     * @param samples
+     *            Tableau contenant les échantillons.
+     * @param offset
+     *            Indice du premier échantillon à traiter.
+     * @param length
+     *            Nombre d'échantillons à traiter.
+     */
+    public void process (final float[] samples, final int offset, final int length) {
+        checkRange(samples.length, offset, length);
+        for (int n = offset; n < offset + length; n++) {
+            update(samples[n]);
+        }
+    }
+
+    /**
+     * Renvoie la partie réelle d'une raie sur les N derniers échantillons.
+     * 
+     * @param tone
+     *            Index de la fréquence surveillée.
+     * @return Partie réelle de la raie.
+     */
+    public double getReal (final int tone) {
+        return this.re[tone];
+    }
+
+    /**
+     * Renvoie la partie imaginaire d'une raie sur les N derniers échantillons.
+     * 
+     * @param tone
+     *            Index de la fréquence surveillée.
+     * @return Partie imaginaire de la raie.
+     */
+    public double getImaginary (final int tone) {
+        return this.im[tone];
+    }
+
+    /**
+     * Renvoie la puissance d'une raie (carré de son module) sur les N derniers
+     * échantillons.
+     * 
+     * @param tone
+     *            Index de la fréquence surveillée.
+     * @return Puissance de la raie.
+     */
+    public double getPower (final int tone) {
+        return this.re[tone] * this.re[tone] + this.im[tone] * this.im[tone];
+    }
+
+    /**
+     * Permet de copier les puissances de toutes les raies.
+     * 
+     * @param dst
+     *            Tableau recevant les puissances, de taille au moins égale au
+     *            nombre de fréquences surveillées.
+     */
+    public void getPowers (final double[] dst) {
+        for (int k = 0; k < this.re.length; k++) {
+            dst[k] = this.re[k] * this.re[k] + this.im[k] * this.im[k];
+        }
+    }
+
+    /**
+     * Renvoie l'amplitude estimée d'une raie : une sinusoïde d'amplitude A
+     * centrée sur la fréquence surveillée donne A, une fois la fenêtre remplie.
+     * 
+     * @param tone
+     *            Index de la fréquence surveillée.
+     * @return Amplitude estimée.
+     */
+    public double getAmplitude (final int tone) {
+        return 2 * Math.sqrt(getPower(tone)) / this.windowLength;
+    }
+
+    /**
+     * Permet de réinitialiser la DFT : l'historique et les raies sont remis à
+     * zéro.
+     */
+    public void reset () {
+        Arrays.fill(this.history, 0.0);
+        Arrays.fill(this.re, 0.0);
+        Arrays.fill(this.im, 0.0);
+        this.position = 0;
+        this.untilResync = RESYNC_BLOCKS * this.windowLength;
+    }
+
+    /**
+     * Renvoie le nombre d'échantillons de la fenêtre glissante.
+     * 
+     * @return Taille de la fenêtre.
+     */
+    public int getWindowLength () {
+        return this.windowLength;
+    }
+
+    /**
+     * Renvoie le nombre de fréquences surveillées.
+     * 
+     * @return Nombre de fréquences.
+     */
+    public int getToneCount () {
+        return this.frequencies.length;
+    }
+
+    /**
+     * Renvoie une fréquence surveillée.
+     * 
+     * @param tone
+     *            Index de la fréquence.
+     * @return Fréquence en hertz.
+     */
+    public double getFrequency (final int tone) {
+        return this.frequencies[tone];
+    }
+
+    /**
+     * Renvoie la fréquence d'échantillonnage.
+     * 
+     * @return Fréquence d'échantillonnage en hertz.
+     */
+    public double getSamplingFrequency () {
+        return this.fs;
+    }
+
+    /**
+     * Met à jour toutes les raies avec un nouvel échantillon.
+     */
+    private void update (final double x) {
+        double old = this.history[this.position];
+        this.history[this.position] = x;
+        if (++this.position == this.windowLength) {
+            this.position = 0;
+        }
+        double[] c = this.cos;
+        double[] s = this.sin;
+        double[] cN = this.cosN;
+        double[] sN = this.sinN;
+        double[] r = this.re;
+        double[] i = this.im;
+        for (int k = 0; k < r.length; k++) {
+            double rk = r[k];
+            double ik = i[k];
+            r[k] = x - cN[k] * old + c[k] * rk - s[k] * ik;
+            i[k] = -sN[k] * old + s[k] * rk + c[k] * ik;
+        }
+        if (--this.untilResync == 0) {
+            resync();
+            this.untilResync = RESYNC_BLOCKS * this.windowLength;
+        }
+    }
+
+    /**
+     * Recalcule exactement les raies à partir de l'historique :
+     * <i>X(n) = Sum(m=0..N-1, x(n-m).exp(j.w.m))</i>.
+     */
+    private void resync () {
+        int N = this.windowLength;
+        for (int k = 0; k < this.re.length; k++) {
+            double c = this.cos[k];
+            double s = this.sin[k];
+            double pr = 1.0;
+            double pi = 0.0;
+            double sumRe = 0.0;
+            double sumIm = 0.0;
+            // Du plus récent au plus ancien échantillon
+            int idx = this.position;
+            for (int m = 0; m < N; m++) {
+                idx = idx == 0 ? N - 1 : idx - 1;
+                double x = this.history[idx];
+                sumRe += x * pr;
+                sumIm += x * pi;
+                double t = pr * c - pi * s;
+                pi = pr * s + pi * c;
+                pr = t;
+            }
+            this.re[k] = sumRe;
+            this.im[k] = sumIm;
+        }
+    }
+
+    private static void checkRange (int size, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > size) {
+            throw new IndexOutOfBoundsException("Invalid range [" + offset + ";" + (offset + length) + "[");
+        }
+    }
+}
@@ -0,0 +1,358 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 LE SAUCE Julien
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.jls.toolbox.math;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Statistiques d'un tableau d'échantillons calculées en un seul parcours :
+ * minimum, maximum, maximum en valeur absolue (avec leurs index), moyenne,
+ * variance et moyenne quadratique.
+ * <p>
+ * Chaque bloc est accumulé par sommes décalées (autour de son premier
+ * échantillon) pour limiter les erreurs d'annulation, puis les blocs sont
+ * fusionnés par la formule de Chan. Au-delà de {@link #PARALLEL_THRESHOLD}
+ * échantillons par tâche, le tableau est découpé en plages contiguës réduites
+ * en parallèle dans le {@link ForkJoinPool} commun.
+ * <p>
+ * Les valeurs NaN se propagent à la moyenne, à la variance et à la moyenne
+ * quadratique ; les extremums ne sont alors pas significatifs.
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 16, 2026
+ */
+public final class Statistics {
+
+    /**
+     * Nombre minimal d'échantillons traités par une tâche lors d'un calcul en
+     * parallèle.
+     */
+    public static final int PARALLEL_THRESHOLD = 1 << 18;
+
+    private final int count;
+    private final double min;
+    private final double max;
+    private final int minIndex;
+    private final int maxIndex;
+    private final double mean;
+    private final double m2;
+
+    private Statistics(final int count, final double min, final int minIndex, final double max, final int maxIndex,
+            final double mean, final double m2) {
+        this.count = count;
+        this.min = min;
+        this.minIndex = minIndex;
+        this.max = max;
+        this.maxIndex = maxIndex;
+        this.mean = mean;
+        this.m2 = m2;
+    }
+
+    /**
+     * Permet de calculer les statistiques d'un tableau d'échantillons.
+     * 
+     * @param x
+     *            Tableau non vide d'échantillons.
+     * @return Statistiques du tableau.
+     */
+    public static Statistics of (final double[] x) {
+        return of(x, 0, x.length);
+    }
+
+    /**
+     * Permet de calculer les statistiques d'une plage d'échantillons. Les index
+     * renvoyés sont relatifs au début du tableau.
+     * 
+     * @param x
+     *            Tableau d'échantillons.
+     * @param offset
+     *            Index du premier échantillon.
+     * @param length
+     *            Nombre d'échantillons (strictement positif).
+     * @return Statistiques de la plage.
+     */
+    public static Statistics of (final double[] x, final int offset, final int length) {
+        checkRange(x.length, offset, length);
+        int tasks = tasks(length);
+        if (tasks <= 1) {
+            return compute(x, offset, offset + length);
+        }
+        List<ForkJoinTask<Statistics>> futures = new ArrayList<>(tasks);
+        for (int t = 0; t < tasks; t++) {
+            final int from = offset + (int) ((long) length * t / tasks);
+            final int to = offset + (int) ((long) length * (t + 1) / tasks);
+            futures.add(ForkJoinPool.commonPool().submit(() -> compute(x, from, to)));
+        }
+        return merge(futures);
+    }
+
+    /**
+     * Permet de calculer les statistiques d'un tableau d'échantillons.
+     * 
+     * @param x
+     *            Tableau non vide d'échantillons.
+     * @return Statistiques du tableau.
+     */
+    public static Statistics of (final float[] x) {
+        return of(x, 0, x.length);
+    }
+
+    /**
+     * Permet de calculer les statistiques d'une plage d'échantillons. Les index
+     * renvoyés sont relatifs au début du tableau. Les calculs sont effectués en
+     * double précision.
+     * 
+     * @param x
+     *            Tableau d'échantillons.
+     * @param offset
+     *            Index du premier échantillon.
+     * @param length
+     *            Nombre d'échantillons (strictement positif).
+     * @return Statistiques de la plage.
+     */
+    public static Statistics of (final float[] x, final int offset, final int length) {
+        checkRange(x.length, offset, length);
+        int tasks = tasks(length);
+        if (tasks <= 1) {
+            return compute(x, offset, offset + length);
+        }
+        List<ForkJoinTask<Statistics>> futures = new ArrayList<>(tasks);
+        for (int t = 0; t < tasks; t++) {
+            final int from = offset + (int) ((long) length * t / tasks);
+            final int to = offset + (int) ((long) length * (t + 1) / tasks);
+            futures.add(ForkJoinPool.commonPool().submit(() -> compute(x, from, to)));
+        }
+        return merge(futures);
+    }
+
+    /**
+     * Renvoie le nombre d'échantillons.
+     * 
+     * @return Nombre d'échantillons.
+     */
+    public int getCount () {
+        return this.count;
+    }
+
+    /**
+     * Renvoie la valeur minimale.
+     * 
+     * @return Valeur minimale.
+     */
+    public double getMin () {
+        return this.min;
+    }
+
+    /**
+     * Renvoie l'index de la première occurrence de la valeur minimale.
+     * 
+     * @return Index de la valeur minimale.
+     */
+    public int getMinIndex () {
+        return this.minIndex;
+    }
+
+    /**
+     * Renvoie la valeur maximale.
+     * 
+     * @return Valeur maximale.
+     */
+    public double getMax () {
+        return this.max;
+    }
+
+    /**
+     * Renvoie l'index de la première occurrence de la valeur maximale.
+     * 
+     * @return Index de la valeur maximale.
+     */
+    public int getMaxIndex () {
+        return this.maxIndex;
+    }
+
+    /**
+     * Renvoie le maximum en valeur absolue, c'est-à-dire <i>max(|min|,
+     * |max|)</i>.
+     * 
+     * @return Maximum en valeur absolue (positif).
+     */
+    public double getMaxAbs () {
+        return Math.max(Math.abs(this.min), Math.abs(this.max));
+    }
+
+    /**
+     * Renvoie l'index de l'échantillon de plus grande valeur absolue. En cas
+     * d'égalité entre <i>|min|</i> et <i>|max|</i>, l'index du maximum est
+     * renvoyé.
+     * 
+     * @return Index du maximum en valeur absolue.
+     */
+    public int getMaxAbsIndex () {
+        return Math.abs(this.min) > Math.abs(this.max) ? this.minIndex : this.maxIndex;
+    }
+
+    /**
+     * Renvoie la valeur moyenne.
+     * 
+     * @return Valeur moyenne.
+     */
+    public double getMean () {
+        return this.mean;
+    }
+
+    /**
+     * Renvoie la variance de la population, <i>Sum((xk - mean)²)/N</i>.
+     * 
+     * @return Variance.
+     */
+    public double getVariance () {
+        return this.m2 / this.count;
+    }
+
+    /**
+     * Renvoie la variance de l'échantillon (estimateur non biaisé),
+     * <i>Sum((xk - mean)²)/(N-1)</i>.
+     * 
+     * @return Variance de l'échantillon, ou 0 si N vaut 1.
+     */
+    public double getSampleVariance () {
+        return this.count > 1 ? this.m2 / (this.count - 1) : 0.0;
+    }
+
+    /**
+     * Renvoie l'écart-type de la population.
+     * 
+     * @return Racine carrée de {@link #getVariance()}.
+     */
+    public double getStandardDeviation () {
+        return Math.sqrt(getVariance());
+    }
+
+    /**
+     * Renvoie la moyenne quadratique <i>sqrt[Sum(xk²)/N]</i>.
+     * 
+     * @return Moyenne quadratique.
+     */
+    public double getRootMeanSquare () {
+        return Math.sqrt(this.mean * this.mean + getVariance());
+    }
+
+    @Override
+    public String toString () {
+        return "Statistics [count=" + this.count + ", min=" + this.min + ", max=" + this.max + ", mean=" + this.mean
+                + ", variance=" + getVariance() + ", rms=" + getRootMeanSquare() + "]";
+    }
+
+    private static Statistics compute (final double[] x, final int from, final int to) {
+        double shift = x[from];
+        double min = shift;
+        double max = shift;
+        int minIndex = from;
+        int maxIndex = from;
+        double sum = 0.0;
+        double sumSquares = 0.0;
+        for (int i = from; i < to; i++) {
+            double v = x[i];
+            if (v < min) {
+                min = v;
+                minIndex = i;
+            } else if (v > max) {
+                max = v;
+                maxIndex = i;
+            }
+            double d = v - shift;
+            sum += d;
+            sumSquares += d * d;
+        }
+        int n = to - from;
+        double m2 = Math.max(0.0, sumSquares - sum * sum / n);
+        return new Statistics(n, min, minIndex, max, maxIndex, shift + sum / n, m2);
+    }
+
+    private static Statistics compute (final float[] x, final int from, final int to) {
+        double shift = x[from];
+        double min = shift;
+        double max = shift;
+        int minIndex = from;
+        int maxIndex = from;
+        double sum = 0.0;
+        double sumSquares = 0.0;
+        for (int i = from; i < to; i++) {
+            double v = x[i];
+            if (v < min) {
+                min = v;
+                minIndex = i;
+            } else if (v > max) {
+                max = v;
+                maxIndex = i;
+            }
+            double d = v - shift;
+            sum += d;
+            sumSquares += d * d;
+        }
+        int n = to - from;
+        double m2 = Math.max(0.0, sumSquares - sum * sum / n);
+        return new Statistics(n, min, minIndex, max, maxIndex, shift + sum / n, m2);
+    }
+
+    /**
+     * Fusionne les statistiques de deux plages contiguës, a précédant b.
+     */
+    private static Statistics merge (final Statistics a, final Statistics b) {
+        int n = a.count + b.count;
+        double delta = b.mean - a.mean;
+        double mean = a.mean + delta * b.count / n;
+        double m2 = a.m2 + b.m2 + delta * delta * ((double) a.count * b.count / n);
+        // En cas d'égalité, la première occurrence (plage a) est conservée
+        boolean minA = !(b.min < a.min);
+        boolean maxA = !(b.max > a.max);
+        return new Statistics(n, minA ? a.min : b.min, minA ? a.minIndex : b.minIndex, maxA ? a.max : b.max,
+                maxA ? a.maxIndex : b.maxIndex, mean, m2);
+    }
+
+    private static Statistics merge (final List<ForkJoinTask<Statistics>> futures) {
+        Statistics result = futures.get(0).join();
+        for (int t = 1; t < futures.size(); t++) {
+            result = merge(result, futures.get(t).join());
+        }
+        return result;
+    }
+
+    private static int tasks (final int length) {
+        return Math.min(ForkJoinPool.getCommonPoolParallelism(), length / PARALLEL_THRESHOLD);
+    }
+
+    private static void checkRange (final int size, final int offset, final int length) {
+        if (offset < 0 || length < 0 || offset + length > size) {
+            throw new IndexOutOfBoundsException("Invalid range [" + offset + ";" + (offset + length) + "[");
+        }
+        if (length == 0) {
+            throw new IllegalArgumentException("Array has zero length");
+        }
+    }
+}
@@ -25,7 +25,8 @@
 package org.jls.toolbox.math;
 
 /**
- * Permet de générer différents types de balayages de fréquence.
+ * Permet de générer différents types de balayages de fréquence. Pour générer
+ * une forme d'onde de longue durée par blocs, voir {@link SweepGenerator}.
  * 
  * @author LE SAUCE Julien
  * @date Feb 12, 2015
@@ -86,6 +87,42 @@ public class Sweep {
         return wk;
     }
 
+    /**
+     * Permet de générer une forme d'onde sinusoïdale, modulée en fréquence selon le
+     * type de balayage spécifié, en lisant le sinus dans la table spécifiée plutôt
+     * qu'en appelant {@link Math#sin(double)} pour chaque échantillon.
+     * 
+     * @param sw
+     *            Type de balayage de fréquence.
+     * @param fc
+     *            Fréquence centrale de la modulation en hertz.
+     * @param b
+     *            Largeur de bande de la modulation en hertz.
+     * @param fs
+     *            Fréquence d'échantillonnage en hertz.
+     * @param T
+     *            Durée de la forme d'onde en millisecondes.
+     * @param table
+     *            Table de sinus utilisée.
+     * @return Tableau de taille N représentant les échantillons de la forme d'onde
+     *         avec N=T*Fs.
+     * @see SweepGenerator
+     */
+    public static double[] computeFM (SweepType sw, double fc, double b, double fs, long T, SineTable table) {
+        if (sw == SweepType.CW) {
+            return continuousWave(table, fc, T, fs);
+        }
+        if (sw == SweepType.NONE) {
+            throw new IllegalArgumentException("Invalid use of NONE case");
+        }
+        int N = (int) Math.round(T / 1000.0 * fs);
+        double[] wf = new double[N];
+        if (N > 0) {
+            new SweepGenerator(sw, fc, b, fs, T, table).generate(wf, 0, N);
+        }
+        return wf;
+    }
+
     /**
      * Permet de générer un set de N valeurs de fréquences modulées selon le type de
      * modulation spécifié.
@@ -188,6 +225,39 @@ public class Sweep {
         return wf;
     }
 
+    /**
+     * Permet de générer une forme d'onde sinusoïdale à fréquence constante Fc,
+     * éventuellement additionnée de sinusoïdes de fréquences supplémentaires, à
+     * l'aide d'un oscillateur numérique ({@link NCO}) : chaque fréquence dispose
+     * de son accumulateur de phase et le sinus est lu dans la table spécifiée.
+     * 
+     * @param table
+     *            Table de sinus utilisée.
+     * @param f
+     *            Fréquence de la forme d'onde en hertz.
+     * @param T
+     *            Durée de la forme d'onde en millisecondes.
+     * @param fs
+     *            Fréquence d'échantillonnage en hertz.
+     * @param adds
+     *            Fréquence(s) additionnelle(s) en hertz.
+     * @return Tableau de taille N représentant les échantillons de la forme d'onde
+     *         avec N=T*Fs.
+     * @see #continuousWave(double, long, double, double...)
+     */
+    public static double[] continuousWave (SineTable table, double f, long T, double fs, double... adds) {
+        double d = T / 1000.0;
+        int N = (int) Math.round(d * fs);
+        double[] frequencies = new double[1 + (adds == null ? 0 : adds.length)];
+        frequencies[0] = f;
+        if (adds != null) {
+            System.arraycopy(adds, 0, frequencies, 1, adds.length);
+        }
+        double[] wf = new double[N];
+        new NCO(table, fs, frequencies).generate(wf, 0, N);
+        return wf;
+    }
+
     /**
      * Permet de générer une forme d'onde sinusoïdale, modulée en fréquence selon un
      * type de balayage linéaire, de fréquence centrale Fc, de largeur de bande B,
@@ -225,10 +295,7 @@ public class Sweep {
             double delta = i / (double) N;
             double t = d * delta;
             double phase = 2 * Math.PI * t * (f0 + (f1 - f0) * delta / 2.0);
-            while (phase > 2 * Math.PI) {
-                phase -= 2 * Math.PI;
-            }
-            wf[i] = Math.sin(phase);
+            wf[i] = Math.sin(phase % (2 * Math.PI));
         }
         return wf;
     }
@@ -0,0 +1,278 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 LE SAUCE Julien
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.jls.toolbox.math;
+
+import org.jls.toolbox.math.Sweep.SweepType;
+
+/**
+ * Permet de générer au fil de l'eau une forme d'onde sinusoïdale modulée en
+ * fréquence selon le type de balayage spécifié (CW, linéaire ou hyperbolique).
+ * Contrairement aux méthodes de {@link Sweep} qui calculent la forme d'onde
+ * complète, les échantillons sont écrits par blocs de taille quelconque dans
+ * les tableaux de l'appelant : la durée générée n'est donc pas limitée par la
+ * mémoire disponible.
+ * <p>
+ * La phase est maintenue dans un accumulateur exprimé en nombre de tours et
+ * reste continue d'un bloc à l'autre, y compris lorsque le balayage de durée T
+ * recommence. L'incrément de phase est mis à jour par récurrence (incrément
+ * constant pour le CW, variation constante de l'incrément pour le balayage
+ * linéaire, fréquence instantanée <i>f(n) = 1/(a+b.n)</i> pour le balayage
+ * hyperbolique) et le sinus est lu dans une {@link SineTable} : aucune fonction
+ * trigonométrique n'est appelée par échantillon.
+ * <p>
+ * Une instance n'est pas thread-safe.
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 16, 2026
+ */
+public class SweepGenerator {
+
+    private final SineTable table;
+    private final SweepType type;
+    private final int period;
+
+    // Paramètres de la récurrence sur l'incrément de phase (en tours)
+    private final double startIncrement;
+    private final double incrementStep;
+    private final double hyperbolicStart;
+    private final double hyperbolicSlope;
+
+    private double phase;
+    private double increment;
+    private int position;
+    private long sampleIndex;
+
+    /**
+     * Permet d'instancier un générateur de balayage de fréquence centrale Fc, sur
+     * la bande B, de période T et échantillonné à la fréquence Fs.
+     * 
+     * @param sw
+     *            Type de balayage de fréquence (CW, LINEAR_UP, LINEAR_DOWN,
+     *            HYPERBOLIC_UP ou HYPERBOLIC_DOWN).
+     * @param fc
+     *            Fréquence centrale en hertz.
+     * @param b
+     *            Largeur de bande en hertz (ignorée pour le CW).
+     * @param fs
+     *            Fréquence d'échantillonnage en hertz.
+     * @param T
+     *            Durée d'un balayage en millisecondes, au terme de laquelle le
+     *            balayage recommence.
+     */
+    public SweepGenerator(SweepType sw, double fc, double b, double fs, long T) {
+        this(sw, fc, b, fs, T, SineTable.DEFAULT);
+    }
+
+    /**
+     * Permet d'instancier un générateur de balayage de fréquence centrale Fc, sur
+     * la bande B, de période T et échantillonné à la fréquence Fs, utilisant la
+     * table de sinus spécifiée.
+     * 
+     * @param sw
+     *            Type de balayage de fréquence (CW, LINEAR_UP, LINEAR_DOWN,
+     *            HYPERBOLIC_UP ou HYPERBOLIC_DOWN).
+     * @param fc
+     *            Fréquence centrale en hertz.
+     * @param b
+     *            Largeur de bande en hertz (ignorée pour le CW).
+     * @param fs
+     *            Fréquence d'échantillonnage en hertz.
+     * @param T
+     *            Durée d'un balayage en millisecondes, au terme de laquelle le
+     *            balayage recommence.
+     * @param table
+     *            Table de sinus utilisée.
+     */
+    public SweepGenerator(SweepType sw, double fc, double b, double fs, long T, SineTable table) {
+        if (table == null) {
+            throw new NullPointerException("Sine table cannot be null");
+        }
+        if (fs <= 0) {
+            throw new IllegalArgumentException("Sampling frequency must be positive");
+        }
+        double d = T / 1000.0;
+        int N = (int) Math.round(d * fs);
+        if (N <= 0) {
+            throw new IllegalArgumentException("Sweep duration must contain at least one sample");
+        }
+        this.table = table;
+        this.type = sw;
+        this.period = N;
+        switch (sw) {
+            case CW:
+                this.startIncrement = fc / fs;
+                this.incrementStep = 0;
+                this.hyperbolicStart = 0;
+                this.hyperbolicSlope = 0;
+                break;
+            case LINEAR_UP:
+            case LINEAR_DOWN: {
+                if (fc - b / 2.0 < 0) {
+                    throw new IllegalArgumentException("Half band Fc-B/2 must be positive");
+                }
+                double f0 = sw == SweepType.LINEAR_UP ? fc - b / 2.0 : fc + b / 2.0;
+                double f1 = sw == SweepType.LINEAR_UP ? fc + b / 2.0 : fc - b / 2.0;
+                // Phase de Sweep.linearChirp : p(i) = d.i/N.(f0 + (f1-f0).i/2N) tours,
+                // dont la dérivée seconde discrète est constante
+                this.startIncrement = d / N * (f0 + (f1 - f0) / (2.0 * N));
+                this.incrementStep = d / N * (f1 - f0) / N;
+                this.hyperbolicStart = 0;
+                this.hyperbolicSlope = 0;
+                break;
+            }
+            case HYPERBOLIC_UP:
+            case HYPERBOLIC_DOWN: {
+                double fStart = sw == SweepType.HYPERBOLIC_UP ? fc - b / 2.0 : fc + b / 2.0;
+                double fStop = sw == SweepType.HYPERBOLIC_UP ? fc + b / 2.0 : fc - b / 2.0;
+                if (fStart <= 0 || fStop <= 0) {
+                    throw new IllegalArgumentException("Half band Fc-B/2 must be positive");
+                }
+                // Fréquence instantanée de Sweep.hyperbolicChirp au milieu de
+                // l'échantillon n : f = fStart / (1 + k.(n+1/2)/fs), soit un
+                // incrément de 1/(a + b.n) tours (constant si la bande est nulle)
+                double k = (fStart - fStop) / (fStop * d);
+                this.startIncrement = fStart / fs;
+                this.incrementStep = 0;
+                this.hyperbolicStart = (fs + k * 0.5) / fStart;
+                this.hyperbolicSlope = k / fStart;
+                break;
+            }
+            case NONE:
+                throw new IllegalArgumentException("Invalid use of NONE case");
+            default:
+                throw new IllegalArgumentException("Incorrect modulation type");
+        }
+        reset();
+    }
+
+    /**
+     * Permet de générer les échantillons suivants de la forme d'onde.
+     * 
+     * @param buffer
+     *            Tableau recevant les échantillons.
+     * @param offset
+     *            Indice du premier échantillon écrit.
+     * @param length
+     *            Nombre d'échantillons à générer.
+     */
+    public void generate (final double[] buffer, final int offset, final int length) {
+        checkRange(buffer.length, offset, length);
+        for (int i = 0; i < length; i++) {
+            buffer[offset + i] = this.table.sinCycles(this.phase);
+            step();
+        }
+    }
+
+    /**
+     * Permet de générer les échantillons suivants de la forme d'onde en simple
+     * précision.
+     * 
+     * @param buffer
+     *            Tableau recevant les échantillons.
+     * @param offset
+     *            Indice du premier échantillon écrit.
+     * @param length
+     *            Nombre d'échantillons à générer.
+     */
+    public void generate (final float[] buffer, final int offset, final int length) {
+        checkRange(buffer.length, offset, length);
+        for (int i = 0; i < length; i++) {
+            buffer[offset + i] = (float) this.table.sinCycles(this.phase);
+            step();
+        }
+    }
+
+    /**
+     * Permet de revenir au début du balayage avec une phase nulle.
+     */
+    public void reset () {
+        this.phase = 0;
+        this.position = 0;
+        this.sampleIndex = 0;
+        this.increment = increment(0);
+    }
+
+    /**
+     * Renvoie le nombre d'échantillons générés depuis la création ou la dernière
+     * réinitialisation.
+     * 
+     * @return Nombre d'échantillons générés.
+     */
+    public long getSampleIndex () {
+        return this.sampleIndex;
+    }
+
+    /**
+     * Renvoie le nombre d'échantillons d'un balayage.
+     * 
+     * @return Nombre d'échantillons N=T*Fs.
+     */
+    public int getPeriod () {
+        return this.period;
+    }
+
+    /**
+     * Renvoie le type de balayage généré.
+     * 
+     * @return Type de balayage.
+     */
+    public SweepType getType () {
+        return this.type;
+    }
+
+    /**
+     * Avance l'accumulateur de phase d'un échantillon.
+     */
+    private void step () {
+        this.phase += this.increment;
+        this.phase -= Math.floor(this.phase);
+        this.sampleIndex++;
+        if (++this.position == this.period) {
+            // Nouveau balayage, la phase restant continue
+            this.position = 0;
+            this.increment = increment(0);
+        } else if (this.hyperbolicSlope != 0) {
+            this.increment = increment(this.position);
+        } else {
+            this.increment += this.incrementStep;
+        }
+    }
+
+    /**
+     * Calcule l'incrément de phase (en tours) de l'échantillon n du balayage.
+     */
+    private double increment (final int n) {
+        if (this.hyperbolicSlope != 0) {
+            return 1.0 / (this.hyperbolicStart + this.hyperbolicSlope * n);
+        }
+        return this.startIncrement + this.incrementStep * n;
+    }
+
+    private static void checkRange (int size, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > size) {
+            throw new IndexOutOfBoundsException("Invalid range [" + offset + ";" + (offset + length) + "[");
+        }
+    }
+}
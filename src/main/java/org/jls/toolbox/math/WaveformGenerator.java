@@ -62,9 +62,44 @@ public class WaveformGenerator {
             return Window.computeWindow(win, fs, T);
         }
         double[] wn = Sweep.computeFM(sw, fc, b, fs, T);
-        double[] env = Window.computeWindow(win, fs, T);
-        for (int n = 0; n < wn.length; n++) {
-            wn[n] *= env[n];
+        // Enveloppe partagée appliquée en place
+        if (wn.length > 0) {
+            WindowCache.get(win, wn.length).apply(wn, 0);
+        }
+        return wn;
+    }
+
+    /**
+     * Permet de générer une forme d'onde sinusoïdale modulée en fréquence et en
+     * amplitude, le sinus étant lu dans la table spécifiée.
+     * 
+     * @param win
+     *            Permet de spécifier le type d'enveloppe pour la modulation
+     *            d'amplitude.
+     * @param sw
+     *            Permet de spécifier le type de balayage de fréquence.
+     * @param fc
+     *            Fréquence centrale de la forme d'onde en hertz.
+     * @param b
+     *            Largeur de bande en hertz.
+     * @param fs
+     *            Fréquence d'échantillonnage en hertz.
+     * @param T
+     *            Durée de la forme d'onde en millisecondes.
+     * @param table
+     *            Table de sinus utilisée par l'oscillateur.
+     * @return Tableau de taille N représentant les échantillons de la forme d'onde
+     *         générée avec <i>N=T*Fs</i>.
+     * @see #computeWaveform(WindowType, SweepType, int, int, int, long)
+     */
+    public static double[] computeWaveform (WindowType win, SweepType sw, int fc, int b, int fs, long T,
+            SineTable table) {
+        if (sw.equals(SweepType.NONE)) {
+            return Window.computeWindow(win, fs, T);
+        }
+        double[] wn = Sweep.computeFM(sw, fc, b, fs, T, table);
+        if (wn.length > 0) {
+            WindowCache.get(win, wn.length).apply(wn, 0);
         }
         return wn;
     }
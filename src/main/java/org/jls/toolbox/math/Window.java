@@ -94,6 +94,74 @@ public class Window {
         }
     }
 
+    /**
+     * Permet d'appliquer une fenêtre en place sur les premiers échantillons d'un
+     * tableau, sans allocation.
+     * 
+     * @param window
+     *            Coefficients de la fenêtre.
+     * @param buffer
+     *            Echantillons multipliés par la fenêtre.
+     */
+    public static void apply (double[] window, double[] buffer) {
+        apply(window, buffer, 0);
+    }
+
+    /**
+     * Permet d'appliquer une fenêtre en place sur les échantillons d'un tableau à
+     * partir de l'indice spécifié, sans allocation.
+     * 
+     * @param window
+     *            Coefficients de la fenêtre.
+     * @param buffer
+     *            Echantillons multipliés par la fenêtre.
+     * @param offset
+     *            Indice de l'échantillon multiplié par le premier coefficient.
+     */
+    public static void apply (double[] window, double[] buffer, int offset) {
+        checkApply(window.length, buffer.length, offset);
+        for (int n = 0; n < window.length; n++) {
+            buffer[offset + n] *= window[n];
+        }
+    }
+
+    /**
+     * Permet d'appliquer une fenêtre en place sur les premiers échantillons d'un
+     * tableau simple précision, sans allocation.
+     * 
+     * @param window
+     *            Coefficients de la fenêtre.
+     * @param buffer
+     *            Echantillons multipliés par la fenêtre.
+     */
+    public static void apply (double[] window, float[] buffer) {
+        apply(window, buffer, 0);
+    }
+
+    /**
+     * Permet d'appliquer une fenêtre en place sur les échantillons d'un tableau
+     * simple précision à partir de l'indice spécifié, sans allocation.
+     * 
+     * @param window
+     *            Coefficients de la fenêtre.
+     * @param buffer
+     *            Echantillons multipliés par la fenêtre.
+     * @param offset
+     *            Indice de l'échantillon multiplié par le premier coefficient.
+     */
+    public static void apply (double[] window, float[] buffer, int offset) {
+        checkApply(window.length, buffer.length, offset);
+        for (int n = 0; n < window.length; n++) {
+            buffer[offset + n] *= window[n];
+        }
+    }
+
+    private static void checkApply (int windowLength, int bufferLength, int offset) {
+        if (offset < 0 || offset + windowLength > bufferLength) {
+            throw new IllegalArgumentException("Buffer too small for the window");
+        }
+    }
+
     /**
      * Permet de générer une fenêtre rectangulaire sur N points, c'est-à-dire tous
      * les coefficients à 1.
@@ -285,15 +353,12 @@ public class Window {
      * @return Tableau de taille N représentant les coefficients de la fenêtre.
      */
     public static double[] blackman (int N, double[] ak) {
-        double wn[] = new double[N];
-        for (int n = 0; n < N; n++) {
-            double w = 0;
-            for (int k = 0; k < ak.length; k++) {
-                w += Math.pow(-1, k) * ak[k] * Math.cos((2 * PI * k * n) / (N - 1.0));
-            }
-            wn[n] = w;
+        // (-1)^k.ak.cos(k.x) : on intègre le signe aux coefficients
+        double[] a = new double[ak.length];
+        for (int k = 0; k < ak.length; k++) {
+            a[k] = (k & 1) == 0 ? ak[k] : -ak[k];
         }
-        return wn;
+        return cosineSum(N, a);
     }
 
     /**
@@ -333,13 +398,37 @@ public class Window {
      * @return Tableau de taille N représentant les coefficients de la fenêtre.
      */
     public static double[] flatTop (int N) {
-        double[] wn = new double[N];
         double[] a = { 0.21557895, -0.41663158, 0.277263158, -0.083578947, 0.006947368 };
+        return cosineSum(N, a);
+    }
+
+    /**
+     * Permet de générer une somme de cosinus
+     * <i>w(n)=Sum[0..k]{ak.cos((2.PI.k.n)/(N-1))}</i> sur N points. Seul cos(x)
+     * est calculé pour chaque point, les cos(k.x) étant obtenus par la relation de
+     * récurrence de Chebyshev <i>cos(k.x) = 2.cos(x).cos((k-1).x) -
+     * cos((k-2).x)</i>.
+     * 
+     * @param N
+     *            Nombre de points de la fenêtre.
+     * @param a
+     *            Coefficients <i>a(k)</i> de la somme.
+     * @return Tableau de taille N représentant les coefficients de la fenêtre.
+     */
+    private static double[] cosineSum (int N, double[] a) {
+        double[] wn = new double[N];
         for (int n = 0; n < N; n++) {
-            wn[n] = 0.0;
-            for (int i = 0; i < a.length; i++) {
-                wn[n] += a[i] * Math.cos((2 * i * n * PI) / (N - 1));
+            double c1 = Math.cos((2 * PI * n) / (N - 1.0));
+            double ck2 = 1.0;
+            double ck1 = c1;
+            double w = a.length > 0 ? a[0] : 0.0;
+            for (int k = 1; k < a.length; k++) {
+                w += a[k] * ck1;
+                double ck = 2 * c1 * ck1 - ck2;
+                ck2 = ck1;
+                ck1 = ck;
             }
+            wn[n] = w;
         }
         return wn;
     }
@@ -0,0 +1,233 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 LE SAUCE Julien
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.jls.toolbox.math;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.function.Supplier;
+
+import org.jls.toolbox.math.Window.WindowType;
+
+/**
+ * Cache partagé des fenêtres de pondération. Une fenêtre est identifiée par son
+ * type, son nombre de points et ses éventuels paramètres : demander plusieurs
+ * fois la même fenêtre renvoie la même instance de {@link CachedWindow}, qui
+ * est immuable et peut donc être utilisée par plusieurs threads. Les fenêtres
+ * les moins récemment utilisées sont supprimées en premier lorsque le cache
+ * est plein.
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 16, 2026
+ */
+public final class WindowCache {
+
+    /**
+     * Nombre maximal de fenêtres conservées.
+     */
+    private static final int MAX_CACHED_WINDOWS = 64;
+
+    /**
+     * Nombre cumulé maximal de points des fenêtres conservées.
+     */
+    private static final long MAX_CACHED_POINTS = 1 << 22;
+
+    private static final LinkedHashMap<Key, CachedWindow> windows = new LinkedHashMap<>(16, 0.75f, true);
+    private static long cachedPoints = 0;
+
+    private WindowCache() {
+    }
+
+    /**
+     * Renvoie la fenêtre partagée du type spécifié sur N points.
+     * 
+     * @param win
+     *            Fenêtre souhaitée de type {@link WindowType}.
+     * @param N
+     *            Nombre de points de la fenêtre.
+     * @return Fenêtre partagée.
+     * @see Window#computeWindow(WindowType, int)
+     */
+    public static CachedWindow get (final WindowType win, final int N) {
+        return lookup(win.name(), N, null, () -> Window.computeWindow(win, N));
+    }
+
+    /**
+     * Renvoie la fenêtre partagée de Tukey de paramètre alpha sur N points.
+     * 
+     * @param N
+     *            Nombre de points de la fenêtre.
+     * @param alpha
+     *            Largeur du centre de la fenêtre (entre 0 et 1).
+     * @return Fenêtre partagée.
+     * @see Window#tukey(int, float)
+     */
+    public static CachedWindow tukey (final int N, final float alpha) {
+        return lookup("tukey", N, new double[] { alpha }, () -> Window.tukey(N, alpha));
+    }
+
+    /**
+     * Renvoie la fenêtre partagée de Blackman généralisée sur N points.
+     * 
+     * @param N
+     *            Nombre de points de la fenêtre.
+     * @param ak
+     *            Coefficients <i>a(k)</i> de la fenêtre.
+     * @return Fenêtre partagée.
+     * @see Window#blackman(int, double[])
+     */
+    public static CachedWindow blackman (final int N, final double[] ak) {
+        final double[] params = ak.clone();
+        return lookup("blackman", N, params, () -> Window.blackman(N, params));
+    }
+
+    /**
+     * Renvoie la fenêtre partagée de Hamming généralisée sur N points.
+     * 
+     * @param alpha
+     *            Valeur alpha.
+     * @param beta
+     *            Valeur beta.
+     * @param N
+     *            Nombre de points de la fenêtre.
+     * @return Fenêtre partagée.
+     * @see Window#hamming(double, double, int)
+     */
+    public static CachedWindow hamming (final double alpha, final double beta, final int N) {
+        return lookup("hamming", N, new double[] { alpha, beta }, () -> Window.hamming(alpha, beta, N));
+    }
+
+    /**
+     * Renvoie la fenêtre partagée gaussienne de paramètre sigma sur N points.
+     * 
+     * @param sigma
+     *            Paramètre sigma tel que sigma &lt; 0.5.
+     * @param N
+     *            Nombre de points de la fenêtre.
+     * @return Fenêtre partagée.
+     * @see Window#gaussian(double, int)
+     */
+    public static CachedWindow gaussian (final double sigma, final int N) {
+        return lookup("gaussian", N, new double[] { sigma }, () -> Window.gaussian(sigma, N));
+    }
+
+    /**
+     * Renvoie la fenêtre partagée en puissance de cosinus sur N points.
+     * 
+     * @param N
+     *            Nombre de points de la fenêtre.
+     * @param a
+     *            Puissance du cosinus.
+     * @return Fenêtre partagée.
+     * @see Window#cosine(int, int)
+     */
+    public static CachedWindow cosine (final int N, final int a) {
+        return lookup("cosine", N, new double[] { a }, () -> Window.cosine(N, a));
+    }
+
+    /**
+     * Renvoie la fenêtre partagée en puissance de sinus sur N points.
+     * 
+     * @param N
+     *            Nombre de points de la fenêtre.
+     * @param a
+     *            Puissance du sinus.
+     * @return Fenêtre partagée.
+     * @see Window#sine(int, int)
+     */
+    public static CachedWindow sine (final int N, final int a) {
+        return lookup("sine", N, new double[] { a }, () -> Window.sine(N, a));
+    }
+
+    /**
+     * Permet de vider le cache.
+     */
+    public static void clear () {
+        synchronized (windows) {
+            windows.clear();
+            cachedPoints = 0;
+        }
+    }
+
+    private static CachedWindow lookup (final String name, final int N, final double[] params,
+            final Supplier<double[]> generator) {
+        if (N <= 0) {
+            throw new IllegalArgumentException("Window length must be positive");
+        }
+        Key key = new Key(name, N, params);
+        synchronized (windows) {
+            CachedWindow window = windows.get(key);
+            if (window == null) {
+                window = new CachedWindow(generator.get());
+                windows.put(key, window);
+                cachedPoints += N;
+                // Suppression des fenêtres les moins récemment utilisées, la
+                // nouvelle étant conservée
+                Iterator<CachedWindow> it = windows.values().iterator();
+                while ((windows.size() > MAX_CACHED_WINDOWS || cachedPoints > MAX_CACHED_POINTS)
+                        && windows.size() > 1) {
+                    cachedPoints -= it.next().size();
+                    it.remove();
+                }
+            }
+            return window;
+        }
+    }
+
+    /**
+     * Clé identifiant une fenêtre.
+     */
+    private static final class Key {
+
+        private final String name;
+        private final int N;
+        private final double[] params;
+        private final int hash;
+
+        private Key(final String name, final int N, final double[] params) {
+            this.name = name;
+            this.N = N;
+            this.params = params;
+            this.hash = 31 * (31 * name.hashCode() + N) + Arrays.hashCode(params);
+        }
+
+        @Override
+        public int hashCode () {
+            return this.hash;
+        }
+
+        @Override
+        public boolean equals (Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return this.N == other.N && this.name.equals(other.name) && Arrays.equals(this.params, other.params);
+        }
+    }
+}
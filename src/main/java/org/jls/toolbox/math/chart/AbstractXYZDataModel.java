@@ -24,15 +24,34 @@
 
 package org.jls.toolbox.math.chart;
 
-import java.util.Observable;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Modèle abstrait permettant de représenter les données d'une courbe.
+ * <p>
+ * Les écouteurs du modèle ({@link XYZDataModelListener}) sont stockés dans un
+ * tableau remplacé atomiquement à chaque ajout ou suppression : une
+ * notification ne prend aucun verrou et ne copie pas la liste, ce qui permet à
+ * un producteur de notifier à haute fréquence depuis son propre thread.
  * 
  * @author LE SAUCE Julien
  * @date Feb 13, 2015
  */
-public abstract class AbstractXYZDataModel extends Observable {
+public abstract class AbstractXYZDataModel {
+
+    private static final XYZDataModelListener[] NO_LISTENER = new XYZDataModelListener[0];
+
+    /**
+     * Ecouteurs du modèle, remplacés par copie à chaque modification.
+     */
+    private final AtomicReference<XYZDataModelListener[]> listeners = new AtomicReference<>(NO_LISTENER);
+
+    /**
+     * Index spatial des points, construit à la première recherche et supprimé à
+     * chaque modification du modèle.
+     */
+    private volatile PointIndex pointIndex;
 
     /**
      * Permet de récupérer la valeur en abscisse à l'indice donné dans la série de
@@ -80,8 +99,9 @@ public abstract class AbstractXYZDataModel extends Observable {
 
     /**
      * Permet à partir des valeurs x et y de récupérer la valeur en z. Pour cela on
-     * va balayer la liste des données de la courbe à la recherche du couple
-     * correspondant à x et y à un epsilon près.
+     * recherche le premier point de la courbe correspondant à x et y à un
+     * epsilon près. Les modèles modifiés rarement utilisent l'index spatial
+     * {@link #getPointIndex()} plutôt qu'un parcours de toute la série.
      * 
      * @param x
      *            Valeur en abscisse.
@@ -94,21 +114,105 @@ public abstract class AbstractXYZDataModel extends Observable {
     public abstract int indexOf (double x, double y, double epsilon);
 
     /**
-     * Permet de notifier les différents observateurs du modèle d'une modification
-     * de celui-ci.
+     * Permet de récupérer l'indice du point le plus proche du point (x,y), au
+     * sens de la distance euclidienne.
+     * 
+     * @param x
+     *            Valeur en abscisse.
+     * @param y
+     *            Valeur en ordonnée.
+     * @return Indice du point le plus proche dans la série de données, ou -1 si
+     *         la série est vide.
+     * @see PointIndex#nearest(double, double)
+     */
+    public int nearestIndexOf (double x, double y) {
+        return getPointIndex().nearest(x, y);
+    }
+
+    /**
+     * Renvoie l'index spatial des points du modèle, en le construisant s'il
+     * n'existe pas encore. L'index est supprimé à chaque appel de
+     * {@link #notifyChanged(Object...)} : toute modification des données doit
+     * donc être suivie d'une notification.
+     * 
+     * @return Index spatial des points.
+     */
+    public final PointIndex getPointIndex () {
+        PointIndex index = this.pointIndex;
+        if (index == null || index.size() != getSize()) {
+            index = new PointIndex(this);
+            this.pointIndex = index;
+        }
+        return index;
+    }
+
+    /**
+     * Permet d'ajouter un écouteur sur les modifications du modèle.
+     * 
+     * @param listener
+     *            Ecouteur à ajouter.
+     */
+    public final void addListener (final XYZDataModelListener listener) {
+        if (listener == null) {
+            throw new NullPointerException("Listener cannot be null");
+        }
+        XYZDataModelListener[] current;
+        XYZDataModelListener[] next;
+        do {
+            current = this.listeners.get();
+            next = Arrays.copyOf(current, current.length + 1);
+            next[current.length] = listener;
+        } while (!this.listeners.compareAndSet(current, next));
+    }
+
+    /**
+     * Permet de supprimer un écouteur du modèle. Ne fait rien si l'écouteur
+     * n'est pas enregistré.
+     * 
+     * @param listener
+     *            Ecouteur à supprimer.
+     */
+    public final void removeListener (final XYZDataModelListener listener) {
+        XYZDataModelListener[] current;
+        XYZDataModelListener[] next;
+        do {
+            current = this.listeners.get();
+            int index = Arrays.asList(current).indexOf(listener);
+            if (index < 0) {
+                return;
+            }
+            next = new XYZDataModelListener[current.length - 1];
+            System.arraycopy(current, 0, next, 0, index);
+            System.arraycopy(current, index + 1, next, index, next.length - index);
+        } while (!this.listeners.compareAndSet(current, next));
+    }
+
+    /**
+     * Renvoie le nombre d'écouteurs du modèle.
+     * 
+     * @return Nombre d'écouteurs.
+     */
+    public final int getListenerCount () {
+        return this.listeners.get().length;
+    }
+
+    /**
+     * Permet de notifier les différents écouteurs du modèle d'une modification
+     * de celui-ci. Les écouteurs sont appelés dans le thread appelant.
      * 
      * @param arg
-     *            (Optionnel) Il est possible de spécifier un objet à l'observateur.
+     *            (Optionnel) Il est possible de spécifier un objet à l'écouteur.
      */
     public final void notifyChanged (Object... arg) {
-        setChanged();
-        if (arg.length == 0) {
-            notifyObservers();
-        } else if (arg.length == 1 && arg[0] != null) {
-            notifyObservers(arg[0]);
-        } else {
+        Object value = null;
+        if (arg.length == 1 && arg[0] != null) {
+            value = arg[0];
+        } else if (arg.length != 0) {
             throw new IllegalArgumentException("Only one argument allowed");
         }
-        clearChanged();
+        this.pointIndex = null;
+        for (XYZDataModelListener listener : this.listeners.get()) {
+            listener.dataModelChanged(this, value);
+        }
     }
 }
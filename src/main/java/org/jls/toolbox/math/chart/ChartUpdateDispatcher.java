@@ -0,0 +1,147 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 LE SAUCE Julien
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.jls.toolbox.math.chart;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.swing.Timer;
+
+/**
+ * Permet de regrouper les mises à jour des graphiques par image et de les
+ * exécuter sur le thread Swing. Les modifications des données, faites depuis
+ * n'importe quel thread, déposent une mise à jour identifiée par une clé
+ * (généralement le set de données à rafraîchir) ; au plus une fois par
+ * période de rafraîchissement, un {@link Timer} exécute sur le thread Swing la
+ * dernière mise à jour déposée pour chaque clé. Les mises à jour intermédiaires
+ * d'une même clé sont abandonnées : un producteur rapide ne provoque ainsi
+ * qu'un seul rafraîchissement par image, quel que soit son rythme.
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 16, 2026
+ */
+public final class ChartUpdateDispatcher {
+
+    /**
+     * Fréquence de rafraîchissement par défaut (Hz).
+     */
+    public static final int DEFAULT_REFRESH_RATE = 60;
+
+    /**
+     * Nombre maximal de passes d'une exécution, les mises à jour restantes
+     * étant reportées à l'image suivante.
+     */
+    private static final int MAX_PASSES = 4;
+
+    private static final ChartUpdateDispatcher DEFAULT = new ChartUpdateDispatcher(DEFAULT_REFRESH_RATE);
+
+    /**
+     * Dernière mise à jour déposée pour chaque clé.
+     */
+    private final ConcurrentHashMap<Object, Runnable> pending;
+
+    /**
+     * Indique si l'exécution des mises à jour est déjà programmée.
+     */
+    private final AtomicBoolean scheduled;
+
+    private final Timer timer;
+
+    /**
+     * Permet d'instancier un répartiteur de mises à jour.
+     * 
+     * @param refreshRate
+     *            Nombre maximal de rafraîchissements par seconde.
+     */
+    public ChartUpdateDispatcher(final int refreshRate) {
+        if (refreshRate <= 0) {
+            throw new IllegalArgumentException("Refresh rate must be strictly positive");
+        }
+        this.pending = new ConcurrentHashMap<>();
+        this.scheduled = new AtomicBoolean();
+        this.timer = new Timer(Math.max(1, 1000 / refreshRate), e -> flush());
+        this.timer.setRepeats(false);
+    }
+
+    /**
+     * Renvoie le répartiteur partagé par les sets de données, cadencé à
+     * {@link #DEFAULT_REFRESH_RATE} Hz.
+     * 
+     * @return Répartiteur par défaut.
+     */
+    public static ChartUpdateDispatcher getDefault () {
+        return DEFAULT;
+    }
+
+    /**
+     * Permet de déposer une mise à jour, qui sera exécutée sur le thread Swing à
+     * la prochaine image. Une mise à jour déjà en attente pour la même clé est
+     * remplacée. Cette méthode peut être appelée depuis n'importe quel thread.
+     * 
+     * @param key
+     *            Clé identifiant la mise à jour.
+     * @param update
+     *            Mise à jour à exécuter.
+     */
+    public void post (final Object key, final Runnable update) {
+        if (key == null || update == null) {
+            throw new NullPointerException();
+        }
+        this.pending.put(key, update);
+        if (this.scheduled.compareAndSet(false, true)) {
+            this.timer.restart();
+        }
+    }
+
+    /**
+     * Permet d'exécuter immédiatement, dans le thread appelant, les mises à
+     * jour en attente. Les mises à jour déposées par celles-ci (par exemple le
+     * rafraîchissement d'un set de données notifié par un modèle) sont
+     * exécutées dans la même passe, afin qu'aucun tracé ne s'intercale entre
+     * les deux. Deux exécutions ne peuvent se chevaucher : un appel depuis un
+     * autre thread pendant l'exécution programmée sur le thread Swing attend la
+     * fin de celle-ci.
+     */
+    public synchronized void flush () {
+        this.scheduled.set(false);
+        for (int pass = 0; pass < MAX_PASSES && !this.pending.isEmpty(); pass++) {
+            for (Object key : this.pending.keySet()) {
+                Runnable update = this.pending.remove(key);
+                if (update != null) {
+                    update.run();
+                }
+            }
+        }
+    }
+
+    /**
+     * Indique si des mises à jour sont en attente.
+     * 
+     * @return true si au moins une mise à jour est en attente.
+     */
+    public boolean isPending () {
+        return !this.pending.isEmpty();
+    }
+}
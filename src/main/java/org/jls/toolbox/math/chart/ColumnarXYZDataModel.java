@@ -0,0 +1,230 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 LE SAUCE Julien
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.jls.toolbox.math.chart;
+
+/**
+ * Modèle de données stockant les points (x,y,z) d'une courbe par colonnes :
+ * trois tableaux de flottants de taille N, au lieu d'un tableau de N tableaux
+ * de trois éléments comme {@link XYZDataModel}. Chaque point n'occupe ainsi que
+ * 12 octets, sans en-tête d'objet ni indirection, et les parcours d'une
+ * colonne (rendu, recherche de minimum ou de maximum) sont séquentiels en
+ * mémoire.
+ * <p>
+ * Les tableaux fournis ne sont pas copiés : le modèle les utilise directement,
+ * ce qui évite de dupliquer des séries de plusieurs millions de points. Après
+ * une modification directe des tableaux ou via
+ * {@link #set(int, float, float, float)}, il faut appeler
+ * {@link #notifyChanged(Object...)} pour mettre à jour les graphiques.
+ * <p>
+ * Les trois colonnes sont publiées ensemble par une seule référence volatile :
+ * un lecteur accédant au modèle pendant un appel à
+ * {@link #setData(float[], float[], float[])} depuis un autre thread voit
+ * soit les anciennes colonnes, soit les nouvelles, jamais un mélange des deux.
+ * 
+ * @see AbstractXYZDataModel
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 16, 2026
+ */
+public class ColumnarXYZDataModel extends AbstractXYZDataModel {
+
+    /**
+     * Identifiant de la série de données.
+     */
+    private final String key;
+
+    /**
+     * Colonnes courantes du modèle.
+     */
+    private volatile Columns columns;
+
+    /**
+     * Permet d'instancier un modèle de N points nuls.
+     * 
+     * @param key
+     *            Identifiant de la série de données.
+     * @param size
+     *            Nombre de points N.
+     */
+    public ColumnarXYZDataModel(final String key, final int size) {
+        this(key, new float[size], new float[size], new float[size]);
+    }
+
+    /**
+     * Permet d'instancier un modèle à partir de trois colonnes, qui ne sont pas
+     * copiées.
+     * 
+     * @param key
+     *            Identifiant de la série de données.
+     * @param x
+     *            Abscisses des points.
+     * @param y
+     *            Ordonnées des points.
+     * @param z
+     *            Valeurs en z des points.
+     */
+    public ColumnarXYZDataModel(final String key, final float[] x, final float[] y, final float[] z) {
+        super();
+        checkColumns(x, y, z);
+        this.key = key;
+        this.columns = new Columns(x, y, z);
+    }
+
+    /**
+     * Permet de créer un modèle par colonnes à partir de points stockés par
+     * lignes, au format de {@link XYZDataModel}.
+     * 
+     * @param key
+     *            Identifiant de la série de données.
+     * @param data
+     *            Points (x,y,z) de la courbe.
+     * @return Nouveau modèle contenant une copie des points.
+     */
+    public static ColumnarXYZDataModel valueOf (final String key, final float[][] data) {
+        ColumnarXYZDataModel model = new ColumnarXYZDataModel(key, data.length);
+        for (int i = 0; i < data.length; i++) {
+            model.set(i, data[i][0], data[i][1], data[i][2]);
+        }
+        return model;
+    }
+
+    @Override
+    public final double getX (final int index) {
+        return this.columns.x[index];
+    }
+
+    @Override
+    public final double getY (final int index) {
+        return this.columns.y[index];
+    }
+
+    @Override
+    public final double getZ (final int index) {
+        return this.columns.z[index];
+    }
+
+    @Override
+    public final int getSize () {
+        return this.columns.x.length;
+    }
+
+    @Override
+    public final String getKey () {
+        return this.key;
+    }
+
+    @Override
+    public final int indexOf (double x, double y, double epsilon) {
+        return getPointIndex().indexOf(x, y, epsilon);
+    }
+
+    /**
+     * Permet de modifier un point sans notifier les écouteurs.
+     * 
+     * @param index
+     *            Indice du point.
+     * @param x
+     *            Abscisse.
+     * @param y
+     *            Ordonnée.
+     * @param z
+     *            Valeur en z.
+     */
+    public final void set (final int index, final float x, final float y, final float z) {
+        Columns current = this.columns;
+        current.x[index] = x;
+        current.y[index] = y;
+        current.z[index] = z;
+    }
+
+    /**
+     * Permet de remplacer les colonnes par de nouvelles colonnes, qui ne sont
+     * pas copiées. Les écouteurs du modèle sont notifiés.
+     * 
+     * @param x
+     *            Abscisses des points.
+     * @param y
+     *            Ordonnées des points.
+     * @param z
+     *            Valeurs en z des points.
+     */
+    public final void setData (final float[] x, final float[] y, final float[] z) {
+        checkColumns(x, y, z);
+        this.columns = new Columns(x, y, z);
+        notifyChanged();
+    }
+
+    /**
+     * Renvoie la colonne des abscisses sans copie.
+     * 
+     * @return Abscisses des points.
+     */
+    public final float[] getXColumn () {
+        return this.columns.x;
+    }
+
+    /**
+     * Renvoie la colonne des ordonnées sans copie.
+     * 
+     * @return Ordonnées des points.
+     */
+    public final float[] getYColumn () {
+        return this.columns.y;
+    }
+
+    /**
+     * Renvoie la colonne des valeurs en z sans copie.
+     * 
+     * @return Valeurs en z des points.
+     */
+    public final float[] getZColumn () {
+        return this.columns.z;
+    }
+
+    private static void checkColumns (final float[] x, final float[] y, final float[] z) {
+        if (x == null || y == null || z == null) {
+            throw new NullPointerException("Columns cannot be null");
+        }
+        if (x.length != y.length || x.length != z.length) {
+            throw new IllegalArgumentException("Columns must have the same size");
+        }
+    }
+
+    /**
+     * Colonnes des abscisses, des ordonnées et des valeurs en z, de même taille.
+     */
+    private static final class Columns {
+
+        private final float[] x;
+        private final float[] y;
+        private final float[] z;
+
+        private Columns(final float[] x, final float[] y, final float[] z) {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+        }
+    }
+}
@@ -0,0 +1,425 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 LE SAUCE Julien
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.jls.toolbox.math.chart;
+
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.jfree.chart.ChartPanel;
+import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.event.AxisChangeEvent;
+import org.jfree.chart.event.AxisChangeListener;
+import org.jfree.chart.event.ChartProgressEvent;
+import org.jfree.data.DomainInfo;
+import org.jfree.data.Range;
+import org.jfree.data.RangeInfo;
+import org.jfree.data.xy.AbstractXYDataset;
+
+/**
+ * Set de données à deux dimensions décimant les courbes de grande taille avant
+ * leur affichage. Pour la plage d'abscisses visible, découpée en autant de
+ * colonnes que de pixels de large ({@link #setResolution(int)}), seuls le
+ * premier et le dernier point de chaque colonne ainsi que ses points d'ordonnée
+ * minimale et maximale sont transmis au graphique (algorithme M4) : le tracé
+ * obtenu est identique au pixel près à celui de la courbe complète, avec au
+ * plus quatre points par colonne quelle que soit la taille de la série.
+ * <p>
+ * Les minimums et maximums sont recherchés dans une {@link MinMaxPyramid}
+ * construite une fois par modèle, ce qui rend le coût d'un zoom ou d'un
+ * déplacement indépendant du nombre de points. Les notifications des modèles
+ * sont regroupées par image par le {@link ChartUpdateDispatcher} par défaut :
+ * la pyramide d'un modèle modifié est reconstruite au plus une fois par image,
+ * sur le thread Swing.
+ * <p>
+ * La décimation est recalculée à chaque modification de l'axe des abscisses
+ * auquel le set de données est attaché ({@link #attach(ValueAxis)}), et sa
+ * résolution suit la largeur de la zone de tracé du panneau affichant le
+ * graphique ({@link #attach(ChartPanel)}). Les bornes renvoyées pour
+ * l'ajustement automatique des axes sont celles des séries complètes.
+ * <p>
+ * La décimation suppose des abscisses croissantes : les courbes dont les
+ * abscisses ne le sont pas sont transmises intégralement.
+ * 
+ * @see XYDataset
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 16, 2026
+ */
+public class DecimatedXYDataset extends AbstractXYDataset implements XYZDataModelListener, AxisChangeListener,
+        DomainInfo, RangeInfo {
+
+    private static final long serialVersionUID = -6095391625842411208L;
+
+    /**
+     * Nombre de colonnes par défaut de la décimation.
+     */
+    public static final int DEFAULT_RESOLUTION = 2048;
+
+    private final ArrayList<AbstractXYZDataModel> dataModels;
+
+    /**
+     * Pyramides des modèles, reconstruites à chaque notification.
+     */
+    private final transient MinMaxPyramid[] pyramids;
+
+    /**
+     * Indique pour chaque courbe si son modèle a été modifié depuis la dernière
+     * reconstruction de sa pyramide.
+     */
+    private final transient AtomicIntegerArray modified;
+
+    /**
+     * Indices des points transmis pour chaque courbe, null si tous les points
+     * sont transmis.
+     */
+    private transient int[][] selections;
+
+    /**
+     * Plage d'abscisses décimée, null pour la totalité des séries.
+     */
+    private Range range;
+
+    private int resolution;
+
+    /**
+     * Permet d'instancier un set de données décimé à partir des modèles de
+     * données des courbes.
+     * 
+     * @param xyDataModel
+     *            Modèles de données des courbes à afficher.
+     */
+    public DecimatedXYDataset(AbstractXYZDataModel... xyDataModel) {
+        super();
+        this.dataModels = new ArrayList<>();
+        for (AbstractXYZDataModel model : xyDataModel) {
+            if (model == null) {
+                throw new NullPointerException();
+            }
+            this.dataModels.add(model);
+            model.addListener(this);
+        }
+        this.pyramids = new MinMaxPyramid[this.dataModels.size()];
+        this.selections = new int[this.dataModels.size()][];
+        this.modified = new AtomicIntegerArray(this.dataModels.size());
+        this.resolution = DEFAULT_RESOLUTION;
+        for (int series = 0; series < this.pyramids.length; series++) {
+            this.pyramids[series] = new MinMaxPyramid(this.dataModels.get(series));
+        }
+        decimate();
+    }
+
+    /**
+     * Permet d'attacher le set de données à l'axe des abscisses du graphique :
+     * la décimation est alors recalculée pour la plage visible à chaque zoom ou
+     * déplacement.
+     * 
+     * @param axis
+     *            Axe des abscisses du graphique.
+     */
+    public void attach (final ValueAxis axis) {
+        axis.addChangeListener(this);
+        setRange(axis.isAutoRange() ? null : axis.getRange());
+    }
+
+    /**
+     * Permet d'attacher le set de données au panneau affichant le graphique :
+     * la résolution de la décimation est alors ajustée, après chaque tracé, à
+     * la largeur en pixels de la zone de tracé du panneau. Un redimensionnement
+     * du panneau entraîne ainsi une nouvelle décimation.
+     * 
+     * @param panel
+     *            Panneau affichant le graphique.
+     */
+    public void attach (final ChartPanel panel) {
+        if (panel.getChart() == null) {
+            throw new IllegalArgumentException("Chart panel has no chart");
+        }
+        panel.getChart().addProgressListener(event -> {
+            if (event.getType() == ChartProgressEvent.DRAWING_FINISHED) {
+                Rectangle2D area = panel.getScreenDataArea();
+                if (area.getWidth() >= 1) {
+                    setResolution((int) Math.ceil(area.getWidth()));
+                }
+            }
+        });
+    }
+
+    /**
+     * Permet de détacher le set de données d'un axe, la décimation portant
+     * alors sur la totalité des séries.
+     * 
+     * @param axis
+     *            Axe des abscisses du graphique.
+     */
+    public void detach (final ValueAxis axis) {
+        axis.removeChangeListener(this);
+        setRange(null);
+    }
+
+    @Override
+    public void axisChanged (AxisChangeEvent event) {
+        if (event.getAxis() instanceof ValueAxis) {
+            ValueAxis axis = (ValueAxis) event.getAxis();
+            setRange(axis.isAutoRange() ? null : axis.getRange());
+        }
+    }
+
+    /**
+     * Permet de spécifier la plage d'abscisses visible. Ne fait rien si la
+     * plage est inchangée.
+     * 
+     * @param range
+     *            Plage d'abscisses visible, ou null pour la totalité des
+     *            séries.
+     */
+    public void setRange (final Range range) {
+        if (range == null ? this.range != null : !range.equals(this.range)) {
+            this.range = range;
+            decimate();
+            fireDatasetChanged();
+        }
+    }
+
+    /**
+     * Renvoie la plage d'abscisses décimée.
+     * 
+     * @return Plage d'abscisses visible, ou null pour la totalité des séries.
+     */
+    public Range getRange () {
+        return this.range;
+    }
+
+    /**
+     * Permet de spécifier le nombre de colonnes de la décimation, qui doit
+     * correspondre à la largeur en pixels de la zone de tracé.
+     * 
+     * @param resolution
+     *            Nombre de colonnes.
+     */
+    public void setResolution (final int resolution) {
+        if (resolution <= 0) {
+            throw new IllegalArgumentException("Resolution must be strictly positive");
+        }
+        if (resolution != this.resolution) {
+            this.resolution = resolution;
+            decimate();
+            fireDatasetChanged();
+        }
+    }
+
+    /**
+     * Renvoie le nombre de colonnes de la décimation.
+     * 
+     * @return Nombre de colonnes.
+     */
+    public int getResolution () {
+        return this.resolution;
+    }
+
+    /**
+     * Permet de récupérer l'indice dans le modèle de données d'un point
+     * transmis au graphique.
+     * 
+     * @param series
+     *            Indice de la courbe.
+     * @param item
+     *            Indice du point dans la courbe décimée.
+     * @return Indice du point dans le modèle de données de la courbe.
+     */
+    public int getModelIndex (int series, int item) {
+        int[] selection = this.selections[series];
+        return (selection != null) ? selection[item] : item;
+    }
+
+    @Override
+    public void dataModelChanged (AbstractXYZDataModel model, Object arg) {
+        int series = this.dataModels.indexOf(model);
+        if (series >= 0) {
+            this.modified.set(series, 1);
+            ChartUpdateDispatcher.getDefault().post(this, this::refresh);
+        }
+    }
+
+    @Override
+    public int getItemCount (int series) {
+        int[] selection = this.selections[series];
+        return (selection != null) ? selection.length : this.pyramids[series].size();
+    }
+
+    @Override
+    public Number getX (int series, int item) {
+        return getXValue(series, item);
+    }
+
+    @Override
+    public Number getY (int series, int item) {
+        return getYValue(series, item);
+    }
+
+    @Override
+    public double getXValue (int series, int item) {
+        return this.dataModels.get(series).getX(getModelIndex(series, item));
+    }
+
+    @Override
+    public double getYValue (int series, int item) {
+        return this.dataModels.get(series).getY(getModelIndex(series, item));
+    }
+
+    @Override
+    public int getSeriesCount () {
+        return this.dataModels.size();
+    }
+
+    @Override
+    public Comparable<?> getSeriesKey (int series) {
+        return this.dataModels.get(series).getKey();
+    }
+
+    @Override
+    public double getDomainLowerBound (boolean includeInterval) {
+        double min = Double.NaN;
+        for (MinMaxPyramid pyramid : this.pyramids) {
+            min = (Double.isNaN(min) || pyramid.getMinX() < min) ? pyramid.getMinX() : min;
+        }
+        return min;
+    }
+
+    @Override
+    public double getDomainUpperBound (boolean includeInterval) {
+        double max = Double.NaN;
+        for (MinMaxPyramid pyramid : this.pyramids) {
+            max = (Double.isNaN(max) || pyramid.getMaxX() > max) ? pyramid.getMaxX() : max;
+        }
+        return max;
+    }
+
+    @Override
+    public Range getDomainBounds (boolean includeInterval) {
+        double min = getDomainLowerBound(includeInterval);
+        return Double.isNaN(min) ? null : new Range(min, getDomainUpperBound(includeInterval));
+    }
+
+    @Override
+    public double getRangeLowerBound (boolean includeInterval) {
+        double min = Double.NaN;
+        for (MinMaxPyramid pyramid : this.pyramids) {
+            min = (Double.isNaN(min) || pyramid.getMinY() < min) ? pyramid.getMinY() : min;
+        }
+        return min;
+    }
+
+    @Override
+    public double getRangeUpperBound (boolean includeInterval) {
+        double max = Double.NaN;
+        for (MinMaxPyramid pyramid : this.pyramids) {
+            max = (Double.isNaN(max) || pyramid.getMaxY() > max) ? pyramid.getMaxY() : max;
+        }
+        return max;
+    }
+
+    @Override
+    public Range getRangeBounds (boolean includeInterval) {
+        double min = getRangeLowerBound(includeInterval);
+        return Double.isNaN(min) ? null : new Range(min, getRangeUpperBound(includeInterval));
+    }
+
+    /**
+     * Reconstruit les pyramides des modèles modifiés, sur le thread Swing.
+     */
+    private void refresh () {
+        for (int series = 0; series < this.pyramids.length; series++) {
+            if (this.modified.getAndSet(series, 0) != 0) {
+                this.pyramids[series] = new MinMaxPyramid(this.dataModels.get(series));
+                this.selections[series] = decimate(this.pyramids[series]);
+            }
+        }
+        fireDatasetChanged();
+    }
+
+    private void decimate () {
+        for (int series = 0; series < this.pyramids.length; series++) {
+            this.selections[series] = decimate(this.pyramids[series]);
+        }
+    }
+
+    /**
+     * Renvoie les indices des points à transmettre pour une courbe : pour
+     * chaque colonne de la plage visible, le premier point, le dernier et ceux
+     * d'ordonnée minimale et maximale, dans l'ordre de la série, ainsi que les
+     * points voisins de la plage pour tracer les segments qui la traversent.
+     */
+    private int[] decimate (final MinMaxPyramid pyramid) {
+        int size = pyramid.size();
+        int columns = this.resolution;
+        if (size <= 4 * columns + 2 || !pyramid.isSorted()) {
+            return null;
+        }
+        double lower = (this.range != null) ? this.range.getLowerBound() : pyramid.getMinX();
+        double upper = (this.range != null) ? this.range.getUpperBound() : pyramid.getMaxX();
+        int from = pyramid.search(lower, 0, size);
+        int to = pyramid.search(Math.nextUp(upper), from, size);
+
+        int[] selection = new int[4 * columns + 2];
+        int count = 0;
+        if (from > 0) {
+            selection[count++] = from - 1;
+        }
+        if (to - from <= 4 * columns) {
+            for (int i = from; i < to; i++) {
+                selection[count++] = i;
+            }
+        } else {
+            double width = (upper - lower) / columns;
+            int[] extrema = new int[2];
+            int start = from;
+            for (int c = 0; c < columns && start < to; c++) {
+                int end = (c == columns - 1) ? to : pyramid.search(lower + (c + 1) * width, start, to);
+                if (end > start) {
+                    pyramid.extrema(start, end, extrema);
+                    int min = Math.min(extrema[0], extrema[1]);
+                    int max = Math.max(extrema[0], extrema[1]);
+                    selection[count++] = start;
+                    if (min > start) {
+                        selection[count++] = min;
+                    }
+                    if (max > min && max > start) {
+                        selection[count++] = max;
+                    }
+                    if (end - 1 > max) {
+                        selection[count++] = end - 1;
+                    }
+                    start = end;
+                }
+            }
+        }
+        if (to < size) {
+            selection[count++] = to;
+        }
+        return Arrays.copyOf(selection, count);
+    }
+}
@@ -0,0 +1,310 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 LE SAUCE Julien
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.jls.toolbox.math.chart;
+
+/**
+ * Pyramide multi-résolution des indices des minimums et maximums en ordonnée
+ * d'un {@link AbstractXYZDataModel}. Le niveau 0 regroupe les points par blocs
+ * de {@link #BLOCK} et chaque niveau suivant fusionne deux blocs du niveau
+ * précédent : l'indice du minimum et du maximum d'un intervalle quelconque est
+ * ainsi obtenu en O(log N), en ne parcourant directement que les points des
+ * blocs incomplets aux extrémités. La pyramide occupe environ un octet par
+ * point.
+ * <p>
+ * La pyramide mémorise également les bornes de la série et indique si les
+ * abscisses sont croissantes, condition nécessaire à la décimation par
+ * intervalles d'abscisses.
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 16, 2026
+ */
+final class MinMaxPyramid {
+
+    /**
+     * Nombre de points des blocs du niveau 0.
+     */
+    static final int BLOCK = 16;
+
+    private final AbstractXYZDataModel model;
+    private final int size;
+
+    /**
+     * Indices des minimums et maximums des blocs de chaque niveau.
+     */
+    private final int[][] argMin;
+    private final int[][] argMax;
+
+    /**
+     * Indique si les abscisses sont croissantes (au sens large).
+     */
+    private final boolean sorted;
+
+    /**
+     * Bornes des valeurs finies de la série, NaN si la série n'en contient
+     * aucune.
+     */
+    private final double minX;
+    private final double maxX;
+    private final double minY;
+    private final double maxY;
+
+    /**
+     * Permet de construire la pyramide des points d'un modèle.
+     * 
+     * @param model
+     *            Modèle de données de la courbe.
+     */
+    MinMaxPyramid(final AbstractXYZDataModel model) {
+        this.model = model;
+        this.size = model.getSize();
+        boolean sorted = true;
+        double minX = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY;
+        double previous = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < this.size; i++) {
+            double x = model.getX(i);
+            if (x < previous || Double.isNaN(x)) {
+                sorted = false;
+            }
+            previous = x;
+            if (x < minX) {
+                minX = x;
+            }
+            if (x > maxX) {
+                maxX = x;
+            }
+        }
+        this.sorted = sorted;
+
+        int levels = 0;
+        for (int count = this.size / BLOCK; count > 0; count = (count + 1) / 2) {
+            levels++;
+            if (count == 1) {
+                break;
+            }
+        }
+        this.argMin = new int[levels][];
+        this.argMax = new int[levels][];
+        int[] extrema = new int[2];
+        if (levels > 0) {
+            int count = this.size / BLOCK;
+            this.argMin[0] = new int[count];
+            this.argMax[0] = new int[count];
+            for (int b = 0; b < count; b++) {
+                scan(b * BLOCK, (b + 1) * BLOCK, extrema);
+                this.argMin[0][b] = extrema[0];
+                this.argMax[0][b] = extrema[1];
+            }
+        }
+        for (int l = 1; l < levels; l++) {
+            int[] lowerMin = this.argMin[l - 1];
+            int[] lowerMax = this.argMax[l - 1];
+            int count = (lowerMin.length + 1) / 2;
+            this.argMin[l] = new int[count];
+            this.argMax[l] = new int[count];
+            for (int b = 0; b < count; b++) {
+                int left = 2 * b;
+                int right = Math.min(left + 1, lowerMin.length - 1);
+                this.argMin[l][b] = lower(lowerMin[left], lowerMin[right]);
+                this.argMax[l][b] = upper(lowerMax[left], lowerMax[right]);
+            }
+        }
+
+        double minY = Double.NaN;
+        double maxY = Double.NaN;
+        if (this.size > 0) {
+            extrema(0, this.size, extrema);
+            if (extrema[0] >= 0) {
+                minY = model.getY(extrema[0]);
+                maxY = model.getY(extrema[1]);
+            }
+        }
+        this.minX = (minX <= maxX) ? minX : Double.NaN;
+        this.maxX = (minX <= maxX) ? maxX : Double.NaN;
+        this.minY = minY;
+        this.maxY = maxY;
+    }
+
+    /**
+     * Permet de rechercher les indices du minimum et du maximum en ordonnée
+     * dans l'intervalle [from;to[. En cas d'égalité, l'indice le plus petit est
+     * retenu ; les ordonnées NaN sont ignorées.
+     * 
+     * @param from
+     *            Premier indice de l'intervalle.
+     * @param to
+     *            Indice suivant le dernier indice de l'intervalle.
+     * @param extrema
+     *            Tableau de deux éléments recevant l'indice du minimum puis
+     *            celui du maximum, ou -1 si l'intervalle ne contient aucune
+     *            ordonnée valide.
+     */
+    void extrema (final int from, final int to, final int[] extrema) {
+        int first = (from + BLOCK - 1) / BLOCK;
+        int last = to / BLOCK;
+        if (first >= last) {
+            scan(from, to, extrema);
+            return;
+        }
+        int[] edge = new int[2];
+        scan(from, first * BLOCK, extrema);
+        scan(last * BLOCK, to, edge);
+        int min = extrema[0];
+        int max = extrema[1];
+        int endMin = edge[0];
+        int endMax = edge[1];
+        // Décomposition de [first;last[ en blocs de la pyramide, de gauche à
+        // droite pour le début de l'intervalle et de droite à gauche pour la fin
+        int tailMin = -1;
+        int tailMax = -1;
+        for (int l = 0; first < last; l++) {
+            if ((first & 1) != 0) {
+                min = lower(min, this.argMin[l][first]);
+                max = upper(max, this.argMax[l][first]);
+                first++;
+            }
+            if ((last & 1) != 0) {
+                last--;
+                tailMin = lower(this.argMin[l][last], tailMin);
+                tailMax = upper(this.argMax[l][last], tailMax);
+            }
+            first >>= 1;
+            last >>= 1;
+        }
+        extrema[0] = lower(lower(min, tailMin), endMin);
+        extrema[1] = upper(upper(max, tailMax), endMax);
+    }
+
+    /**
+     * Renvoie le premier indice de l'intervalle [from;to[ dont l'abscisse est
+     * supérieure ou égale à la valeur donnée, ou to s'il n'en existe aucun. Les
+     * abscisses doivent être croissantes.
+     * 
+     * @param x
+     *            Abscisse recherchée.
+     * @param from
+     *            Premier indice de l'intervalle.
+     * @param to
+     *            Indice suivant le dernier indice de l'intervalle.
+     * @return Indice du premier point d'abscisse supérieure ou égale à x.
+     */
+    int search (final double x, final int from, final int to) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (this.model.getX(mid) < x) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    int size () {
+        return this.size;
+    }
+
+    boolean isSorted () {
+        return this.sorted;
+    }
+
+    double getMinX () {
+        return this.minX;
+    }
+
+    double getMaxX () {
+        return this.maxX;
+    }
+
+    double getMinY () {
+        return this.minY;
+    }
+
+    double getMaxY () {
+        return this.maxY;
+    }
+
+    /**
+     * Parcourt directement les points de l'intervalle [from;to[.
+     */
+    private void scan (final int from, final int to, final int[] extrema) {
+        int min = -1;
+        int max = -1;
+        double minY = Double.POSITIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+        for (int i = from; i < to; i++) {
+            double y = this.model.getY(i);
+            if (y < minY) {
+                minY = y;
+                min = i;
+            }
+            if (y > maxY) {
+                maxY = y;
+                max = i;
+            }
+        }
+        // Ordonnées toutes égales à +/- l'infini
+        if (min < 0 || max < 0) {
+            for (int i = from; i < to && (min < 0 || max < 0); i++) {
+                if (!Double.isNaN(this.model.getY(i))) {
+                    min = (min < 0) ? i : min;
+                    max = (max < 0) ? i : max;
+                }
+            }
+        }
+        extrema[0] = min;
+        extrema[1] = max;
+    }
+
+    /**
+     * Renvoie l'indice de la plus petite ordonnée, celui de gauche en cas
+     * d'égalité, i étant toujours situé avant j dans la série.
+     */
+    private int lower (final int i, final int j) {
+        if (i < 0) {
+            return j;
+        }
+        if (j < 0) {
+            return i;
+        }
+        return (this.model.getY(j) < this.model.getY(i)) ? j : i;
+    }
+
+    /**
+     * Renvoie l'indice de la plus grande ordonnée, celui de gauche en cas
+     * d'égalité, i étant toujours situé avant j dans la série.
+     */
+    private int upper (final int i, final int j) {
+        if (i < 0) {
+            return j;
+        }
+        if (j < 0) {
+            return i;
+        }
+        return (this.model.getY(j) > this.model.getY(i)) ? j : i;
+    }
+}
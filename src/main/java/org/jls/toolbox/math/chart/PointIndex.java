@@ -0,0 +1,310 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 LE SAUCE Julien
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.jls.toolbox.math.chart;
+
+/**
+ * Index spatial des points (x,y) d'un modèle de données, permettant de
+ * retrouver un point sous le curseur sans parcourir toute la série. Le plan est
+ * découpé en une grille régulière couvrant la boîte englobante des points, de
+ * l'ordre de deux points par case ; les indices des points sont triés par case
+ * (tri par dénombrement, stable) de sorte que chaque case référence une plage
+ * contiguë d'indices croissants.
+ * <p>
+ * Une recherche ne visite que les cases intersectant la zone recherchée : pour
+ * des points répartis régulièrement, comme ceux d'une carte de chaleur, son
+ * coût est constant en moyenne quelle que soit la taille de la série. Les
+ * coordonnées ne sont pas copiées mais relues dans le modèle ; l'index décrit
+ * donc l'état du modèle lors de sa construction et doit être reconstruit
+ * après toute modification (voir {@link AbstractXYZDataModel#getPointIndex()}).
+ * Les points dont une coordonnée n'est pas finie ne sont pas indexés.
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 16, 2026
+ */
+public final class PointIndex {
+
+    /**
+     * Nombre moyen de points par case visé.
+     */
+    private static final int POINTS_PER_CELL = 2;
+
+    /**
+     * Nombre maximal de cases de la grille.
+     */
+    private static final int MAX_CELLS = 1 << 24;
+
+    private final AbstractXYZDataModel model;
+    private final int size;
+    private final double minX;
+    private final double minY;
+    private final double maxX;
+    private final double maxY;
+    private final double cellWidth;
+    private final double cellHeight;
+    private final int columns;
+    private final int rows;
+
+    // Points de la case c : order[cellStart[c]] .. order[cellStart[c+1]-1]
+    private final int[] cellStart;
+    private final int[] order;
+
+    /**
+     * Permet de construire l'index des points d'un modèle.
+     * 
+     * @param model
+     *            Modèle de données à indexer.
+     */
+    public PointIndex(final AbstractXYZDataModel model) {
+        this.model = model;
+        this.size = model.getSize();
+
+        // Boîte englobante des points finis
+        double x0 = Double.POSITIVE_INFINITY;
+        double y0 = Double.POSITIVE_INFINITY;
+        double x1 = Double.NEGATIVE_INFINITY;
+        double y1 = Double.NEGATIVE_INFINITY;
+        int finite = 0;
+        for (int i = 0; i < this.size; i++) {
+            double x = model.getX(i);
+            double y = model.getY(i);
+            if (Double.isFinite(x) && Double.isFinite(y)) {
+                x0 = Math.min(x0, x);
+                x1 = Math.max(x1, x);
+                y0 = Math.min(y0, y);
+                y1 = Math.max(y1, y);
+                finite++;
+            }
+        }
+        if (finite == 0) {
+            x0 = y0 = x1 = y1 = 0;
+        }
+        this.minX = x0;
+        this.minY = y0;
+        this.maxX = x1;
+        this.maxY = y1;
+
+        // Dimensions de la grille selon le rapport d'aspect des données
+        double width = x1 - x0;
+        double height = y1 - y0;
+        int cells = Math.min(MAX_CELLS, Math.max(1, finite / POINTS_PER_CELL));
+        int cols;
+        if (width <= 0) {
+            cols = 1;
+        } else if (height <= 0) {
+            cols = cells;
+        } else {
+            cols = (int) Math.ceil(Math.sqrt(cells * width / height));
+        }
+        cols = Math.max(1, Math.min(cells, cols));
+        this.columns = cols;
+        this.rows = height <= 0 ? 1 : Math.max(1, cells / cols);
+        this.cellWidth = width > 0 ? width / this.columns : 1.0;
+        this.cellHeight = height > 0 ? height / this.rows : 1.0;
+
+        // Tri des points par case
+        int nbCells = this.columns * this.rows;
+        int[] cellOf = new int[this.size];
+        this.cellStart = new int[nbCells + 1];
+        for (int i = 0; i < this.size; i++) {
+            double x = model.getX(i);
+            double y = model.getY(i);
+            if (Double.isFinite(x) && Double.isFinite(y)) {
+                int c = column(x) + this.columns * row(y);
+                cellOf[i] = c;
+                this.cellStart[c + 1]++;
+            } else {
+                cellOf[i] = -1;
+            }
+        }
+        for (int c = 0; c < nbCells; c++) {
+            this.cellStart[c + 1] += this.cellStart[c];
+        }
+        this.order = new int[finite];
+        int[] next = new int[nbCells];
+        System.arraycopy(this.cellStart, 0, next, 0, nbCells);
+        for (int i = 0; i < this.size; i++) {
+            if (cellOf[i] >= 0) {
+                this.order[next[cellOf[i]]++] = i;
+            }
+        }
+    }
+
+    /**
+     * Renvoie le plus petit indice d'un point situé à moins de epsilon du point
+     * (x,y) sur chaque axe, c'est-à-dire le même résultat qu'un parcours
+     * linéaire de la série.
+     * 
+     * @param x
+     *            Valeur en abscisse.
+     * @param y
+     *            Valeur en ordonnée.
+     * @param epsilon
+     *            Ecart maximal (exclu) sur chaque axe.
+     * @return Indice du point dans la série de données, ou -1 si aucun point
+     *         ne correspond.
+     */
+    public int indexOf (final double x, final double y, final double epsilon) {
+        if (this.order.length == 0 || !(epsilon > 0) || x + epsilon < this.minX || x - epsilon > this.maxX
+                || y + epsilon < this.minY || y - epsilon > this.maxY) {
+            return -1;
+        }
+        int c0 = column(x - epsilon);
+        int c1 = column(x + epsilon);
+        int r0 = row(y - epsilon);
+        int r1 = row(y + epsilon);
+        // Zone couvrant une grande partie de la grille : parcours linéaire
+        if ((long) (c1 - c0 + 1) * (r1 - r0 + 1) > this.order.length / POINTS_PER_CELL) {
+            return scan(x, y, epsilon);
+        }
+        int best = Integer.MAX_VALUE;
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) {
+                int cell = c + this.columns * r;
+                for (int k = this.cellStart[cell]; k < this.cellStart[cell + 1]; k++) {
+                    int i = this.order[k];
+                    // Indices croissants dans une case
+                    if (i >= best) {
+                        break;
+                    }
+                    if (Math.abs(this.model.getX(i) - x) < epsilon && Math.abs(this.model.getY(i) - y) < epsilon) {
+                        best = i;
+                    }
+                }
+            }
+        }
+        return best == Integer.MAX_VALUE ? -1 : best;
+    }
+
+    /**
+     * Renvoie l'indice du point le plus proche du point (x,y) au sens de la
+     * distance euclidienne. En cas d'égalité, le plus petit indice est renvoyé.
+     * 
+     * @param x
+     *            Valeur en abscisse.
+     * @param y
+     *            Valeur en ordonnée.
+     * @return Indice du point le plus proche, ou -1 si la série ne contient
+     *         aucun point indexé.
+     */
+    public int nearest (final double x, final double y) {
+        if (this.order.length == 0) {
+            return -1;
+        }
+        int cx = column(x);
+        int cy = row(y);
+        int best = -1;
+        double[] bestDist = { Double.POSITIVE_INFINITY };
+        int maxRing = Math.max(this.columns, this.rows);
+        for (int ring = 0; ring <= maxRing; ring++) {
+            int c0 = cx - ring;
+            int c1 = cx + ring;
+            int r0 = cy - ring;
+            int r1 = cy + ring;
+            for (int r = Math.max(r0, 0); r <= Math.min(r1, this.rows - 1); r++) {
+                if (r == r0 || r == r1) {
+                    for (int c = Math.max(c0, 0); c <= Math.min(c1, this.columns - 1); c++) {
+                        best = closest(c + this.columns * r, x, y, best, bestDist);
+                    }
+                } else {
+                    if (c0 >= 0) {
+                        best = closest(c0 + this.columns * r, x, y, best, bestDist);
+                    }
+                    if (c1 < this.columns) {
+                        best = closest(c1 + this.columns * r, x, y, best, bestDist);
+                    }
+                }
+            }
+            // Les anneaux suivants sont au-delà du carré de cases parcouru
+            double bound = Double.POSITIVE_INFINITY;
+            if (c0 > 0) {
+                bound = Math.min(bound, x - (this.minX + c0 * this.cellWidth));
+            }
+            if (c1 < this.columns - 1) {
+                bound = Math.min(bound, this.minX + (c1 + 1) * this.cellWidth - x);
+            }
+            if (r0 > 0) {
+                bound = Math.min(bound, y - (this.minY + r0 * this.cellHeight));
+            }
+            if (r1 < this.rows - 1) {
+                bound = Math.min(bound, this.minY + (r1 + 1) * this.cellHeight - y);
+            }
+            if (bound == Double.POSITIVE_INFINITY) {
+                break;
+            }
+            bound = Math.max(0, bound);
+            if (best >= 0 && bestDist[0] < bound * bound) {
+                break;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Renvoie le nombre de points de la série lors de la construction.
+     * 
+     * @return Nombre de points.
+     */
+    public int size () {
+        return this.size;
+    }
+
+    private int column (final double x) {
+        int c = (int) Math.floor((x - this.minX) / this.cellWidth);
+        return Math.max(0, Math.min(this.columns - 1, c));
+    }
+
+    private int row (final double y) {
+        int r = (int) Math.floor((y - this.minY) / this.cellHeight);
+        return Math.max(0, Math.min(this.rows - 1, r));
+    }
+
+    /**
+     * Compare les points d'une case au meilleur point trouvé et renvoie le
+     * nouveau meilleur indice, bestDist contenant sa distance au carré.
+     */
+    private int closest (final int cell, final double x, final double y, final int best, final double[] bestDist) {
+        int result = best;
+        for (int k = this.cellStart[cell]; k < this.cellStart[cell + 1]; k++) {
+            int i = this.order[k];
+            double dx = this.model.getX(i) - x;
+            double dy = this.model.getY(i) - y;
+            double d = dx * dx + dy * dy;
+            if (d < bestDist[0] || (d == bestDist[0] && i < result)) {
+                bestDist[0] = d;
+                result = i;
+            }
+        }
+        return result;
+    }
+
+    private int scan (final double x, final double y, final double epsilon) {
+        for (int i = 0; i < this.size; i++) {
+            if (Math.abs(this.model.getX(i) - x) < epsilon && Math.abs(this.model.getY(i) - y) < epsilon) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,427 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 LE SAUCE Julien
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.jls.toolbox.math.chart;
+
+/**
+ * Modèle de données circulaire de capacité fixe, destiné aux courbes
+ * alimentées en continu (télémesure, acquisition). Les points sont stockés par
+ * colonnes dans des tableaux alloués une seule fois : l'ajout d'un point est
+ * en O(1) et, une fois la capacité atteinte, il remplace le point le plus
+ * ancien sans aucune réallocation.
+ * <p>
+ * Les ajouts peuvent être faits depuis n'importe quel thread. Ils sont placés
+ * dans un tampon circulaire d'attente et ne modifient pas la série lue par les
+ * graphiques : c'est {@link #flush()}, exécuté sur le thread Swing au plus une
+ * fois par période de rafraîchissement par un {@link ChartUpdateDispatcher},
+ * qui recopie les points en attente dans la série puis notifie les écouteurs.
+ * Les lectures faites sur le thread Swing voient donc une série stable entre
+ * deux notifications, sans décalage en cours de tracé. L'argument de la
+ * notification est une {@link Update} indiquant le nombre de points ajoutés et
+ * supprimés depuis la notification précédente.
+ * <p>
+ * L'indice 0 désigne toujours le point le plus ancien encore présent.
+ * 
+ * @see AbstractXYZDataModel
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 16, 2026
+ */
+public class RingBufferXYZDataModel extends AbstractXYZDataModel {
+
+    /**
+     * Identifiant de la série de données.
+     */
+    private final String key;
+
+    /**
+     * Série lue par les graphiques, modifiée uniquement par {@link #flush()}.
+     */
+    private final Ring ring;
+
+    /**
+     * Points ajoutés depuis la dernière notification, en attente de recopie.
+     */
+    private final Ring pending;
+
+    /**
+     * Indique si la série doit être vidée avant la recopie des points en
+     * attente.
+     */
+    private boolean cleared;
+
+    /**
+     * Nombre de points ajoutés depuis la dernière notification.
+     */
+    private long appended;
+
+    /**
+     * Indique si une notification est déjà programmée.
+     */
+    private boolean scheduled;
+
+    /**
+     * Répartiteur exécutant les notifications sur le thread Swing.
+     */
+    private final ChartUpdateDispatcher dispatcher;
+
+    /**
+     * Permet d'instancier un modèle circulaire vide dont les notifications sont
+     * regroupées par le {@link ChartUpdateDispatcher} par défaut.
+     * 
+     * @param key
+     *            Identifiant de la série de données.
+     * @param capacity
+     *            Nombre maximal de points conservés.
+     */
+    public RingBufferXYZDataModel(final String key, final int capacity) {
+        this(key, capacity, ChartUpdateDispatcher.getDefault());
+    }
+
+    /**
+     * Permet d'instancier un modèle circulaire vide.
+     * 
+     * @param key
+     *            Identifiant de la série de données.
+     * @param capacity
+     *            Nombre maximal de points conservés.
+     * @param dispatcher
+     *            Répartiteur regroupant les notifications.
+     */
+    public RingBufferXYZDataModel(final String key, final int capacity, final ChartUpdateDispatcher dispatcher) {
+        super();
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be strictly positive");
+        }
+        if (dispatcher == null) {
+            throw new NullPointerException("Dispatcher cannot be null");
+        }
+        this.key = key;
+        this.ring = new Ring(capacity);
+        this.pending = new Ring(capacity);
+        this.dispatcher = dispatcher;
+    }
+
+    @Override
+    public final double getX (final int index) {
+        return this.ring.x[this.ring.physical(index)];
+    }
+
+    @Override
+    public final double getY (final int index) {
+        return this.ring.y[this.ring.physical(index)];
+    }
+
+    @Override
+    public final double getZ (final int index) {
+        return this.ring.z[this.ring.physical(index)];
+    }
+
+    @Override
+    public final int getSize () {
+        return this.ring.size;
+    }
+
+    @Override
+    public final String getKey () {
+        return this.key;
+    }
+
+    /**
+     * La série étant modifiée à chaque notification, un index spatial serait
+     * reconstruit à presque chaque recherche : la série est donc parcourue
+     * linéairement.
+     */
+    @Override
+    public final int indexOf (double x, double y, double epsilon) {
+        Ring ring = this.ring;
+        int p = ring.head;
+        for (int index = 0; index < ring.size; index++) {
+            if (Math.abs(ring.x[p] - x) < epsilon && Math.abs(ring.y[p] - y) < epsilon) {
+                return index;
+            }
+            p = (p + 1 == ring.x.length) ? 0 : p + 1;
+        }
+        return -1;
+    }
+
+    /**
+     * La série est parcourue linéairement, comme pour
+     * {@link #indexOf(double, double, double)}. En cas d'égalité, le plus petit
+     * indice est renvoyé.
+     */
+    @Override
+    public final int nearestIndexOf (double x, double y) {
+        Ring ring = this.ring;
+        int best = -1;
+        double bestDist = Double.POSITIVE_INFINITY;
+        int p = ring.head;
+        for (int index = 0; index < ring.size; index++) {
+            double dx = ring.x[p] - x;
+            double dy = ring.y[p] - y;
+            double dist = dx * dx + dy * dy;
+            if (dist < bestDist) {
+                bestDist = dist;
+                best = index;
+            }
+            p = (p + 1 == ring.x.length) ? 0 : p + 1;
+        }
+        return best;
+    }
+
+    /**
+     * Renvoie le nombre maximal de points conservés.
+     * 
+     * @return Capacité du modèle.
+     */
+    public final int getCapacity () {
+        return this.ring.x.length;
+    }
+
+    /**
+     * Permet d'ajouter un point à la fin de la série. Si la capacité est
+     * atteinte, le point le plus ancien est supprimé. Le point n'est visible
+     * qu'après la prochaine notification.
+     * 
+     * @param x
+     *            Abscisse.
+     * @param y
+     *            Ordonnée.
+     * @param z
+     *            Valeur en z.
+     */
+    public final synchronized void append (final float x, final float y, final float z) {
+        this.pending.append(x, y, z);
+        this.appended++;
+        schedule();
+    }
+
+    /**
+     * Permet d'ajouter un bloc de points à la fin de la série. Si le bloc
+     * dépasse la capacité, seuls ses derniers points sont conservés. Les points
+     * ne sont visibles qu'après la prochaine notification.
+     * 
+     * @param x
+     *            Abscisses des points.
+     * @param y
+     *            Ordonnées des points.
+     * @param z
+     *            Valeurs en z des points.
+     * @param offset
+     *            Indice du premier point dans les tableaux.
+     * @param length
+     *            Nombre de points à ajouter.
+     */
+    public final synchronized void append (final float[] x, final float[] y, final float[] z, final int offset,
+            final int length) {
+        if (x == null || y == null || z == null) {
+            throw new NullPointerException("Columns cannot be null");
+        }
+        if (offset < 0 || length < 0 || offset + length > x.length || offset + length > y.length
+                || offset + length > z.length) {
+            throw new IndexOutOfBoundsException("Invalid range [" + offset + ";" + (offset + length) + "[");
+        }
+        if (length == 0) {
+            return;
+        }
+        this.pending.append(x, y, z, offset, length);
+        this.appended += length;
+        schedule();
+    }
+
+    /**
+     * Permet de supprimer tous les points du modèle, y compris ceux en attente.
+     * La série est vidée à la prochaine notification.
+     */
+    public final synchronized void clear () {
+        this.pending.clear();
+        this.cleared = true;
+        schedule();
+    }
+
+    /**
+     * Permet de recopier les points en attente dans la série et de notifier
+     * immédiatement les écouteurs, dans le thread appelant. Ne fait rien si
+     * aucune modification n'est en attente. Cette méthode doit être appelée
+     * par le thread lisant le modèle, normalement le thread Swing.
+     */
+    public final void flush () {
+        Update update;
+        synchronized (this) {
+            if (!this.scheduled) {
+                return;
+            }
+            this.scheduled = false;
+            long previous = this.ring.size;
+            if (this.cleared) {
+                this.ring.clear();
+                this.cleared = false;
+            }
+            this.ring.append(this.pending);
+            this.pending.clear();
+            update = new Update(this.appended, previous + this.appended - this.ring.size);
+            this.appended = 0;
+        }
+        notifyChanged(update);
+    }
+
+    private void schedule () {
+        if (!this.scheduled) {
+            this.scheduled = true;
+            this.dispatcher.post(this, this::flush);
+        }
+    }
+
+    /**
+     * Tampon circulaire de points stockés par colonnes.
+     */
+    private static final class Ring {
+
+        private final float[] x;
+        private final float[] y;
+        private final float[] z;
+
+        /**
+         * Indice physique du point le plus ancien et nombre de points présents.
+         */
+        private int head;
+        private int size;
+
+        private Ring(final int capacity) {
+            this.x = new float[capacity];
+            this.y = new float[capacity];
+            this.z = new float[capacity];
+        }
+
+        private void append (final float x, final float y, final float z) {
+            int capacity = this.x.length;
+            int tail = tail();
+            this.x[tail] = x;
+            this.y[tail] = y;
+            this.z[tail] = z;
+            if (this.size == capacity) {
+                this.head = (tail + 1 == capacity) ? 0 : tail + 1;
+            } else {
+                this.size++;
+            }
+        }
+
+        private void append (final float[] x, final float[] y, final float[] z, final int offset,
+                final int length) {
+            int capacity = this.x.length;
+            int kept = Math.min(length, capacity);
+            int from = offset + length - kept;
+            int tail = tail();
+            int first = Math.min(kept, capacity - tail);
+            System.arraycopy(x, from, this.x, tail, first);
+            System.arraycopy(y, from, this.y, tail, first);
+            System.arraycopy(z, from, this.z, tail, first);
+            System.arraycopy(x, from + first, this.x, 0, kept - first);
+            System.arraycopy(y, from + first, this.y, 0, kept - first);
+            System.arraycopy(z, from + first, this.z, 0, kept - first);
+            if ((long) this.size + length > capacity) {
+                // Le bloc s'arrête juste avant la nouvelle tête de la série
+                int end = tail + kept;
+                this.head = (end >= capacity) ? end - capacity : end;
+                this.size = capacity;
+            } else {
+                this.size += length;
+            }
+        }
+
+        /**
+         * Ajoute à la fin du tampon les points d'un autre tampon de même
+         * capacité, du plus ancien au plus récent.
+         */
+        private void append (final Ring other) {
+            int first = Math.min(other.size, other.x.length - other.head);
+            if (first > 0) {
+                append(other.x, other.y, other.z, other.head, first);
+            }
+            if (other.size > first) {
+                append(other.x, other.y, other.z, 0, other.size - first);
+            }
+        }
+
+        private void clear () {
+            this.head = 0;
+            this.size = 0;
+        }
+
+        private int tail () {
+            int tail = this.head + this.size;
+            return (tail >= this.x.length) ? tail - this.x.length : tail;
+        }
+
+        private int physical (final int index) {
+            if (index < 0 || index >= this.size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+            }
+            int i = this.head + index;
+            return (i >= this.x.length) ? i - this.x.length : i;
+        }
+    }
+
+    /**
+     * Modification incrémentale transmise aux écouteurs d'un
+     * {@link RingBufferXYZDataModel} : les points supprimés sont toujours les
+     * plus anciens (en tête de série) et les points ajoutés les plus récents (en
+     * fin de série).
+     */
+    public static final class Update {
+
+        private final long appended;
+        private final long evicted;
+
+        Update(final long appended, final long evicted) {
+            this.appended = appended;
+            this.evicted = evicted;
+        }
+
+        /**
+         * Renvoie le nombre de points ajoutés en fin de série depuis la
+         * notification précédente.
+         * 
+         * @return Nombre de points ajoutés.
+         */
+        public long getAppended () {
+            return this.appended;
+        }
+
+        /**
+         * Renvoie le nombre de points supprimés en tête de série depuis la
+         * notification précédente.
+         * 
+         * @return Nombre de points supprimés.
+         */
+        public long getEvicted () {
+            return this.evicted;
+        }
+
+        @Override
+        public String toString () {
+            return "Update [appended=" + this.appended + ", evicted=" + this.evicted + "]";
+        }
+    }
+}
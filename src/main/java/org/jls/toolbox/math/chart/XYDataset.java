@@ -25,8 +25,6 @@
 package org.jls.toolbox.math.chart;
 
 import java.util.ArrayList;
-import java.util.Observable;
-import java.util.Observer;
 
 import org.jfree.data.xy.AbstractXYDataset;
 
@@ -34,15 +32,18 @@ import org.jfree.data.xy.AbstractXYDataset;
  * Classe permettant de charger les modèles de données des courbes dans le
  * graphique JFreeChart. Il est possible d'ajouter autant de courbes que
  * nécessaires sachant que chaque courbe est représentée par un modèle de
- * données distinct. Cette classe sera alors observatrice de chaque modèle de
+ * données distinct. Cette classe sera alors à l'écoute de chaque modèle de
  * données et sera donc notifiée à chaque mise à jour de l'un des modèle. Les
  * données manipulées correspondent cependant à des coordonnées dans un repère à
  * deux dimensions ou chaque point est représenté selon ses coordonnées (x,y).
+ * Les accesseurs primitifs (getXValue, getYValue) utilisés par les renderers
+ * JFreeChart lisent directement les modèles, sans convertir les valeurs en
+ * {@link Number}.
  * 
  * @author LE SAUCE Julien
  * @date Feb 13, 2015
  */
-public class XYDataset extends AbstractXYDataset implements Observer {
+public class XYDataset extends AbstractXYDataset implements XYZDataModelListener {
 
     private static final long serialVersionUID = -2492867249593419895L;
 
@@ -60,15 +61,18 @@ public class XYDataset extends AbstractXYDataset implements Observer {
         this.dataModels = new ArrayList<>();
         for (AbstractXYZDataModel model : xyDataModel) {
             this.dataModels.add(model);
-            model.addObserver(this);
+            model.addListener(this);
         }
     }
 
+    /**
+     * Les modifications des modèles sont regroupées par image et notifiées au
+     * graphique sur le thread Swing par le {@link ChartUpdateDispatcher} par
+     * défaut.
+     */
     @Override
-    public void update (Observable obs, Object arg) {
-        if (obs instanceof AbstractXYZDataModel) {
-            fireDatasetChanged();
-        }
+    public void dataModelChanged (AbstractXYZDataModel model, Object arg) {
+        ChartUpdateDispatcher.getDefault().post(this, this::fireDatasetChanged);
     }
 
     @Override
@@ -89,6 +93,18 @@ public class XYDataset extends AbstractXYDataset implements Observer {
         return model != null ? (Number) model.getY(item) : null;
     }
 
+    @Override
+    public double getXValue (int series, int item) {
+        AbstractXYZDataModel model = this.dataModels.get(series);
+        return model != null ? model.getX(item) : Double.NaN;
+    }
+
+    @Override
+    public double getYValue (int series, int item) {
+        AbstractXYZDataModel model = this.dataModels.get(series);
+        return model != null ? model.getY(item) : Double.NaN;
+    }
+
     @Override
     public int getSeriesCount () {
         return this.dataModels != null ? this.dataModels.size() : 0;
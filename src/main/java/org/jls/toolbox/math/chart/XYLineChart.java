@@ -134,6 +134,9 @@ public class XYLineChart {
                 this.isTooltipsVisible, // Affichage des tooltips
                 this.isUrlVisible); // Affichage des urls
         this.plot = (XYPlot) this.chart.getPlot();
+        if (this.dataset instanceof DecimatedXYDataset) {
+            ((DecimatedXYDataset) this.dataset).attach(this.plot.getDomainAxis());
+        }
 
         if (this.chart.getLegend() != null) {
             this.chart.getLegend().setBackgroundPaint(new JPanel().getBackground());
@@ -182,6 +185,23 @@ public class XYLineChart {
         renderer.setBaseShapesFilled(false);
     }
 
+    /**
+     * Permet d'attacher le graphique au panneau qui l'affiche. Si les données
+     * sont un {@link DecimatedXYDataset}, leur résolution suit alors la
+     * largeur en pixels de la zone de tracé du panneau.
+     * 
+     * @param panel
+     *            Panneau affichant le graphique.
+     */
+    public void attach (final ChartPanel panel) {
+        if (panel.getChart() != this.chart) {
+            throw new IllegalArgumentException("Chart panel does not display this chart");
+        }
+        if (this.dataset instanceof DecimatedXYDataset) {
+            ((DecimatedXYDataset) this.dataset).attach(panel);
+        }
+    }
+
     /**
      * Renvoie la courbe {@link JFreeChart} permettant d'être ajoutée à un
      * {@link ChartPanel}.
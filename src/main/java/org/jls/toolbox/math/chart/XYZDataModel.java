@@ -89,24 +89,12 @@ public class XYZDataModel extends AbstractXYZDataModel {
 
     @Override
     public final int indexOf (double x, double y, double epsilon) {
-        double da, dy;
-        int index = 0;
-
-        for (int i = 0; i < getSize(); i++) {
-            da = Math.abs(this.xyzData[i][0] - x);
-            dy = Math.abs(this.xyzData[i][1] - y);
-
-            if (da < epsilon && dy < epsilon) {
-                return index;
-            }
-            index++;
-        }
-        return -1;
+        return getPointIndex().indexOf(x, y, epsilon);
     }
 
     /**
      * Permet de remplacer la série de données par une nouvelle série. La
-     * modification des données entraîne une notification des observateurs du modèle
+     * modification des données entraîne une notification des écouteurs du modèle
      * et donc une mise à jour
      * 
      * @param data
@@ -0,0 +1,49 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 LE SAUCE Julien
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.jls.toolbox.math.chart;
+
+/**
+ * Ecouteur sur les modifications d'un {@link AbstractXYZDataModel}.
+ * 
+ * @author LE SAUCE Julien
+ * @date Oct 16, 2026
+ */
+@FunctionalInterface
+public interface XYZDataModelListener {
+
+    /**
+     * Cette méthode est appelée, dans le thread ayant modifié le modèle, à
+     * chaque appel de {@link AbstractXYZDataModel#notifyChanged(Object...)}.
+     * Elle doit donc rester brève : les traitements graphiques doivent être
+     * transmis au thread Swing, par exemple via un
+     * {@link ChartUpdateDispatcher}.
+     * 
+     * @param model
+     *            Modèle modifié.
+     * @param arg
+     *            Objet transmis lors de la notification, ou null.
+     */
+    public void dataModelChanged (final AbstractXYZDataModel model, final Object arg);
+}
@@ -25,8 +25,6 @@
 package org.jls.toolbox.math.chart;
 
 import java.util.ArrayList;
-import java.util.Observable;
-import java.util.Observer;
 
 import org.jfree.data.xy.AbstractXYZDataset;
 
@@ -34,16 +32,20 @@ import org.jfree.data.xy.AbstractXYZDataset;
  * Classe permettant de charger les modèles de données des courbes dans le
  * graphique JFreeChart. Il est possible d'ajouter autant de courbes que
  * nécessaires sachant que chaque courbe est représentée par un modèle de
- * données correspondant. Cette classe sera alors observatrice de chaque modèle
+ * données correspondant. Cette classe sera alors à l'écoute de chaque modèle
  * de données et sera donc notifiée à chaque mise à jour de l'un des modèle. Les
  * données manipulées correspondent cependant à des coordonnées dans un repère à
  * trois dimensions ou chaque point est représenté selon ses coordonnées
  * (x,y,z).
+ * <p>
+ * Les accesseurs primitifs (getXValue, getYValue, getZValue) utilisés par les
+ * renderers JFreeChart lisent directement les modèles, sans convertir les
+ * valeurs en {@link Number}.
  * 
  * @author LE SAUCE Julien
  * @date Feb 13, 2015
  */
-public class XYZDataset extends AbstractXYZDataset implements Observer {
+public class XYZDataset extends AbstractXYZDataset implements XYZDataModelListener {
 
     private static final long serialVersionUID = 5752121773069855318L;
 
@@ -65,15 +67,18 @@ public class XYZDataset extends AbstractXYZDataset implements Observer {
                 throw new NullPointerException();
             }
             this.dataModels.add(model);
-            model.addObserver(this);
+            model.addListener(this);
         }
     }
 
+    /**
+     * Les modifications des modèles sont regroupées par image et notifiées au
+     * graphique sur le thread Swing par le {@link ChartUpdateDispatcher} par
+     * défaut.
+     */
     @Override
-    public void update (Observable obs, Object arg) {
-        if (obs instanceof AbstractXYZDataModel) {
-            fireDatasetChanged();
-        }
+    public void dataModelChanged (AbstractXYZDataModel model, Object arg) {
+        ChartUpdateDispatcher.getDefault().post(this, this::fireDatasetChanged);
     }
 
     @Override
@@ -112,6 +117,33 @@ public class XYZDataset extends AbstractXYZDataset implements Observer {
         return (model != null) ? (Number) (model.getZ(item)) : null;
     }
 
+    @Override
+    public double getXValue (int series, int item) {
+        if (series < 0 || item < 0) {
+            throw new IllegalArgumentException("Argument must be a positive integer");
+        }
+        AbstractXYZDataModel model = this.dataModels.get(series);
+        return (model != null) ? model.getX(item) : Double.NaN;
+    }
+
+    @Override
+    public double getYValue (int series, int item) {
+        if (series < 0 || item < 0) {
+            throw new IllegalArgumentException("Argument must be a positive integer");
+        }
+        AbstractXYZDataModel model = this.dataModels.get(series);
+        return (model != null) ? model.getY(item) : Double.NaN;
+    }
+
+    @Override
+    public double getZValue (int series, int item) {
+        if (series < 0 || item < 0) {
+            throw new IllegalArgumentException("Argument must be a positive integer");
+        }
+        AbstractXYZDataModel model = this.dataModels.get(series);
+        return (model != null) ? model.getZ(item) : Double.NaN;
+    }
+
     @Override
     public int getSeriesCount () {
         return (this.dataModels != null) ? this.dataModels.size() : 0;
@@ -142,7 +174,7 @@ public class XYZDataset extends AbstractXYZDataset implements Observer {
         if (series < 0) {
             throw new IllegalArgumentException("Argument must be a positive integer");
         }
-        XYZDataModel model = (XYZDataModel) this.dataModels.get(series);
+        AbstractXYZDataModel model = this.dataModels.get(series);
         return model.indexOf(x, y, (float) 0.1);
     }
 
@@ -165,7 +197,26 @@ public class XYZDataset extends AbstractXYZDataset implements Observer {
         if (series < 0) {
             throw new IllegalArgumentException("Argument must be a positive integer");
         }
-        XYZDataModel model = (XYZDataModel) this.dataModels.get(series);
+        AbstractXYZDataModel model = this.dataModels.get(series);
         return model.indexOf(x, y, epsilon);
     }
+
+    /**
+     * Permet de récupérer l'indice du point le plus proche du point (x,y), par
+     * exemple pour positionner le réticule sur la donnée sous le curseur.
+     * 
+     * @param series
+     *            Indice de la série de données entre 0 et getSeriesCount()-1.
+     * @param x
+     *            Valeur en abscisse.
+     * @param y
+     *            Valeur en ordonnée.
+     * @return Indice du point le plus proche, ou -1 si la série est vide.
+     */
+    public int nearestIndexOf (int series, double x, double y) {
+        if (series < 0) {
+            throw new IllegalArgumentException("Argument must be a positive integer");
+        }
+        return this.dataModels.get(series).nearestIndexOf(x, y);
+    }
 }
@@ -0,0 +1,101 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 LE SAUCE Julien
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.awax.toolbox.math;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.jls.toolbox.math.BatchFFT;
+import org.jls.toolbox.math.FFT;
+import org.junit.Test;
+
+public class BatchFFTTest {
+
+    private static final int N = 64;
+    private static final int FRAMES = 10;
+
+    @Test
+    public void GivenSequentialBatchWhenComputingFFTThenFramesShouldMatchSingleFFT () throws InterruptedException {
+        BatchFFT batch = new BatchFFT(FFT.plan(N));
+        batch.setParallelism(1);
+
+        assertBatchMatchesSingleFFT(batch);
+    }
+
+    @Test
+    public void GivenParallelBatchWhenComputingFFTThenFramesShouldMatchSingleFFT () throws InterruptedException {
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            BatchFFT batch = new BatchFFT(FFT.plan(N), pool);
+
+            // 10 trames réparties sur 3 tâches : plages de tailles inégales
+            assertEquals(3, batch.getParallelism());
+            assertBatchMatchesSingleFFT(batch);
+            assertEquals(2 * FRAMES, batch.getProcessedFrames());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static void assertBatchMatchesSingleFFT (final BatchFFT batch) throws InterruptedException {
+        Random random = new Random(3);
+        double[] re = new double[N * FRAMES];
+        double[] im = new double[N * FRAMES];
+        float[] floatRe = new float[N * FRAMES];
+        float[] floatIm = new float[N * FRAMES];
+        for (int i = 0; i < re.length; i++) {
+            re[i] = random.nextGaussian();
+            im[i] = random.nextGaussian();
+            floatRe[i] = (float) re[i];
+            floatIm[i] = (float) im[i];
+        }
+        double[] batchRe = re.clone();
+        double[] batchIm = im.clone();
+        float[] batchFloatRe = floatRe.clone();
+        float[] batchFloatIm = floatIm.clone();
+
+        batch.fft(batchRe, batchIm, FRAMES);
+        batch.fft(batchFloatRe, batchFloatIm, FRAMES);
+
+        FFT fft = FFT.plan(N);
+        for (int f = 0; f < FRAMES; f++) {
+            int from = f * N;
+            double[] frameRe = Arrays.copyOfRange(re, from, from + N);
+            double[] frameIm = Arrays.copyOfRange(im, from, from + N);
+            float[] frameFloatRe = Arrays.copyOfRange(floatRe, from, from + N);
+            float[] frameFloatIm = Arrays.copyOfRange(floatIm, from, from + N);
+            fft.fft(frameRe, frameIm);
+            fft.fft(frameFloatRe, frameFloatIm);
+            assertArrayEquals("f=" + f, frameRe, Arrays.copyOfRange(batchRe, from, from + N), 0);
+            assertArrayEquals("f=" + f, frameIm, Arrays.copyOfRange(batchIm, from, from + N), 0);
+            assertArrayEquals("f=" + f, frameFloatRe, Arrays.copyOfRange(batchFloatRe, from, from + N), 0);
+            assertArrayEquals("f=" + f, frameFloatIm, Arrays.copyOfRange(batchFloatIm, from, from + N), 0);
+        }
+    }
+}
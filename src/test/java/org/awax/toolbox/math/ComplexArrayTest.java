@@ -0,0 +1,92 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 LE SAUCE Julien
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.awax.toolbox.math;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import org.jls.toolbox.math.Complex;
+import org.jls.toolbox.math.ComplexArray;
+import org.jls.toolbox.math.FFTComplex;
+import org.junit.Test;
+
+public class ComplexArrayTest {
+
+    @Test
+    public void GivenTwoArraysWhenMultiplyingThenResultShouldMatchComplex () {
+        Complex[] x = { new Complex(1, 2), new Complex(-3, 0.5), new Complex(0, -1) };
+        Complex[] y = { new Complex(2, -1), new Complex(4, 4), new Complex(-2, 3) };
+
+        ComplexArray a = ComplexArray.valueOf(x).multiply(ComplexArray.valueOf(y));
+        ComplexArray c = ComplexArray.valueOf(x).multiplyConjugate(ComplexArray.valueOf(y));
+
+        for (int i = 0; i < x.length; i++) {
+            double re = x[i].getReal() * y[i].getReal() - x[i].getImaginary() * y[i].getImaginary();
+            double im = x[i].getReal() * y[i].getImaginary() + x[i].getImaginary() * y[i].getReal();
+            assertEquals(re, a.getReal(i), 1e-12);
+            assertEquals(im, a.getImaginary(i), 1e-12);
+            re = x[i].getReal() * y[i].getReal() + x[i].getImaginary() * y[i].getImaginary();
+            im = x[i].getImaginary() * y[i].getReal() - x[i].getReal() * y[i].getImaginary();
+            assertEquals(re, c.getReal(i), 1e-12);
+            assertEquals(im, c.getImaginary(i), 1e-12);
+        }
+    }
+
+    @Test
+    public void GivenAnArrayWhenComputingAbsAndPhaseThenPolarFormShouldBeReturned () {
+        ComplexArray a = ComplexArray.valueOf(new double[] { 3, 0, -1 }, new double[] { 4, 2, 1 });
+        double[] abs = new double[3];
+        double[] phase = new double[3];
+
+        a.conjugate().scale(2).abs(abs);
+        a.phase(phase);
+
+        assertArrayEquals(new double[] { 10, 4, 2 * Math.sqrt(2) }, abs, 1e-12);
+        assertArrayEquals(new double[] { Math.atan2(-4, 3), -Math.PI / 2, -3 * Math.PI / 4 }, phase, 1e-12);
+    }
+
+    @Test
+    public void GivenAWrappedArrayWhenComputingFFTThenResultShouldMatchComplexFFT () {
+        Complex[] x = new Complex[16];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = new Complex(Math.cos(0.3 * i), Math.sin(0.7 * i));
+        }
+        Complex[] expected = FFTComplex.fft(x);
+
+        ComplexArray a = ComplexArray.valueOf(x);
+        FFTComplex.fft(a);
+        Complex[] result = a.toComplex();
+
+        for (int i = 0; i < x.length; i++) {
+            assertEquals(expected[i].getReal(), result[i].getReal(), 1e-12);
+            assertEquals(expected[i].getImaginary(), result[i].getImaginary(), 1e-12);
+        }
+        FFTComplex.ifft(a);
+        for (int i = 0; i < x.length; i++) {
+            assertEquals(x[i].getReal(), a.getReal(i), 1e-12);
+            assertEquals(x[i].getImaginary(), ComplexArray.wrap(a.data()).getImaginary(i), 1e-12);
+        }
+    }
+}
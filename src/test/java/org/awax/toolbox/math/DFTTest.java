@@ -0,0 +1,109 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 LE SAUCE Julien
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.awax.toolbox.math;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.jls.toolbox.math.DFT;
+import org.junit.Test;
+
+public class DFTTest {
+
+    private static final double EPSILON = 1e-9;
+
+    @Test
+    public void GivenAnFFTGridWhenComputingFrequencyResponseThenItShouldMatchDirectDFT () {
+        // dF = 2 Hz et Fs/dF = 512 : la réponse est lue dans une FFT
+        assertResponseMatchesDirectDFT(0, 512, 1024, 256, coefficients(64));
+    }
+
+    @Test
+    public void GivenAnArbitraryGridWhenComputingFrequencyResponseThenItShouldMatchDirectDFT () {
+        // Grille quelconque de plus de 256 points : Goertzel avec resynchronisation
+        assertResponseMatchesDirectDFT(13.7, 500.3, 1024, 1000, coefficients(63));
+    }
+
+    @Test
+    public void GivenPreallocatedArraysWhenComputingGainThenItShouldMatchDirectDFT () {
+        double[] wk = coefficients(31);
+        int n = 300;
+        double[] freq = new double[n];
+        double[] gain = new double[n];
+
+        DFT.TFDGain(20, 4000, 8000, n, wk, freq, gain);
+
+        double[][] resp = DFT.TFDGain(20, 4000, 8000, n, wk);
+        for (int i = 0; i < n; i++) {
+            double f = 20 + i * (4000 - 20) / (double) n;
+            double[] h = direct(wk, f, 8000);
+            assertEquals("i=" + i, f, freq[i], EPSILON);
+            assertEquals("i=" + i, 10 * Math.log10(h[0] * h[0] + h[1] * h[1]), gain[i], 1e-7);
+            assertEquals("i=" + i, freq[i], resp[i][0], 0);
+            assertEquals("i=" + i, gain[i], resp[i][1], 0);
+        }
+    }
+
+    private static void assertResponseMatchesDirectDFT (final double f0, final double f1, final double fs,
+            final int n, final double[] wk) {
+        double[] freq = new double[n];
+        double[] re = new double[n];
+        double[] im = new double[n];
+
+        DFT.frequencyResponse(f0, f1, fs, n, wk, freq, re, im);
+
+        for (int i = 0; i < n; i++) {
+            double f = f0 + i * (f1 - f0) / n;
+            double[] h = direct(wk, f, fs);
+            assertEquals("i=" + i, f, freq[i], EPSILON);
+            assertEquals("i=" + i, h[0], re[i], EPSILON);
+            assertEquals("i=" + i, h[1], im[i], EPSILON);
+        }
+    }
+
+    /**
+     * Réponse H(f)=Σ c(k).exp(-2.j.PI.f.k/Fs) calculée directement.
+     */
+    private static double[] direct (final double[] wk, final double f, final double fs) {
+        double re = 0;
+        double im = 0;
+        for (int k = 0; k < wk.length; k++) {
+            double angle = -2 * Math.PI * f * k / fs;
+            re += wk[k] * Math.cos(angle);
+            im += wk[k] * Math.sin(angle);
+        }
+        return new double[] { re, im };
+    }
+
+    private static double[] coefficients (final int length) {
+        Random random = new Random(length);
+        double[] wk = new double[length];
+        for (int k = 0; k < length; k++) {
+            wk[k] = random.nextDouble() - 0.5;
+        }
+        return wk;
+    }
+}
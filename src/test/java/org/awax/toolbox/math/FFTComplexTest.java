@@ -0,0 +1,150 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 LE SAUCE Julien
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.awax.toolbox.math;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.jls.toolbox.math.Complex;
+import org.jls.toolbox.math.FFTComplex;
+import org.junit.Test;
+
+public class FFTComplexTest {
+
+    private static final double EPSILON = 1e-9;
+    private static final int[] SIZES = { 1, 2, 4, 8, 64 };
+
+    @Test
+    public void GivenASignalWhenComputingFFTThenBinsShouldMatchDirectDFT () {
+        for (int n : SIZES) {
+            double[] x = randomSignal(n, n);
+            double[] expected = dft(x);
+
+            FFTComplex.fft(x);
+
+            assertArrayEquals("N=" + n, expected, x, EPSILON);
+        }
+    }
+
+    @Test
+    public void GivenASignalWhenComputingFFTThenInverseFFTShouldRestoreSignal () {
+        for (int n : SIZES) {
+            double[] x = randomSignal(n, 10 + n);
+            double[] expected = x.clone();
+
+            FFTComplex.fft(x);
+            FFTComplex.ifft(x);
+
+            assertArrayEquals("N=" + n, expected, x, EPSILON);
+        }
+    }
+
+    @Test
+    public void GivenTwoSignalsWhenConvolvingThenResultShouldMatchDirectConvolution () {
+        for (int n : SIZES) {
+            double[] x = randomSignal(n, 20 + n);
+            double[] y = randomSignal(n, 30 + n);
+            double[] a = new double[4 * n];
+            double[] b = new double[4 * n];
+
+            FFTComplex.convolve(x, y, a, b);
+
+            assertArrayEquals("N=" + n, convolution(x, y, 2 * n), a, EPSILON);
+        }
+    }
+
+    @Test
+    public void GivenTwoSignalsWhenConvolvingCircularlyThenResultShouldMatchDirectConvolution () {
+        for (int n : SIZES) {
+            double[] x = randomSignal(n, 40 + n);
+            double[] y = randomSignal(n, 50 + n);
+            double[] expected = convolution(x, y, n);
+
+            FFTComplex.cconvolve(x, y);
+
+            assertArrayEquals("N=" + n, expected, x, EPSILON);
+        }
+    }
+
+    @Test
+    public void GivenComplexSequencesWhenConvolvingThenResultShouldMatchInterleavedConvolution () {
+        Complex[] x = { new Complex(1, 2), new Complex(-1, 0.5) };
+        Complex[] y = { new Complex(0.5, -1), new Complex(2, 1) };
+
+        Complex[] result = FFTComplex.convolve(x, y);
+
+        double[] expected = convolution(new double[] { 1, 2, -1, 0.5 }, new double[] { 0.5, -1, 2, 1 }, 4);
+        assertEquals(4, result.length);
+        for (int k = 0; k < result.length; k++) {
+            assertEquals("k=" + k, expected[2 * k], result[k].getReal(), EPSILON);
+            assertEquals("k=" + k, expected[2 * k + 1], result[k].getImaginary(), EPSILON);
+        }
+    }
+
+    /**
+     * DFT directe d'une séquence entrelacée.
+     */
+    private static double[] dft (final double[] x) {
+        int n = x.length / 2;
+        double[] result = new double[x.length];
+        for (int k = 0; k < n; k++) {
+            for (int t = 0; t < n; t++) {
+                double angle = -2 * Math.PI * ((long) k * t % n) / n;
+                double c = Math.cos(angle);
+                double s = Math.sin(angle);
+                result[2 * k] += x[2 * t] * c - x[2 * t + 1] * s;
+                result[2 * k + 1] += x[2 * t] * s + x[2 * t + 1] * c;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Convolution circulaire directe sur m points de séquences entrelacées
+     * complétées par des zéros.
+     */
+    private static double[] convolution (final double[] x, final double[] y, final int m) {
+        double[] result = new double[2 * m];
+        for (int i = 0; i < x.length / 2; i++) {
+            for (int j = 0; j < y.length / 2; j++) {
+                int k = (i + j) % m;
+                result[2 * k] += x[2 * i] * y[2 * j] - x[2 * i + 1] * y[2 * j + 1];
+                result[2 * k + 1] += x[2 * i] * y[2 * j + 1] + x[2 * i + 1] * y[2 * j];
+            }
+        }
+        return result;
+    }
+
+    private static double[] randomSignal (final int n, final long seed) {
+        Random random = new Random(seed);
+        double[] x = new double[2 * n];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = random.nextDouble() - 0.5;
+        }
+        return x;
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 LE SAUCE Julien
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.awax.toolbox.math;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.Random;
+
+import org.jls.toolbox.math.FFT;
+import org.jls.toolbox.math.Window;
+import org.jls.toolbox.math.Window.WindowType;
+import org.junit.Test;
+
+public class FFTTest {
+
+    private static final double EPSILON = 1e-9;
+
+    @Test
+    public void GivenRealSamplesWhenComputingRealFFTThenBinsShouldMatchComplexFFT () {
+        for (int n : new int[] { 2, 4, 8, 64, 4096 }) {
+            double[] x = randomSignal(n, n);
+            double[] re = x.clone();
+            double[] im = new double[n];
+            double[] spectrumRe = new double[n / 2 + 1];
+            double[] spectrumIm = new double[n / 2 + 1];
+            FFT fft = new FFT(n);
+
+            fft.fft(re, im);
+            fft.rfft(x, spectrumRe, spectrumIm);
+
+            for (int k = 0; k <= n / 2; k++) {
+                assertEquals("N=" + n + ", k=" + k, re[k], spectrumRe[k], EPSILON);
+                assertEquals("N=" + n + ", k=" + k, im[k], spectrumIm[k], EPSILON);
+            }
+        }
+    }
+
+    @Test
+    public void GivenARealSpectrumWhenComputingInverseRealFFTThenSamplesShouldBeRestored () {
+        int n = 1024;
+        double[] x = randomSignal(n, 1);
+        double[] y = new double[n];
+        double[] re = new double[n / 2 + 1];
+        double[] im = new double[n / 2 + 1];
+        FFT fft = new FFT(n);
+
+        fft.rfft(x, re, im);
+        fft.irfft(re, im, y);
+
+        for (int i = 0; i < n; i++) {
+            assertEquals(x[i], y[i], EPSILON);
+        }
+    }
+
+    @Test
+    public void GivenSinglePrecisionSamplesWhenComputingRealFFTThenInverseShouldRestoreSamples () {
+        int n = 256;
+        float[] x = new float[n];
+        double[] signal = randomSignal(n, 2);
+        for (int i = 0; i < n; i++) {
+            x[i] = (float) signal[i];
+        }
+        float[] y = new float[n];
+        float[] re = new float[n / 2 + 1];
+        float[] im = new float[n / 2 + 1];
+        FFT fft = new FFT(n);
+
+        fft.rfft(x, re, im);
+        fft.irfft(re, im, y);
+
+        for (int i = 0; i < n; i++) {
+            assertEquals(x[i], y[i], 1e-5);
+        }
+    }
+
+    @Test
+    public void GivenASignalWhenComputingFFTThenInverseFFTShouldRestoreSignal () {
+        int n = 2048;
+        double[] re = randomSignal(n, 3);
+        double[] im = randomSignal(n, 4);
+        double[] re0 = re.clone();
+        double[] im0 = im.clone();
+        FFT fft = FFT.plan(n);
+
+        fft.fft(re, im);
+        fft.ifft(re, im);
+
+        for (int i = 0; i < n; i++) {
+            assertEquals(re0[i], re[i], EPSILON);
+            assertEquals(im0[i], im[i], EPSILON);
+        }
+    }
+
+    @Test
+    public void GivenASizeWhenRequestingPlanTwiceThenSamePlanShouldBeShared () {
+        FFT first = FFT.plan(512);
+
+        FFT second = FFT.plan(512);
+
+        assertSame(first, second);
+    }
+
+    @Test
+    public void GivenAWindowWhenComputingWindowedRealFFTThenBinsShouldMatchWindowedSamples () {
+        int n = 256;
+        double[] x = randomSignal(300, 7);
+        double[] window = Window.computeWindow(WindowType.HANN, 201);
+        double[] frame = new double[n];
+        System.arraycopy(x, 50, frame, 0, window.length);
+        Window.apply(window, frame);
+        double[] expectedRe = new double[n / 2 + 1];
+        double[] expectedIm = new double[n / 2 + 1];
+        double[] re = new double[n / 2 + 1];
+        double[] im = new double[n / 2 + 1];
+        FFT fft = FFT.plan(n);
+
+        fft.rfft(frame, expectedRe, expectedIm);
+        fft.rfft(x, 50, window, re, im);
+
+        for (int k = 0; k <= n / 2; k++) {
+            assertEquals("k=" + k, expectedRe[k], re[k], EPSILON);
+            assertEquals("k=" + k, expectedIm[k], im[k], EPSILON);
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void GivenASingleSamplePlanWhenComputingWindowedRealFFTThenItShouldBeRejected () {
+        FFT fft = FFT.plan(1);
+
+        fft.rfft(new double[1], 0, new double[] { 1 }, new double[1], new double[1]);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void GivenASingleSamplePlanWhenComputingSinglePrecisionWindowedRealFFTThenItShouldBeRejected () {
+        FFT fft = FFT.plan(1);
+
+        fft.rfft(new float[1], 0, new double[] { 1 }, new float[1], new float[1]);
+    }
+
+    private double[] randomSignal (int n, long seed) {
+        Random random = new Random(seed);
+        double[] x = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = random.nextDouble() - 0.5;
+        }
+        return x;
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 LE SAUCE Julien
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.awax.toolbox.math;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.jls.toolbox.math.FIRDecimator;
+import org.jls.toolbox.math.FIRFilter;
+import org.jls.toolbox.math.FIRInterpolator;
+import org.junit.Test;
+
+public class FIRFilterTest {
+
+    private static final double EPSILON = 1e-9;
+
+    @Test
+    public void GivenAShortFilterWhenFilteringBlocksThenOutputShouldMatchConvolution () {
+        double[] h = randomSignal(15, 1);
+        double[] x = randomSignal(1000, 2);
+        FIRFilter filter = new FIRFilter(h);
+
+        assertFalse(filter.isFFTEnabled());
+        assertStreamMatches(filter, h, x, new int[] { 1, 7, 100, 333 });
+    }
+
+    @Test
+    public void GivenALongFilterWhenFilteringBlocksThenFFTOutputShouldMatchConvolution () {
+        double[] h = randomSignal(200, 3);
+        double[] x = randomSignal(5000, 4);
+        FIRFilter filter = new FIRFilter(h);
+
+        assertTrue(filter.isFFTEnabled());
+        assertStreamMatches(filter, h, x, new int[] { 3, 1500, 17, 2048, 250 });
+    }
+
+    @Test
+    public void GivenFloatSamplesWhenFilteringThenOutputShouldMatchConvolution () {
+        double[] h = randomSignal(100, 5);
+        double[] x = randomSignal(3000, 6);
+        float[] in = new float[x.length];
+        for (int i = 0; i < x.length; i++) {
+            in[i] = (float) x[i];
+            x[i] = in[i];
+        }
+        float[] out = new float[x.length];
+
+        new FIRFilter(h).filter(in, 0, out, 0, in.length);
+
+        double[] expected = convolve(h, x);
+        for (int i = 0; i < x.length; i++) {
+            assertEquals("n=" + i, expected[i], out[i], 1e-4);
+        }
+    }
+
+    @Test
+    public void GivenADecimatorWhenFilteringThenOutputShouldBeEveryMthFilteredSample () {
+        double[] h = randomSignal(31, 7);
+        double[] x = randomSignal(1001, 8);
+        FIRDecimator decimator = new FIRDecimator(h, 3);
+        double[] out = new double[decimator.getOutputLength(x.length)];
+
+        int n = decimator.filter(x, 0, out, 0, 500);
+        n += decimator.filter(x, 500, out, n, 501);
+
+        double[] expected = convolve(h, x);
+        assertEquals(334, n);
+        for (int i = 0; i < n; i++) {
+            assertEquals("n=" + i, expected[3 * i], out[i], EPSILON);
+        }
+    }
+
+    @Test
+    public void GivenAnInterpolatorWhenFilteringThenOutputShouldMatchZeroStuffedConvolution () {
+        double[] h = randomSignal(31, 9);
+        double[] x = randomSignal(200, 10);
+        FIRInterpolator interpolator = new FIRInterpolator(h, 4);
+        double[] out = new double[4 * x.length];
+
+        interpolator.filter(x, 0, out, 0, 50);
+        interpolator.filter(x, 50, out, 200, 150);
+
+        double[] stuffed = new double[4 * x.length];
+        for (int i = 0; i < x.length; i++) {
+            stuffed[4 * i] = x[i];
+        }
+        double[] expected = convolve(h, stuffed);
+        for (int i = 0; i < out.length; i++) {
+            assertEquals("n=" + i, expected[i], out[i], EPSILON);
+        }
+    }
+
+    private static void assertStreamMatches (FIRFilter filter, double[] h, double[] x, int[] blocks) {
+        double[] out = new double[x.length];
+        int offset = 0;
+        for (int b = 0; offset < x.length; b++) {
+            int length = Math.min(blocks[b % blocks.length], x.length - offset);
+            filter.filter(x, offset, out, offset, length);
+            offset += length;
+        }
+        double[] expected = convolve(h, x);
+        for (int i = 0; i < x.length; i++) {
+            assertEquals("n=" + i, expected[i], out[i], EPSILON);
+        }
+    }
+
+    private static double[] convolve (double[] h, double[] x) {
+        double[] y = new double[x.length];
+        for (int n = 0; n < x.length; n++) {
+            for (int k = 0; k < h.length && k <= n; k++) {
+                y[n] += h[k] * x[n - k];
+            }
+        }
+        return y;
+    }
+
+    private static double[] randomSignal (int n, long seed) {
+        Random random = new Random(seed);
+        double[] x = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = random.nextGaussian();
+        }
+        return x;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 LE SAUCE Julien
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.awax.toolbox.math;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.jls.toolbox.math.GoertzelDetector;
+import org.jls.toolbox.math.Sweep;
+import org.jls.toolbox.math.Window.WindowType;
+import org.junit.Test;
+
+public class GoertzelDetectorTest {
+
+    private static double dftPower (double[] x, int offset, int N, double f, double fs) {
+        double re = 0;
+        double im = 0;
+        for (int n = 0; n < N; n++) {
+            re += x[offset + n] * Math.cos(2 * Math.PI * f / fs * n);
+            im -= x[offset + n] * Math.sin(2 * Math.PI * f / fs * n);
+        }
+        return re * re + im * im;
+    }
+
+    @Test
+    public void GivenANoisyStreamWhenProcessingBlocksThenPowersShouldMatchDFT () {
+        double fs = 8000;
+        int N = 205;
+        double[] frequencies = { 697, 770, 852, 941, 1209, 1336, 1477 };
+        double[] x = new double[3 * N + 17];
+        Random random = new Random(1);
+        for (int i = 0; i < x.length; i++) {
+            x[i] = Math.sin(2 * Math.PI * 770 / fs * i) + random.nextGaussian();
+        }
+        GoertzelDetector detector = new GoertzelDetector(fs, N, frequencies);
+        List<double[]> blocks = new ArrayList<>();
+        detector.setListener((d, block) -> {
+            double[] powers = new double[d.getToneCount()];
+            d.getPowers(powers);
+            blocks.add(powers);
+        });
+
+        int completed = detector.process(x, 0, 100);
+        completed += detector.process(x, 100, x.length - 100);
+
+        assertEquals(3, completed);
+        assertEquals(3, detector.getBlockCount());
+        for (int b = 0; b < blocks.size(); b++) {
+            for (int k = 0; k < frequencies.length; k++) {
+                double expected = dftPower(x, b * N, N, frequencies[k], fs);
+                assertEquals(expected, blocks.get(b)[k], 1e-9 * expected);
+            }
+        }
+    }
+
+    @Test
+    public void GivenAWindowedDetectorWhenToneIsPresentThenAmplitudeShouldBeEstimated () {
+        double fs = 48000;
+        int N = 4800;
+        double[] x = Sweep.continuousWave(1000, 100, fs);
+        GoertzelDetector detector = new GoertzelDetector(WindowType.HANN, fs, N, 1000, 1500, 3000);
+
+        detector.process(x, 0, N);
+
+        assertEquals(1.0, detector.getAmplitude(0), 1e-3);
+        assertEquals(0.0, detector.getAmplitude(1), 1e-3);
+        assertEquals(0.0, detector.getAmplitude(2), 1e-3);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 LE SAUCE Julien
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.awax.toolbox.math;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.jls.toolbox.math.MatchedFilter;
+import org.jls.toolbox.math.ReplicaSpectrum;
+import org.jls.toolbox.math.Sweep.SweepType;
+import org.jls.toolbox.math.WaveformGenerator;
+import org.jls.toolbox.math.Window.WindowType;
+import org.junit.Test;
+
+public class MatchedFilterTest {
+
+    @Test
+    public void GivenEchoesInNoiseWhenCorrelatingThenPeaksShouldBeDetectedAtReplicaStart () {
+        double[] replica = WaveformGenerator.computeWaveform(WindowType.HANN, SweepType.LINEAR_UP, 8000, 4000,
+                48000, 10);
+        double[] x = new double[16384];
+        Random random = new Random(2);
+        for (int i = 0; i < x.length; i++) {
+            x[i] = 0.1 * random.nextGaussian();
+        }
+        for (int i = 0; i < replica.length; i++) {
+            x[3000 + i] += replica[i];
+            x[10011 + i] += 0.5 * replica[i];
+        }
+        MatchedFilter filter = new MatchedFilter(WindowType.HANN, SweepType.LINEAR_UP, 8000, 4000, 48000, 10);
+        List<Long> indices = new ArrayList<>();
+        List<Double> values = new ArrayList<>();
+        filter.setThreshold(0.3);
+        filter.setPeakListener((index, value) -> {
+            indices.add(index);
+            values.add(value);
+        });
+
+        for (int offset = 0; offset < x.length; offset += 777) {
+            filter.process(x, offset, null, 0, Math.min(777, x.length - offset));
+        }
+
+        assertEquals(2, indices.size());
+        assertEquals(3000L, (long) indices.get(0));
+        assertEquals(10011L, (long) indices.get(1));
+        assertEquals(1.0, values.get(0), 0.02);
+        assertEquals(0.5, values.get(1), 0.02);
+    }
+
+    @Test
+    public void GivenAStreamWhenCorrelatingThenEnvelopeShouldBoundDirectCorrelation () {
+        double[] replica = WaveformGenerator.computeWaveform(WindowType.TUKEY, SweepType.HYPERBOLIC_DOWN, 6000,
+                2000, 24000, 5);
+        double energy = 0;
+        for (double v : replica) {
+            energy += v * v;
+        }
+        float[] x = new float[5000];
+        Random random = new Random(5);
+        for (int i = 0; i < x.length; i++) {
+            x[i] = (float) random.nextGaussian();
+        }
+        MatchedFilter filter = new MatchedFilter(replica);
+        float[] envelope = new float[x.length];
+
+        filter.process(x, 0, envelope, 0, 1234);
+        filter.process(x, 1234, envelope, 1234, x.length - 1234);
+
+        int L = replica.length;
+        for (int n = L - 1; n < x.length; n++) {
+            double c = 0;
+            for (int m = 0; m < L; m++) {
+                c += x[n - L + 1 + m] * replica[m];
+            }
+            assertTrue(Math.abs(c / energy) <= envelope[n] + 1e-5);
+        }
+    }
+
+    @Test
+    public void GivenTheSameWaveformWhenCreatingFiltersThenReplicaSpectrumShouldBeShared () {
+        assertSame(ReplicaSpectrum.get(WindowType.HANN, SweepType.LINEAR_UP, 8000, 4000, 48000, 10),
+                new MatchedFilter(WindowType.HANN, SweepType.LINEAR_UP, 8000, 4000, 48000, 10).getReplica());
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 LE SAUCE Julien
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.awax.toolbox.math;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.jls.toolbox.math.MathUtils;
+import org.junit.Test;
+
+public class MathUtilsTest {
+
+    private static float[][] randomSpectrum (final int size) {
+        Random random = new Random(7);
+        float[][] spectrum = new float[2][size];
+        for (int i = 0; i < size; i++) {
+            double scale = Math.pow(10, random.nextInt(12) - 6);
+            spectrum[0][i] = (float) (scale * random.nextGaussian());
+            spectrum[1][i] = (float) (scale * random.nextGaussian());
+        }
+        return spectrum;
+    }
+
+    @Test
+    public void GivenASpectrumWhenComputingMagnitudeThenResultShouldMatchHypot () {
+        float[][] x = randomSpectrum(4096);
+        float[] power = new float[x[0].length];
+        float[] magnitude = new float[x[0].length];
+        float[] expected = new float[x[0].length];
+        float[] phase = new float[x[0].length];
+
+        MathUtils.magnitudeSquared(x[0], x[1], power);
+        MathUtils.magnitude(x[0], x[1], magnitude);
+        MathUtils.magnitudePhase(x[0], x[1], expected, phase);
+
+        for (int i = 0; i < power.length; i++) {
+            assertEquals(expected[i], magnitude[i], 1e-6 * expected[i]);
+            assertEquals(expected[i] * expected[i], power[i], 1e-6 * power[i]);
+        }
+    }
+
+    @Test
+    public void GivenASpectrumWhenComputingFastPhaseThenErrorShouldBeBounded () {
+        float[][] x = randomSpectrum(4096);
+        float[] expected = new float[x[0].length];
+        float[] phase = new float[x[0].length];
+
+        MathUtils.phase(x[0], x[1], expected);
+        MathUtils.fastPhase(x[0], x[1], phase);
+
+        assertArrayEquals(expected, phase, 1e-5f);
+        assertEquals(Math.PI, MathUtils.fastAtan2(0f, -1f), 1e-6);
+        assertEquals(-Math.PI / 2, MathUtils.fastAtan2(-1f, 0f), 1e-6);
+        assertEquals(0, MathUtils.fastAtan2(0f, 0f), 0);
+        assertEquals(Math.atan2(-0.0, -1.0), MathUtils.fastAtan2(-0f, -1f), 1e-6);
+        assertEquals(Math.atan2(0.0, -0.0), MathUtils.fastAtan2(0f, -0f), 1e-6);
+        assertEquals(Math.atan2(-0.0, -0.0), MathUtils.fastAtan2(-0f, -0f), 1e-6);
+    }
+
+    @Test
+    public void GivenASpectrumWhenComputingFastDecibelsThenErrorShouldBeBounded () {
+        float[][] x = randomSpectrum(4096);
+        float[] power = new float[x[0].length];
+        float[] magnitude = new float[x[0].length];
+        MathUtils.magnitudeSquared(x[0], x[1], power);
+        MathUtils.magnitude(x[0], x[1], magnitude);
+        float[] expected = new float[power.length];
+        float[] db = new float[power.length];
+
+        MathUtils.powerDecibels(power, expected);
+        MathUtils.fastPowerDecibels(power, db);
+        assertArrayEquals(expected, db, 1e-4f);
+
+        MathUtils.decibels(magnitude, expected);
+        MathUtils.fastDecibels(magnitude, db);
+        assertArrayEquals(expected, db, 1e-4f);
+        assertEquals(Float.NEGATIVE_INFINITY, MathUtils.fastLog2(0f), 0);
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 LE SAUCE Julien
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.awax.toolbox.math;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.jls.toolbox.math.MixedRadixFFT;
+import org.junit.Test;
+
+public class MixedRadixFFTTest {
+
+    private static final double EPSILON = 1e-9;
+
+    @Test
+    public void GivenMixedRadixLengthsWhenComputingFFTThenResultShouldMatchDFT () {
+        for (int n : new int[] { 1, 3, 5, 6, 12, 15, 20, 60, 3000 }) {
+            verifyAgainstDFT(n);
+        }
+    }
+
+    @Test
+    public void GivenPrimeLengthsWhenComputingFFTThenResultShouldMatchDFT () {
+        for (int n : new int[] { 7, 13, 97, 1009 }) {
+            verifyAgainstDFT(n);
+        }
+    }
+
+    @Test
+    public void GivenPowerOfTwoLengthWhenComputingFFTThenResultShouldMatchDFT () {
+        verifyAgainstDFT(1024);
+    }
+
+    @Test
+    public void GivenASignalWhenComputingFFTThenInverseFFTShouldRestoreSignal () {
+        for (int n : new int[] { 6000, 1009, 512 }) {
+            double[] re = randomSignal(n, 1);
+            double[] im = randomSignal(n, 2);
+            double[] re0 = re.clone();
+            double[] im0 = im.clone();
+            MixedRadixFFT fft = new MixedRadixFFT(n);
+
+            fft.fft(re, im);
+            fft.ifft(re, im);
+
+            for (int i = 0; i < n; i++) {
+                assertEquals(re0[i], re[i], EPSILON);
+                assertEquals(im0[i], im[i], EPSILON);
+            }
+        }
+    }
+
+    @Test
+    public void GivenSinglePrecisionBuffersWhenComputingFFTThenResultShouldMatchDoublePrecision () {
+        int n = 360;
+        double[] re = randomSignal(n, 3);
+        double[] im = new double[n];
+        float[] reF = new float[n];
+        float[] imF = new float[n];
+        for (int i = 0; i < n; i++) {
+            reF[i] = (float) re[i];
+            re[i] = reF[i];
+        }
+        MixedRadixFFT fft = new MixedRadixFFT(n);
+
+        fft.fft(re, im);
+        fft.fft(reF, imF);
+
+        for (int i = 0; i < n; i++) {
+            assertEquals(re[i], reF[i], 1e-3);
+            assertEquals(im[i], imF[i], 1e-3);
+        }
+    }
+
+    private void verifyAgainstDFT (int n) {
+        double[] re = randomSignal(n, n);
+        double[] im = randomSignal(n, n + 1);
+        double[] expectedRe = new double[n];
+        double[] expectedIm = new double[n];
+        for (int k = 0; k < n; k++) {
+            for (int t = 0; t < n; t++) {
+                double angle = -2 * Math.PI * ((long) k * t % n) / n;
+                expectedRe[k] += re[t] * Math.cos(angle) - im[t] * Math.sin(angle);
+                expectedIm[k] += re[t] * Math.sin(angle) + im[t] * Math.cos(angle);
+            }
+        }
+
+        new MixedRadixFFT(n).fft(re, im);
+
+        for (int k = 0; k < n; k++) {
+            assertEquals("N=" + n + ", k=" + k, expectedRe[k], re[k], EPSILON * n);
+            assertEquals("N=" + n + ", k=" + k, expectedIm[k], im[k], EPSILON * n);
+        }
+    }
+
+    private double[] randomSignal (int n, long seed) {
+        Random random = new Random(seed);
+        double[] x = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = random.nextDouble() - 0.5;
+        }
+        return x;
+    }
+}
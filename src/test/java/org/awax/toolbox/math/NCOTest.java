@@ -0,0 +1,89 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 LE SAUCE Julien
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.awax.toolbox.math;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import org.jls.toolbox.math.NCO;
+import org.jls.toolbox.math.SineTable;
+import org.jls.toolbox.math.SineTable.Interpolation;
+import org.jls.toolbox.math.Sweep;
+import org.jls.toolbox.math.Sweep.SweepType;
+import org.junit.Test;
+
+public class NCOTest {
+
+    @Test
+    public void GivenSeveralTonesWhenGeneratingThenSamplesShouldMatchContinuousWave () {
+        double[] expected = Sweep.continuousWave(1000, 500, 48000, 1500, 7000);
+
+        double[] samples = Sweep.continuousWave(SineTable.DEFAULT, 1000, 500, 48000, 1500, 7000);
+
+        assertArrayEquals(expected, samples, 1e-5);
+    }
+
+    @Test
+    public void GivenATableSizeWhenReadingThenErrorShouldMatchTheInterpolation () {
+        SineTable nearest = new SineTable(16, Interpolation.NONE);
+        SineTable linear = new SineTable(10, Interpolation.LINEAR);
+        double nearestError = 0;
+        double linearError = 0;
+        for (long p = 0; p < (1L << 32); p += 12345677L) {
+            double expected = Math.sin(2 * Math.PI * p / 4294967296.0);
+            nearestError = Math.max(nearestError, Math.abs(nearest.sin((int) p) - expected));
+            linearError = Math.max(linearError, Math.abs(linear.sin((int) p) - expected));
+        }
+
+        assertEquals(0, nearestError, 2 * Math.PI / nearest.size());
+        assertEquals(0, linearError, Math.pow(2 * Math.PI / linear.size(), 2) / 8);
+    }
+
+    @Test
+    public void GivenABlockedGenerationWhenChangingFrequencyThenPhaseShouldStayContinuous () {
+        NCO nco = new NCO(8000, 1000);
+        double[] samples = new double[16];
+
+        nco.generate(samples, 0, 8);
+        nco.setFrequency(0, 2000);
+        nco.generate(samples, 8, 8);
+
+        // 1 kHz puis 2 kHz à 8 kHz : la phase vaut 8*PI/4 au changement
+        for (int n = 0; n < 8; n++) {
+            assertEquals(Math.sin(Math.PI / 4 * n), samples[n], 1e-6);
+            assertEquals(Math.sin(2 * Math.PI + Math.PI / 2 * n), samples[8 + n], 1e-6);
+        }
+        assertEquals(2000, nco.getFrequency(0), 1e-6);
+    }
+
+    @Test
+    public void GivenASineTableWhenComputingFMThenSamplesShouldMatchComputeFM () {
+        double[] expected = Sweep.computeFM(SweepType.LINEAR_DOWN, 3000, 1000, 48000, 50);
+
+        double[] samples = Sweep.computeFM(SweepType.LINEAR_DOWN, 3000, 1000, 48000, 50, SineTable.DEFAULT);
+
+        assertArrayEquals(expected, samples, 1e-5);
+    }
+}
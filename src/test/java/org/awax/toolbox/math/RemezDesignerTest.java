@@ -0,0 +1,120 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 LE SAUCE Julien
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.awax.toolbox.math;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+import org.jls.toolbox.math.Remez;
+import org.jls.toolbox.math.RemezDesigner;
+import org.jls.toolbox.math.RemezException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class RemezDesignerTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void GivenTheSameSpecificationTwiceWhenDesigningThenOnlyOneDesignShouldBeCached () throws RemezException {
+        RemezDesigner designer = new RemezDesigner(4);
+
+        double[] first = designer.design(31, new double[] { 0, 0.2, 0.25, 0.5 }, new double[] { 1, 0 },
+                new double[] { 1, 1 }, Remez.BANDPASS);
+        double[] second = designer.design(31, new double[] { 0, 0.2, 0.25, 0.5 }, new double[] { 1, 0 },
+                new double[] { 1, 1 }, Remez.BANDPASS);
+
+        assertEquals(1, designer.size());
+        assertArrayEquals(first, second, 0);
+    }
+
+    @Test
+    public void GivenMoreDesignsThanCapacityWhenDesigningThenOldestShouldBeEvicted () throws RemezException {
+        RemezDesigner designer = new RemezDesigner(2);
+
+        for (int taps = 21; taps <= 27; taps += 2) {
+            designer.design(lowPass(taps));
+        }
+
+        assertEquals(2, designer.size());
+    }
+
+    @Test
+    public void GivenASavedCacheWhenCreatingANewDesignerThenDesignsShouldBeReloaded ()
+            throws RemezException, IOException {
+        File file = new File(this.folder.getRoot(), "remez.cache");
+        RemezDesigner designer = new RemezDesigner(8, file);
+        double[] h = designer.design(lowPass(33));
+        designer.save();
+
+        RemezDesigner reloaded = new RemezDesigner(8, file);
+
+        assertEquals(1, reloaded.size());
+        assertArrayEquals(h, reloaded.design(lowPass(33)), 0);
+        assertArrayEquals(new String[] { "remez.cache" }, this.folder.getRoot().list());
+    }
+
+    @Test
+    public void GivenASerializedObjectFileWhenCreatingADesignerThenItShouldBeIgnored () throws IOException {
+        File file = new File(this.folder.getRoot(), "remez.cache");
+        try (ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream(file))) {
+            out.writeObject(new HashMap<String, double[]>());
+        }
+
+        RemezDesigner designer = new RemezDesigner(8, file);
+
+        assertEquals(0, designer.size());
+    }
+
+    @Test
+    public void GivenABatchOfSpecificationsWhenDesigningAllThenResultsShouldFollowTheBatchOrder ()
+            throws RemezException, InterruptedException {
+        RemezDesigner designer = new RemezDesigner(8);
+        designer.design(lowPass(41));
+
+        List<double[]> results = designer.designAll(Arrays.asList(lowPass(31), lowPass(41), lowPass(51)));
+
+        assertEquals(3, results.size());
+        assertArrayEquals(lowPass(31).generateFilter(), results.get(0), 1e-12);
+        assertArrayEquals(lowPass(41).generateFilter(), results.get(1), 1e-12);
+        assertArrayEquals(lowPass(51).generateFilter(), results.get(2), 1e-12);
+        assertEquals(3, designer.size());
+    }
+
+    private static Remez lowPass (int taps) {
+        return new Remez(taps, new double[] { 0, 0.2, 0.25, 0.5 }, new double[] { 1, 0 }, new double[] { 1, 1 },
+                Remez.BANDPASS);
+    }
+}
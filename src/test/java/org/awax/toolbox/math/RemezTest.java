@@ -0,0 +1,92 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 LE SAUCE Julien
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.awax.toolbox.math;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.jls.toolbox.math.Remez;
+import org.jls.toolbox.math.RemezException;
+import org.junit.Test;
+
+public class RemezTest {
+
+    private static final double EPSILON = 1e-9;
+
+    @Test
+    public void GivenALowPassSpecificationWhenDesigningThenCoefficientsShouldBeSymmetric () throws RemezException {
+        double[] h = lowPass(63, 0.02).generateFilter();
+
+        assertEquals(63, h.length);
+        for (int i = 0; i < h.length / 2; i++) {
+            assertEquals(h[i], h[h.length - 1 - i], EPSILON);
+        }
+        double dc = 0;
+        for (double c : h) {
+            dc += c;
+        }
+        assertEquals(1.0, dc, 0.1);
+    }
+
+    @Test
+    public void GivenALargeFilterWhenDesigningInParallelThenCoefficientsShouldMatchSequentialDesign ()
+            throws RemezException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Remez sequential = lowPass(511, 0.005);
+            sequential.setParallelism(1);
+            Remez parallel = lowPass(511, 0.005);
+            parallel.setExecutor(executor);
+            parallel.setParallelism(4);
+
+            assertArrayEquals(sequential.generateFilter(), parallel.generateFilter(), EPSILON);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void GivenALowerGridDensityWhenDesigningThenResponseShouldStayClose () throws RemezException {
+        Remez coarse = lowPass(127, 0.02);
+        coarse.setGridDensity(8);
+
+        assertArrayEquals(lowPass(127, 0.02).generateFilter(), coarse.generateFilter(), 1e-3);
+    }
+
+    @Test(expected = RemezException.class)
+    public void GivenTooFewIterationsWhenDesigningThenExceptionShouldBeThrown () throws RemezException {
+        Remez remez = lowPass(127, 0.02);
+        remez.setMaxIterations(1);
+        remez.generateFilter();
+    }
+
+    private static Remez lowPass (int taps, double transition) {
+        return new Remez(taps, new double[] { 0, 0.2, 0.2 + transition, 0.5 }, new double[] { 1, 0 },
+                new double[] { 1, 1 }, Remez.BANDPASS);
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 LE SAUCE Julien
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.awax.toolbox.math;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.jls.toolbox.math.FFT;
+import org.jls.toolbox.math.STFT;
+import org.jls.toolbox.math.Window;
+import org.jls.toolbox.math.Window.WindowType;
+import org.junit.Test;
+
+public class STFTTest {
+
+    private static final int WINDOW = 200;
+    private static final int FFT_LENGTH = 256;
+    private static final int HOP = 75;
+
+    @Test
+    public void GivenAStationaryToneWhenComputingFramesThenPeakShouldBeInToneBin () {
+        double fs = 8000;
+        int bin = 32;
+        STFT stft = new STFT(WindowType.HANN, FFT_LENGTH, FFT_LENGTH, 128, 16);
+        double[] x = new double[FFT_LENGTH + 10 * 128];
+        for (int n = 0; n < x.length; n++) {
+            x[n] = Math.sin(2 * Math.PI * bin * fs / FFT_LENGTH * n / fs);
+        }
+
+        stft.push(x, 0, x.length);
+
+        assertEquals(11, stft.getAvailableFrames());
+        float[] magnitude = new float[stft.getBinCount()];
+        while (stft.poll(magnitude, null) >= 0) {
+            int peak = 0;
+            for (int k = 1; k < magnitude.length; k++) {
+                peak = magnitude[k] > magnitude[peak] ? k : peak;
+            }
+            assertEquals(bin, peak);
+        }
+    }
+
+    @Test
+    public void GivenBlocksOfAnySizeWhenPushingThenFramesShouldStartEveryHopSamples () {
+        double[] x = randomSignal(WINDOW + 20 * HOP + 30);
+        STFT stft = new STFT(WindowType.BLACKMAN_HARRIS, WINDOW, FFT_LENGTH, HOP, 32);
+
+        for (int offset = 0; offset < x.length; offset += 37) {
+            stft.push(x, offset, Math.min(37, x.length - offset));
+        }
+
+        assertEquals(21, stft.getProducedFrames());
+        float[] magnitude = new float[stft.getBinCount()];
+        float[] phase = new float[stft.getBinCount()];
+        for (int f = 0; f < 21; f++) {
+            assertEquals(f, stft.poll(magnitude, phase));
+            assertFrame(x, f * HOP, WindowType.BLACKMAN_HARRIS, magnitude, phase);
+        }
+        assertEquals(-1, stft.poll(magnitude, phase));
+    }
+
+    @Test
+    public void GivenAFullFrameBufferWhenPushingThenOldestFramesShouldBeOverwritten () {
+        double[] x = randomSignal(WINDOW + 6 * HOP);
+        STFT stft = new STFT(WindowType.HANN, WINDOW, FFT_LENGTH, HOP, 3);
+
+        stft.push(x, 0, x.length);
+
+        assertEquals(7, stft.getProducedFrames());
+        assertEquals(3, stft.getAvailableFrames());
+        assertEquals(4, stft.getDroppedFrames());
+        float[] magnitude = new float[stft.getBinCount()];
+        float[] phase = new float[stft.getBinCount()];
+        for (int f = 4; f < 7; f++) {
+            assertEquals(f, stft.poll(magnitude, phase));
+            assertFrame(x, f * HOP, WindowType.HANN, magnitude, phase);
+        }
+        assertEquals(0, stft.getAvailableFrames());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void GivenASingleBinFFTWhenCreatingSTFTThenItShouldBeRejected () {
+        new STFT(WindowType.HANN, 1, 1, 1, 4);
+    }
+
+    /**
+     * Compare une trame de la STFT à la FFT de la trame fenêtrée commençant à
+     * l'échantillon spécifié.
+     */
+    private static void assertFrame (final double[] x, final int start, final WindowType win,
+            final float[] magnitude, final float[] phase) {
+        double[] window = Window.computeWindow(win, WINDOW);
+        double[] re = new double[FFT_LENGTH / 2 + 1];
+        double[] im = new double[FFT_LENGTH / 2 + 1];
+        FFT.plan(FFT_LENGTH).rfft(x, start, window, re, im);
+        for (int k = 0; k < re.length; k++) {
+            double expected = Math.hypot(re[k], im[k]);
+            assertEquals("start=" + start + ", k=" + k, expected, magnitude[k], 1e-5 * (1 + expected));
+            if (expected > 1e-3) {
+                double delta = Math.abs(Math.IEEEremainder(Math.atan2(im[k], re[k]) - phase[k], 2 * Math.PI));
+                assertEquals("start=" + start + ", k=" + k, 0, delta, 1e-3);
+            }
+        }
+    }
+
+    private static double[] randomSignal (final int n) {
+        Random random = new Random(n);
+        double[] x = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = random.nextDouble() - 0.5;
+        }
+        return x;
+    }
+}
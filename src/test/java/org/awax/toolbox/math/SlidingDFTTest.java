@@ -0,0 +1,81 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 LE SAUCE Julien
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.awax.toolbox.math;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.jls.toolbox.math.SlidingDFT;
+import org.junit.Test;
+
+public class SlidingDFTTest {
+
+    @Test
+    public void GivenALongStreamWhenSlidingThenBinsShouldMatchDFTOfLastSamples () {
+        double fs = 1000;
+        int N = 64;
+        double[] frequencies = { 0, 62.5, 101.3, 250, 499 };
+        float[] x = new float[SlidingDFT.RESYNC_BLOCKS * N * 3 + 29];
+        Random random = new Random(3);
+        for (int i = 0; i < x.length; i++) {
+            x[i] = (float) random.nextGaussian();
+        }
+        SlidingDFT sdft = new SlidingDFT(fs, N, frequencies);
+
+        for (int n = 0; n < x.length; n += 37) {
+            int length = Math.min(37, x.length - n);
+            sdft.process(x, n, length);
+            int last = n + length - 1;
+            for (int k = 0; k < frequencies.length; k++) {
+                double w = 2 * Math.PI * frequencies[k] / fs;
+                double re = 0;
+                double im = 0;
+                for (int m = 0; m < N && last - m >= 0; m++) {
+                    re += x[last - m] * Math.cos(w * m);
+                    im += x[last - m] * Math.sin(w * m);
+                }
+                assertEquals(re, sdft.getReal(k), 1e-9);
+                assertEquals(im, sdft.getImaginary(k), 1e-9);
+            }
+        }
+    }
+
+    @Test
+    public void GivenAToneWhenWindowIsFullThenAmplitudeShouldBeEstimated () {
+        double fs = 8000;
+        int N = 400;
+        double[] x = new double[1000];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = 0.5 * Math.cos(2 * Math.PI * 1000 / fs * i + 0.3);
+        }
+        SlidingDFT sdft = new SlidingDFT(fs, N, 1000, 1020);
+
+        sdft.process(x, 0, x.length);
+
+        assertEquals(0.5, sdft.getAmplitude(0), 1e-9);
+        assertEquals(0.0, sdft.getAmplitude(1), 1e-9);
+    }
+}
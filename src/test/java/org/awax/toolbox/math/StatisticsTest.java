@@ -0,0 +1,89 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 LE SAUCE Julien
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.awax.toolbox.math;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.jls.toolbox.math.MathUtils;
+import org.jls.toolbox.math.Statistics;
+import org.junit.Test;
+
+public class StatisticsTest {
+
+    @Test
+    public void GivenAnArrayWhenComputingStatisticsThenResultsShouldMatchSeparatePasses () {
+        double[] x = new double[1000];
+        Random random = new Random(42);
+        for (int i = 0; i < x.length; i++) {
+            x[i] = 3 + 2 * random.nextGaussian();
+        }
+        double mean = MathUtils.mean(x);
+        double variance = 0;
+        for (double v : x) {
+            variance += (v - mean) * (v - mean);
+        }
+
+        Statistics stats = MathUtils.statistics(x);
+
+        assertEquals(x.length, stats.getCount());
+        assertEquals(MathUtils.min(x), stats.getMinIndex());
+        assertEquals(MathUtils.max(x), stats.getMaxIndex());
+        assertEquals(MathUtils.maxAbs(x), stats.getMaxAbsIndex());
+        assertEquals(Math.abs(x[MathUtils.maxAbs(x)]), stats.getMaxAbs(), 0);
+        assertEquals(mean, stats.getMean(), 1e-12);
+        assertEquals(variance / x.length, stats.getVariance(), 1e-10);
+        assertEquals(MathUtils.rootMeanSquare(x), stats.getRootMeanSquare(), 1e-12);
+    }
+
+    @Test
+    public void GivenALargeOffsetWhenComputingVarianceThenPrecisionShouldBeKept () {
+        float[] x = new float[Statistics.PARALLEL_THRESHOLD * 3];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = 1e6f + (i % 2 == 0 ? 1 : -1);
+        }
+
+        Statistics stats = MathUtils.statistics(x);
+
+        assertEquals(1e6, stats.getMean(), 1e-9);
+        assertEquals(1.0, stats.getVariance(), 1e-9);
+        assertEquals(1e6 + 1, stats.getMaxAbs(), 0);
+        assertEquals(1, stats.getMinIndex());
+        assertEquals(0, stats.getMaxIndex());
+    }
+
+    @Test
+    public void GivenANegativePeakWhenNormalizingThenMaxAbsShouldBeUsed () {
+        double[] x = { 0.5, -4, 2 };
+
+        MathUtils.normalize(x);
+
+        assertEquals(1, MathUtils.maxAbs(new double[] { 0.5, -4, 2 }));
+        assertEquals(0.125, x[0], 0);
+        assertEquals(-1, x[1], 0);
+        assertEquals(0.5, x[2], 0);
+    }
+}
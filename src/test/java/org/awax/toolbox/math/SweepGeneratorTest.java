@@ -0,0 +1,91 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 LE SAUCE Julien
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.awax.toolbox.math;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.jls.toolbox.math.Sweep;
+import org.jls.toolbox.math.Sweep.SweepType;
+import org.jls.toolbox.math.SweepGenerator;
+import org.junit.Test;
+
+public class SweepGeneratorTest {
+
+    @Test
+    public void GivenASweepTypeWhenGeneratingOnePeriodThenSamplesShouldMatchSweep () {
+        for (SweepType type : new SweepType[] { SweepType.CW, SweepType.LINEAR_UP, SweepType.LINEAR_DOWN,
+                SweepType.HYPERBOLIC_UP, SweepType.HYPERBOLIC_DOWN }) {
+            double[] expected = Sweep.computeFM(type, 5000, 2000, 48000, 100);
+            double[] samples = new double[expected.length];
+
+            new SweepGenerator(type, 5000, 2000, 48000, 100).generate(samples, 0, samples.length);
+
+            assertArrayEquals(type.name(), expected, samples, 1e-5);
+        }
+    }
+
+    @Test
+    public void GivenANegativeFrequencyWhenGeneratingThenSamplesShouldMatchContinuousWave () {
+        double[] expected = Sweep.continuousWave(-1000, 10, 48000);
+        double[] samples = new double[expected.length];
+
+        new SweepGenerator(SweepType.CW, -1000, 0, 48000, 10).generate(samples, 0, samples.length);
+
+        assertArrayEquals(expected, samples, 1e-5);
+    }
+
+    @Test
+    public void GivenDifferentBlockSizesWhenGeneratingThenOutputShouldBeIdentical () {
+        SweepGenerator whole = new SweepGenerator(SweepType.LINEAR_UP, 5000, 2000, 48000, 10);
+        SweepGenerator blocks = new SweepGenerator(SweepType.LINEAR_UP, 5000, 2000, 48000, 10);
+        double[] expected = new double[5000];
+        double[] samples = new double[5000];
+
+        whole.generate(expected, 0, expected.length);
+        for (int offset = 0; offset < samples.length; offset += 333) {
+            blocks.generate(samples, offset, Math.min(333, samples.length - offset));
+        }
+
+        assertArrayEquals(expected, samples, 0);
+        assertEquals(5000, blocks.getSampleIndex());
+    }
+
+    @Test
+    public void GivenSeveralPeriodsWhenGeneratingThenPhaseShouldStayContinuous () {
+        SweepGenerator generator = new SweepGenerator(SweepType.LINEAR_UP, 5000, 2000, 48000, 10);
+        float[] samples = new float[3 * generator.getPeriod() + 10];
+
+        generator.generate(samples, 0, samples.length);
+
+        // A 6 kHz maximum, deux échantillons consécutifs diffèrent d'au plus
+        // 2.PI.6000/48000
+        double maxStep = 2 * Math.PI * 6000 / 48000 + 1e-3;
+        for (int n = 1; n < samples.length; n++) {
+            assertTrue("n=" + n, Math.abs(samples[n] - samples[n - 1]) <= maxStep);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 LE SAUCE Julien
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.awax.toolbox.math;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.jls.toolbox.math.CachedWindow;
+import org.jls.toolbox.math.Window;
+import org.jls.toolbox.math.Window.WindowType;
+import org.jls.toolbox.math.WindowCache;
+import org.junit.Test;
+
+public class WindowCacheTest {
+
+    private static final double EPSILON = 1e-12;
+
+    @Test
+    public void GivenTheSameWindowTwiceWhenRequestingThenTheSameInstanceShouldBeReturned () {
+        CachedWindow hann = WindowCache.get(WindowType.HANN, 1024);
+
+        assertSame(hann, WindowCache.get(WindowType.HANN, 1024));
+        assertNotSame(hann, WindowCache.get(WindowType.HANN, 512));
+        assertNotSame(WindowCache.tukey(256, 0.5f), WindowCache.tukey(256, 0.25f));
+    }
+
+    @Test
+    public void GivenABlackmanWindowWhenComputingThenCoefficientsShouldMatchTheDefinition () {
+        double[] ak = { 0.35875, 0.48829, 0.14128, 0.01168 };
+        int N = 257;
+        double[] wn = Window.blackman(N, ak);
+
+        for (int n = 0; n < N; n++) {
+            double w = 0;
+            for (int k = 0; k < ak.length; k++) {
+                w += Math.pow(-1, k) * ak[k] * Math.cos((2 * Math.PI * k * n) / (N - 1.0));
+            }
+            assertEquals("n=" + n, w, wn[n], EPSILON);
+        }
+    }
+
+    @Test
+    public void GivenARectangularWindowWhenRequestingMetadataThenGainsShouldBeUnity () {
+        CachedWindow rect = WindowCache.get(WindowType.RECTANGULAR, 4096);
+
+        assertEquals(1.0, rect.getCoherentGain(), EPSILON);
+        assertEquals(1.0, rect.getENBW(), EPSILON);
+        assertEquals(3.92, rect.getScallopingLoss(), 0.01);
+    }
+
+    @Test
+    public void GivenABlackmanHarrisWindowWhenRequestingMetadataThenValuesShouldMatchTheLiterature () {
+        CachedWindow window = WindowCache.get(WindowType.BLACKMAN_HARRIS, 4096);
+
+        assertEquals(0.35875, window.getCoherentGain(), 1e-3);
+        assertEquals(2.00, window.getENBW(), 0.01);
+        assertEquals(0.83, window.getScallopingLoss(), 0.01);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 LE SAUCE Julien
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.awax.toolbox.math.chart;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.swing.SwingUtilities;
+
+import org.jls.toolbox.math.chart.ChartUpdateDispatcher;
+import org.jls.toolbox.math.chart.ColumnarXYZDataModel;
+import org.jls.toolbox.math.chart.XYDataset;
+import org.jls.toolbox.math.chart.XYZDataModelListener;
+import org.junit.Test;
+
+public class ChartUpdateDispatcherTest {
+
+    @Test
+    public void GivenProducerThreadWhenPostingUpdatesThenOnlyLastOneShouldRunOnEdt () throws Exception {
+        ChartUpdateDispatcher dispatcher = new ChartUpdateDispatcher(20);
+        List<Integer> values = new ArrayList<>();
+        List<Boolean> onEdt = new ArrayList<>();
+
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < 10_000; i++) {
+                final int value = i;
+                dispatcher.post("series", () -> {
+                    values.add(value);
+                    onEdt.add(SwingUtilities.isEventDispatchThread());
+                });
+            }
+        });
+        producer.start();
+        producer.join();
+        Thread.sleep(500);
+        SwingUtilities.invokeAndWait(() -> {
+        });
+
+        assertEquals(1, values.size());
+        assertEquals(9_999, (int) values.get(0));
+        assertTrue(onEdt.get(0));
+        assertFalse(dispatcher.isPending());
+    }
+
+    @Test
+    public void GivenUpdatePostingAnotherWhenFlushingThenBothShouldRunInTheSamePass () {
+        ChartUpdateDispatcher dispatcher = new ChartUpdateDispatcher(20);
+        List<String> runs = new ArrayList<>();
+
+        dispatcher.post("model", () -> {
+            runs.add("model");
+            dispatcher.post("dataset", () -> runs.add("dataset"));
+        });
+        dispatcher.flush();
+
+        assertEquals(2, runs.size());
+        assertEquals("dataset", runs.get(1));
+        assertFalse(dispatcher.isPending());
+    }
+
+    @Test
+    public void GivenDatasetWhenModelChangesThenNotificationsShouldBeCoalesced () {
+        ColumnarXYZDataModel model = new ColumnarXYZDataModel("model", 10);
+        XYDataset dataset = new XYDataset(model);
+        List<Object> events = new ArrayList<>();
+        dataset.addChangeListener(event -> events.add(event));
+        List<Object> args = new ArrayList<>();
+        XYZDataModelListener listener = (source, arg) -> args.add(arg);
+        model.addListener(listener);
+        assertEquals(2, model.getListenerCount());
+
+        for (int i = 0; i < 100; i++) {
+            model.set(0, i, i, i);
+            model.notifyChanged(i);
+        }
+        ChartUpdateDispatcher.getDefault().flush();
+
+        assertEquals(1, events.size());
+        assertEquals(100, args.size());
+        assertEquals(99, args.get(99));
+
+        model.removeListener(listener);
+        model.notifyChanged();
+        assertEquals(1, model.getListenerCount());
+        assertEquals(100, args.size());
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 LE SAUCE Julien
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.awax.toolbox.math.chart;
+
+import static org.junit.Assert.assertEquals;
+
+import org.jls.toolbox.math.chart.ChartUpdateDispatcher;
+import org.jls.toolbox.math.chart.ColumnarXYZDataModel;
+import org.jls.toolbox.math.chart.XYDataset;
+import org.jls.toolbox.math.chart.XYZDataModel;
+import org.jls.toolbox.math.chart.XYZDataset;
+import org.junit.Test;
+
+public class ColumnarXYZDataModelTest {
+
+    private static float[][] rows (final int size) {
+        float[][] data = new float[size][];
+        for (int i = 0; i < size; i++) {
+            data[i] = new float[] { i % 10, i / 10, 0.5f * i };
+        }
+        return data;
+    }
+
+    @Test
+    public void GivenRowsWhenConvertingToColumnsThenModelsShouldMatch () {
+        float[][] data = rows(100);
+        XYZDataModel rowModel = new XYZDataModel("rows", data);
+
+        ColumnarXYZDataModel model = ColumnarXYZDataModel.valueOf("columns", data);
+
+        assertEquals(rowModel.getSize(), model.getSize());
+        for (int i = 0; i < model.getSize(); i++) {
+            assertEquals(rowModel.getX(i), model.getX(i), 0);
+            assertEquals(rowModel.getY(i), model.getY(i), 0);
+            assertEquals(rowModel.getZ(i), model.getZ(i), 0);
+        }
+        assertEquals(rowModel.indexOf(3, 7, 0.1), model.indexOf(3, 7, 0.1));
+        assertEquals(-1, model.indexOf(3, 70, 0.1));
+    }
+
+    @Test
+    public void GivenAColumnarModelWhenReadingThroughDatasetsThenPrimitiveValuesShouldBeReturned () {
+        ColumnarXYZDataModel model = ColumnarXYZDataModel.valueOf("columns", rows(50));
+        XYZDataset xyz = new XYZDataset(model);
+        XYDataset xy = new XYDataset(model);
+        int[] events = new int[1];
+        xyz.addChangeListener(e -> events[0]++);
+
+        model.set(12, 1f, 2f, 3f);
+        model.notifyChanged();
+        ChartUpdateDispatcher.getDefault().flush();
+
+        assertEquals(1, events[0]);
+        assertEquals(1.0, xyz.getXValue(0, 12), 0);
+        assertEquals(2.0, xyz.getYValue(0, 12), 0);
+        assertEquals(3.0, xyz.getZValue(0, 12), 0);
+        assertEquals(1.0, xy.getXValue(0, 12), 0);
+        assertEquals(2.0, xy.getYValue(0, 12), 0);
+        assertEquals(12, xyz.indexOf(0, 1f, 2f));
+    }
+}
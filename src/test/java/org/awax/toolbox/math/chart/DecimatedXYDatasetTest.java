@@ -0,0 +1,171 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 LE SAUCE Julien
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.awax.toolbox.math.chart;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.jfree.chart.ChartPanel;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.data.Range;
+import org.jls.toolbox.math.chart.ChartUpdateDispatcher;
+import org.jls.toolbox.math.chart.ColumnarXYZDataModel;
+import org.jls.toolbox.math.chart.DecimatedXYDataset;
+import org.jls.toolbox.math.chart.XYLineChart;
+import org.junit.Test;
+
+public class DecimatedXYDatasetTest {
+
+    private static ColumnarXYZDataModel signal (final int size) {
+        Random random = new Random(7);
+        ColumnarXYZDataModel model = new ColumnarXYZDataModel("signal", size);
+        for (int i = 0; i < size; i++) {
+            float y = (float) (Math.sin(i * 1e-3) + random.nextGaussian());
+            model.set(i, 0.5f * i, (i % 1000 == 0) ? 10 * y : y, 0);
+        }
+        return model;
+    }
+
+    /**
+     * Vérifie que chaque colonne de la décimation conserve le premier et le
+     * dernier point ainsi que le minimum et le maximum de la série complète.
+     */
+    private static void assertColumnsPreserved (final ColumnarXYZDataModel model, final DecimatedXYDataset dataset,
+            final double lower, final double upper) {
+        int columns = dataset.getResolution();
+        double width = (upper - lower) / columns;
+        int count = dataset.getItemCount(0);
+        assertTrue(count <= 4 * columns + 2);
+        double[] min = new double[columns];
+        double[] max = new double[columns];
+        int[] first = new int[columns];
+        int[] last = new int[columns];
+        Arrays.fill(min, Double.POSITIVE_INFINITY);
+        Arrays.fill(max, Double.NEGATIVE_INFINITY);
+        Arrays.fill(first, -1);
+        for (int i = 0; i < model.getSize(); i++) {
+            double x = model.getX(i);
+            if (x < lower || x > upper) {
+                continue;
+            }
+            int c = Math.min(columns - 1, (int) ((x - lower) / width));
+            min[c] = Math.min(min[c], model.getY(i));
+            max[c] = Math.max(max[c], model.getY(i));
+            first[c] = (first[c] < 0) ? i : first[c];
+            last[c] = i;
+        }
+        double[] decimatedMin = new double[columns];
+        double[] decimatedMax = new double[columns];
+        Arrays.fill(decimatedMin, Double.POSITIVE_INFINITY);
+        Arrays.fill(decimatedMax, Double.NEGATIVE_INFINITY);
+        int previous = -1;
+        for (int item = 0; item < count; item++) {
+            int index = dataset.getModelIndex(0, item);
+            assertTrue(index > previous);
+            previous = index;
+            double x = dataset.getXValue(0, item);
+            if (x < lower || x > upper) {
+                continue;
+            }
+            int c = Math.min(columns - 1, (int) ((x - lower) / width));
+            decimatedMin[c] = Math.min(decimatedMin[c], dataset.getYValue(0, item));
+            decimatedMax[c] = Math.max(decimatedMax[c], dataset.getYValue(0, item));
+        }
+        for (int c = 0; c < columns; c++) {
+            assertEquals(min[c], decimatedMin[c], 0);
+            assertEquals(max[c], decimatedMax[c], 0);
+        }
+    }
+
+    @Test
+    public void GivenLargeSeriesWhenDecimatingThenColumnExtremaShouldBePreserved () {
+        ColumnarXYZDataModel model = signal(200_003);
+        DecimatedXYDataset dataset = new DecimatedXYDataset(model);
+        dataset.setResolution(500);
+
+        assertColumnsPreserved(model, dataset, 0, model.getX(model.getSize() - 1));
+        assertEquals(new Range(0, model.getX(model.getSize() - 1)), dataset.getDomainBounds(false));
+    }
+
+    @Test
+    public void GivenAttachedAxisWhenZoomingThenVisibleRangeShouldBeDecimated () {
+        ColumnarXYZDataModel model = signal(200_003);
+        DecimatedXYDataset dataset = new DecimatedXYDataset(model);
+        dataset.setResolution(300);
+        NumberAxis axis = new NumberAxis();
+        dataset.attach(axis);
+
+        axis.setRange(12_345.6, 23_456.7);
+
+        assertEquals(new Range(12_345.6, 23_456.7), dataset.getRange());
+        assertTrue(dataset.getXValue(0, 0) < 12_345.6);
+        assertTrue(dataset.getXValue(0, dataset.getItemCount(0) - 1) > 23_456.7);
+        assertColumnsPreserved(model, dataset, 12_345.6, 23_456.7);
+
+        double min = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < model.getSize(); i++) {
+            min = Math.min(min, model.getY(i));
+        }
+        assertEquals(min, dataset.getRangeLowerBound(false), 0);
+
+        model.set(0, 0, -100, 0);
+        model.notifyChanged();
+        ChartUpdateDispatcher.getDefault().flush();
+        assertEquals(-100, dataset.getRangeLowerBound(false), 0);
+    }
+
+    @Test
+    public void GivenAttachedPanelWhenResizingThenResolutionShouldFollowDataAreaWidth () {
+        DecimatedXYDataset dataset = new DecimatedXYDataset(signal(100_000));
+        XYLineChart chart = new XYLineChart("signal", "x", "y", dataset, false, false, false);
+        ChartPanel panel = new ChartPanel(chart.getChart());
+        chart.attach(panel);
+
+        paint(panel, 640, 480);
+        int small = dataset.getResolution();
+        assertEquals((int) Math.ceil(panel.getScreenDataArea().getWidth()), small);
+        assertTrue(small < 640);
+
+        paint(panel, 1000, 480);
+        assertEquals((int) Math.ceil(panel.getScreenDataArea().getWidth()), dataset.getResolution());
+        assertTrue(dataset.getResolution() > small);
+    }
+
+    private static void paint (final ChartPanel panel, final int width, final int height) {
+        panel.setSize(width, height);
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        try {
+            panel.paint(g2);
+        } finally {
+            g2.dispose();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 LE SAUCE Julien
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.awax.toolbox.math.chart;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.jls.toolbox.math.chart.ColumnarXYZDataModel;
+import org.jls.toolbox.math.chart.XYZDataModel;
+import org.junit.Test;
+
+public class PointIndexTest {
+
+    private static int linearIndexOf (float[] x, float[] y, double px, double py, double epsilon) {
+        for (int i = 0; i < x.length; i++) {
+            if (Math.abs(x[i] - px) < epsilon && Math.abs(y[i] - py) < epsilon) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int linearNearest (float[] x, float[] y, double px, double py) {
+        int best = -1;
+        double bestDist = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < x.length; i++) {
+            double d = (x[i] - px) * (x[i] - px) + (y[i] - py) * (y[i] - py);
+            if (d < bestDist) {
+                bestDist = d;
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    @Test
+    public void GivenScatteredPointsWhenSearchingThenResultsShouldMatchLinearScan () {
+        Random random = new Random(11);
+        int n = 5000;
+        float[] x = new float[n];
+        float[] y = new float[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = (float) (100 * random.nextGaussian());
+            y[i] = (float) (random.nextDouble() * 10);
+        }
+        x[42] = Float.NaN;
+        ColumnarXYZDataModel model = new ColumnarXYZDataModel("scatter", x, y, new float[n]);
+
+        for (int q = 0; q < 2000; q++) {
+            double px = 400 * (random.nextDouble() - 0.5);
+            double py = 14 * random.nextDouble() - 2;
+            double epsilon = q % 2 == 0 ? 0.5 : 30;
+            assertEquals(linearIndexOf(x, y, px, py, epsilon), model.indexOf(px, py, epsilon));
+            assertEquals(linearNearest(x, y, px, py), model.nearestIndexOf(px, py));
+        }
+    }
+
+    @Test
+    public void GivenAHeatMapWhenDataChangesThenIndexShouldBeRebuilt () {
+        float[][] grid = new float[200 * 100][];
+        for (int i = 0; i < grid.length; i++) {
+            grid[i] = new float[] { i % 200, i / 200, i };
+        }
+        XYZDataModel model = new XYZDataModel("heat map", grid);
+
+        assertEquals(3 * 200 + 7, model.indexOf(7, 3, 0.1));
+        assertEquals(3 * 200 + 7, model.nearestIndexOf(7.2, 2.9));
+        assertEquals(-1, model.indexOf(7.5, 3, 0.1));
+
+        float[][] shifted = new float[grid.length][];
+        for (int i = 0; i < grid.length; i++) {
+            shifted[i] = new float[] { grid[i][0] + 1000, grid[i][1], grid[i][2] };
+        }
+        model.setData(shifted);
+
+        assertEquals(-1, model.indexOf(7, 3, 0.1));
+        assertEquals(3 * 200 + 7, model.indexOf(1007, 3, 0.1));
+        assertEquals(3 * 200, model.nearestIndexOf(0, 3));
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 LE SAUCE Julien
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.awax.toolbox.math.chart;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import javax.swing.SwingUtilities;
+
+import org.jls.toolbox.math.chart.AbstractXYZDataModel;
+import org.jls.toolbox.math.chart.ChartUpdateDispatcher;
+import org.jls.toolbox.math.chart.RingBufferXYZDataModel;
+import org.jls.toolbox.math.chart.RingBufferXYZDataModel.Update;
+import org.junit.Test;
+
+public class RingBufferXYZDataModelTest {
+
+    @Test
+    public void GivenFullBufferWhenAppendingThenOldestPointsShouldBeEvicted () {
+        RingBufferXYZDataModel model = new RingBufferXYZDataModel("ring", 8);
+        List<Object> updates = new ArrayList<>();
+        model.addListener((source, arg) -> updates.add(arg));
+
+        for (int i = 0; i < 5; i++) {
+            model.append(i, 2 * i, 3 * i);
+        }
+        float[] block = new float[10];
+        for (int i = 0; i < block.length; i++) {
+            block[i] = 5 + i;
+        }
+        model.append(block, block, block, 0, 7);
+        assertEquals(0, model.getSize());
+        model.flush();
+
+        assertEquals(8, model.getSize());
+        for (int i = 0; i < model.getSize(); i++) {
+            assertEquals(4 + i, model.getX(i), 0);
+        }
+        assertEquals(1, updates.size());
+        Update update = (Update) updates.get(0);
+        assertEquals(12, update.getAppended());
+        assertEquals(4, update.getEvicted());
+
+        model.append(block, block, block, 0, 10);
+        model.flush();
+        for (int i = 0; i < model.getSize(); i++) {
+            assertEquals(7 + i, model.getX(i), 0);
+        }
+        assertEquals(model.getSize() - 1, model.indexOf(14, 14, 0.1));
+        assertEquals(10, ((Update) updates.get(1)).getEvicted());
+
+        model.clear();
+        model.append(20, 20, 20);
+        model.flush();
+        assertEquals(1, model.getSize());
+        assertEquals(20, model.getX(0), 0);
+        assertEquals(8, ((Update) updates.get(2)).getEvicted());
+    }
+
+    @Test
+    public void GivenBurstOfAppendsWhenTimerFiresThenOneNotificationShouldBeSent () throws Exception {
+        RingBufferXYZDataModel model = new RingBufferXYZDataModel("ring", 100, new ChartUpdateDispatcher(50));
+        List<Object> updates = new ArrayList<>();
+        List<Boolean> onEdt = new ArrayList<>();
+        model.addListener((source, arg) -> {
+            updates.add(arg);
+            onEdt.add(SwingUtilities.isEventDispatchThread());
+        });
+
+        for (int i = 0; i < 1000; i++) {
+            model.append(i, i, i);
+        }
+        Thread.sleep(500);
+        SwingUtilities.invokeAndWait(() -> {
+        });
+
+        assertEquals(1, updates.size());
+        assertTrue(onEdt.get(0));
+        assertEquals(1000, ((Update) updates.get(0)).getAppended());
+        assertEquals(900, ((Update) updates.get(0)).getEvicted());
+    }
+
+    @Test
+    public void GivenFlushedBufferWhenLookingUpPointsThenLinearScanShouldBeUsed () throws Exception {
+        RingBufferXYZDataModel model = new RingBufferXYZDataModel("ring", 64);
+        Field pointIndex = AbstractXYZDataModel.class.getDeclaredField("pointIndex");
+        pointIndex.setAccessible(true);
+        Random random = new Random(3);
+
+        for (int step = 0; step < 10; step++) {
+            for (int i = 0; i < 15; i++) {
+                model.append(random.nextInt(20), random.nextInt(20), i);
+            }
+            model.flush();
+
+            for (int k = 0; k < 20; k++) {
+                double x = 20 * random.nextDouble();
+                double y = 20 * random.nextDouble();
+                int first = -1;
+                int nearest = -1;
+                double best = Double.POSITIVE_INFINITY;
+                for (int i = 0; i < model.getSize(); i++) {
+                    double dx = model.getX(i) - x;
+                    double dy = model.getY(i) - y;
+                    if (first < 0 && Math.abs(dx) < 1.5 && Math.abs(dy) < 1.5) {
+                        first = i;
+                    }
+                    if (dx * dx + dy * dy < best) {
+                        best = dx * dx + dy * dy;
+                        nearest = i;
+                    }
+                }
+                assertEquals(first, model.indexOf(x, y, 1.5));
+                assertEquals(nearest, model.nearestIndexOf(x, y));
+            }
+            // Aucun index spatial n'est reconstruit après une notification
+            assertNull(pointIndex.get(model));
+        }
+    }
+}